@@ -0,0 +1,108 @@
+package com.diegobrsantosdev.user_registration_application.benchmarks;
+
+import com.diegobrsantosdev.user_registration_application.validators.BrazilianDocuments;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CPF lookups through a unique index over VARCHAR(11) against the same keys stored as BIGINT.
+ * Both tables live in one in-memory H2 database; index sizes are printed after the trial.
+ * The default dataset is 1M rows, use -p rows=10000000 for the full-size run (needs a large heap).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+@State(Scope.Benchmark)
+public class IdentifierStorageBenchmark {
+
+    @Param({"1000000"})
+    public int rows;
+
+    private Connection connection;
+
+    @Setup(Level.Trial)
+    public void load() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:identifiers;DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE users_varchar (id INT PRIMARY KEY, cpf VARCHAR(11) NOT NULL UNIQUE)");
+            statement.execute("CREATE TABLE users_bigint (id INT PRIMARY KEY, cpf BIGINT NOT NULL UNIQUE)");
+        }
+
+        connection.setAutoCommit(false);
+        try (PreparedStatement varchar = connection.prepareStatement("INSERT INTO users_varchar VALUES (?, ?)");
+             PreparedStatement bigint = connection.prepareStatement("INSERT INTO users_bigint VALUES (?, ?)")) {
+            for (int id = 0; id < rows; id++) {
+                String cpf = cpf(id);
+                varchar.setInt(1, id);
+                varchar.setString(2, cpf);
+                varchar.addBatch();
+                bigint.setInt(1, id);
+                bigint.setLong(2, Long.parseLong(cpf));
+                bigint.addBatch();
+                if (id % 10_000 == 0) {
+                    varchar.executeBatch();
+                    bigint.executeBatch();
+                }
+            }
+            varchar.executeBatch();
+            bigint.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void report() throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet sizes = statement.executeQuery(
+                     "SELECT DISK_SPACE_USED('USERS_VARCHAR'), DISK_SPACE_USED('USERS_BIGINT')")) {
+            sizes.next();
+            System.out.printf("%n[storage] rows=%d varchar=%d bytes bigint=%d bytes%n",
+                    rows, sizes.getLong(1), sizes.getLong(2));
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Lookups {
+        PreparedStatement byVarchar;
+        PreparedStatement byBigint;
+
+        @Setup(Level.Trial)
+        public void prepare(IdentifierStorageBenchmark benchmark) throws SQLException {
+            byVarchar = benchmark.connection.prepareStatement("SELECT id FROM users_varchar WHERE cpf = ?");
+            byBigint = benchmark.connection.prepareStatement("SELECT id FROM users_bigint WHERE cpf = ?");
+        }
+    }
+
+    @Benchmark
+    public int lookupVarchar(Lookups lookups) throws SQLException {
+        lookups.byVarchar.setString(1, cpf(ThreadLocalRandom.current().nextInt(rows)));
+        return firstId(lookups.byVarchar);
+    }
+
+    @Benchmark
+    public int lookupBigint(Lookups lookups) throws SQLException {
+        lookups.byBigint.setLong(1, Long.parseLong(cpf(ThreadLocalRandom.current().nextInt(rows))));
+        return firstId(lookups.byBigint);
+    }
+
+    private static int firstId(PreparedStatement statement) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery()) {
+            return resultSet.next() ? resultSet.getInt(1) : -1;
+        }
+    }
+
+    // distinct, valid CPF for each sequence number, from the same check-digit code the validator uses
+    static String cpf(int sequence) {
+        return BrazilianDocuments.cpfFromBase(100_000_000 + sequence);
+    }
+}
@@ -0,0 +1,52 @@
+package com.diegobrsantosdev.user_registration_application.benchmarks;
+
+import com.diegobrsantosdev.user_registration_application.security.JwtProperties;
+import com.diegobrsantosdev.user_registration_application.security.JwtUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue and verification as done by AuthService and JwtAuthenticationFilter (HS512, jjwt 0.9).
+ * getUsernameFromToken and getRolesFromToken each parse and verify the token again, like the private getClaims.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String token;
+    private List<String> roles;
+
+    @Setup
+    public void setup() {
+        jwtUtil = new JwtUtil(new JwtProperties("USER_REGISTRATION_APPLICATION_APY_KEY", 86_400_000L));
+        roles = List.of("ROLE_USER", "ROLE_ADMIN");
+        token = jwtUtil.generateToken("joao@email.com", roles);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken("joao@email.com", roles);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(token);
+    }
+
+    @Benchmark
+    public String getUsernameFromToken() {
+        return jwtUtil.getUsernameFromToken(token);
+    }
+
+    @Benchmark
+    public List<String> getRolesFromToken() {
+        return jwtUtil.getRolesFromToken(token);
+    }
+}
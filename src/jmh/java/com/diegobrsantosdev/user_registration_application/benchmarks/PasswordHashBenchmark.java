@@ -0,0 +1,41 @@
+package com.diegobrsantosdev.user_registration_application.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BCrypt cost against login and register throughput; every +1 doubles the work.
+ * The application uses the default strength, 10.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PasswordHashBenchmark {
+
+    @Param({"8", "10", "12"})
+    public int strength;
+
+    private BCryptPasswordEncoder encoder;
+    private String hash;
+
+    @Setup
+    public void setup() {
+        encoder = new BCryptPasswordEncoder(strength);
+        hash = encoder.encode("senha1234");
+    }
+
+    @Benchmark
+    public String encode() {
+        return encoder.encode("senha1234");
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches("senha1234", hash);
+    }
+}
@@ -0,0 +1,54 @@
+package com.diegobrsantosdev.user_registration_application.benchmarks;
+
+import com.diegobrsantosdev.user_registration_application.services.TopService;
+import dev.samstevens.totp.code.DefaultCodeGenerator;
+import dev.samstevens.totp.code.HashingAlgorithm;
+import dev.samstevens.totp.exceptions.CodeGenerationException;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TOTP check on 2FA login and the QR code rendered on 2FA setup.
+ * validCode is regenerated per iteration so it does not fall out of the 30 s window during a run.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TotpBenchmark {
+
+    private TopService topService;
+    private String secret;
+    private String validCode;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        topService = new TopService();
+        secret = topService.generateSecret();
+    }
+
+    @Setup(Level.Iteration)
+    public void currentCode() throws CodeGenerationException {
+        long bucket = System.currentTimeMillis() / 1000 / 30;
+        validCode = new DefaultCodeGenerator(HashingAlgorithm.SHA1).generate(secret, bucket);
+    }
+
+    @Benchmark
+    public boolean validateCode() {
+        return topService.validateCode(secret, validCode);
+    }
+
+    @Benchmark
+    public boolean validateWrongCode() {
+        return topService.validateCode(secret, "000000");
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public String generateQrCodeImage() throws Exception {
+        return topService.generateQrCodeImage("joao@email.com", secret);
+    }
+}
@@ -0,0 +1,39 @@
+package com.diegobrsantosdev.user_registration_application.benchmarks;
+
+import com.diegobrsantosdev.user_registration_application.config.UserDetailsImpl;
+import com.diegobrsantosdev.user_registration_application.models.Role;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * getAuthorities builds a new stream and set on every call; it runs at least once per authenticated request.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserDetailsBenchmark {
+
+    @Param({"USER", "USER_ADMIN"})
+    public String roles;
+
+    private UserDetailsImpl userDetails;
+
+    @Setup
+    public void setup() {
+        Set<Role> granted = roles.equals("USER") ? EnumSet.of(Role.USER) : EnumSet.of(Role.USER, Role.ADMIN);
+        userDetails = new UserDetailsImpl(1, "joao@email.com", "$2a$10$hash", granted);
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return userDetails.getAuthorities();
+    }
+}
@@ -0,0 +1,82 @@
+package com.diegobrsantosdev.user_registration_application.benchmarks;
+
+import com.diegobrsantosdev.user_registration_application.dtos.UserResponseDTO;
+import com.diegobrsantosdev.user_registration_application.models.Gender;
+import com.diegobrsantosdev.user_registration_application.models.Role;
+import com.diegobrsantosdev.user_registration_application.models.User;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to response mapping and its JSON serialization, the tail of every user endpoint.
+ * The mapper is configured like Boot's (JSR-310 module, ISO dates).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserResponseBenchmark {
+
+    private ObjectMapper objectMapper;
+    private User user;
+    private UserResponseDTO dto;
+
+    @Setup
+    public void setup() {
+        objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        user = User.builder()
+                .id(1)
+                .name("João Silva")
+                .email("joao@email.com")
+                .password("$2a$10$hash")
+                .cpf("98765432100")
+                .rg("12345678")
+                .phone("11999998888")
+                .address("Rua Alpha")
+                .number("100")
+                .complement("Apto 12")
+                .neighborhood("Centro")
+                .city("São Paulo")
+                .state("SP")
+                .zipCode("01001000")
+                .gender(Gender.MALE)
+                .dateOfBirth(LocalDate.of(1990, 5, 15))
+                .termsAccepted(true)
+                .createdAt(LocalDateTime.of(2024, 1, 10, 9, 30))
+                .updatedAt(LocalDateTime.of(2024, 6, 2, 18, 5))
+                .version(3L)
+                .roles(Set.of(Role.USER))
+                .twoFactorEnabled(false)
+                .build();
+        dto = UserResponseDTO.fromEntity(user);
+    }
+
+    @Benchmark
+    public UserResponseDTO fromEntity() {
+        return UserResponseDTO.fromEntity(user);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(dto);
+    }
+
+    @Benchmark
+    public byte[] fromEntityAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(UserResponseDTO.fromEntity(user));
+    }
+}
@@ -0,0 +1,102 @@
+package com.diegobrsantosdev.user_registration_application.benchmarks;
+
+import com.diegobrsantosdev.user_registration_application.validators.BrazilianDocuments;
+import com.diegobrsantosdev.user_registration_application.validators.ValidCpf;
+import com.diegobrsantosdev.user_registration_application.validators.ValidCpfValidator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-pass validators against the regex path they replaced
+ * (String.matches plus chars().distinct() in ValidCpfValidator and the @Pattern stack on the DTOs).
+ * Run with -prof gc: gc.alloc.rate.norm must stay at 0 B/op for the single-pass benchmarks.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidationBenchmark {
+
+    @Param({"52998224725", "12345678901", "529.982.247-25"})
+    public String cpf;
+
+    public String phone = "81987501006";
+    public String state = "PE";
+    public String zipCode = "50070000";
+
+    private ValidCpfValidator cpfValidator;
+
+    @ValidCpf
+    private String annotatedCpf;
+
+    @Setup
+    public void setup() throws NoSuchFieldException {
+        cpfValidator = new ValidCpfValidator();
+        cpfValidator.initialize(ValidationBenchmark.class.getDeclaredField("annotatedCpf").getAnnotation(ValidCpf.class));
+    }
+
+    // ========= CPF =========
+    @Benchmark
+    public boolean cpfRegex() {
+        return legacyIsValidCpf(cpf);
+    }
+
+    @Benchmark
+    public boolean cpfSinglePass() {
+        return BrazilianDocuments.isValidCpf(cpf, false);
+    }
+
+    @Benchmark
+    public boolean cpfSinglePassFormatted() {
+        return BrazilianDocuments.isValidCpf(cpf, true);
+    }
+
+    // what Bean Validation calls for @ValidCpf, without the validator engine around it
+    @Benchmark
+    public boolean cpfConstraintValidator() {
+        return cpfValidator.isValid(cpf, null);
+    }
+
+    // ========= WHOLE REGISTER PAYLOAD =========
+    @Benchmark
+    public void registerFieldsRegex(Blackhole blackhole) {
+        blackhole.consume(cpf.length() == 11 && cpf.matches("\\d{11}") && legacyIsValidCpf(cpf));
+        blackhole.consume(phone.matches("^\\d{10,11}$"));
+        blackhole.consume(state.matches("[A-Z]{2}"));
+        blackhole.consume(zipCode.matches("\\d{8}"));
+    }
+
+    @Benchmark
+    public void registerFieldsSinglePass(Blackhole blackhole) {
+        blackhole.consume(BrazilianDocuments.isValidCpf(cpf, false));
+        blackhole.consume(BrazilianDocuments.isValidPhone(phone, false));
+        blackhole.consume(BrazilianDocuments.isValidUf(state));
+        blackhole.consume(BrazilianDocuments.isValidCep(zipCode, false));
+    }
+
+    // copy of the previous ValidCpfValidator.isValid, kept as the baseline
+    private static boolean legacyIsValidCpf(String cpf) {
+        if (cpf == null || !cpf.matches("\\d{11}")) return false;
+        if (cpf.chars().distinct().count() == 1) return false;
+
+        int soma = 0, peso = 10;
+        for (int i = 0; i < 9; i++)
+            soma += (cpf.charAt(i) - '0') * peso--;
+
+        int dig1 = 11 - (soma % 11);
+        if (dig1 >= 10) dig1 = 0;
+
+        soma = 0; peso = 11;
+        for (int i = 0; i < 10; i++)
+            soma += (cpf.charAt(i) - '0') * peso--;
+
+        int dig2 = 11 - (soma % 11);
+        if (dig2 >= 10) dig2 = 0;
+
+        return cpf.charAt(9) - '0' == dig1 && cpf.charAt(10) - '0' == dig2;
+    }
+}
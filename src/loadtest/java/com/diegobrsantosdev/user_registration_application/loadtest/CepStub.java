@@ -0,0 +1,59 @@
+package com.diegobrsantosdev.user_registration_application.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+
+/**
+ * Stands in for ViaCep at /ws/{cep}/json/, answering after a fixed delay so cache misses cost like the real thing.
+ */
+final class CepStub implements AutoCloseable {
+
+    private final HttpServer server;
+    private final int latencyMs;
+
+    CepStub(int latencyMs) throws IOException {
+        this.latencyMs = latencyMs;
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/ws/", this::handle);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + "/ws/";
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String[] path = exchange.getRequestURI().getPath().split("/");
+        String cep = path.length > 2 ? path[2] : "";
+
+        try {
+            Thread.sleep(latencyMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        String body = """
+                  {"cep": "%s-%s", "logradouro": "Rua Carga %s", "complemento": "", "bairro": "Centro",
+                   "localidade": "São Paulo", "uf": "SP"}
+                  """.formatted(cep.substring(0, 5), cep.substring(5), cep);
+
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -0,0 +1,119 @@
+package com.diegobrsantosdev.user_registration_application.loadtest;
+
+import com.diegobrsantosdev.user_registration_application.security.JwtUtil;
+import com.diegobrsantosdev.user_registration_application.seed.SyntheticUserGenerator;
+import com.diegobrsantosdev.user_registration_application.seed.SyntheticUserGenerator.SyntheticUser;
+import com.diegobrsantosdev.user_registration_application.seed.SyntheticUserLoader;
+import com.diegobrsantosdev.user_registration_application.seed.SyntheticUserLoader.LoadResult;
+import dev.samstevens.totp.code.CodeGenerator;
+import dev.samstevens.totp.code.DefaultCodeGenerator;
+import dev.samstevens.totp.code.HashingAlgorithm;
+import dev.samstevens.totp.exceptions.CodeGenerationException;
+import dev.samstevens.totp.secret.DefaultSecretGenerator;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.sql.DataSource;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Synthetic users bulk-loaded through {@link SyntheticUserLoader} before the run, plus the tokens and identifiers
+ * the scenarios pick from. Every user shares one password hash and every tenth has 2FA enabled with a shared
+ * secret. Rows are regenerated from their sequence number instead of being read back.
+ */
+final class Dataset {
+
+    static final String PASSWORD = "senha1234";
+    static final String ADMIN_EMAIL = "caiopereiraaa19@gmail.com";
+
+    private static final long RANDOM_SEED = 42;
+    private static final int BATCH_SIZE = 5_000;
+    private static final int CEP_POOL = 2_000;
+
+    private final SyntheticUserGenerator generator;
+    private final List<Seeded> users;
+    private final List<Seeded> twoFactorUsers;
+    private final String adminToken;
+    private final String twoFactorSecret;
+    private final CodeGenerator codeGenerator = new DefaultCodeGenerator(HashingAlgorithm.SHA1);
+    private final AtomicInteger nextRegistration;
+
+    record Seeded(int id, int sequence, String email, String cpf, String rg, String token) {}
+
+    private Dataset(SyntheticUserGenerator generator, List<Seeded> users, List<Seeded> twoFactorUsers,
+                    String adminToken, String twoFactorSecret) {
+        this.generator = generator;
+        this.users = users;
+        this.twoFactorUsers = twoFactorUsers;
+        this.adminToken = adminToken;
+        this.twoFactorSecret = twoFactorSecret;
+        this.nextRegistration = new AtomicInteger(users.size() + twoFactorUsers.size());
+    }
+
+    static Dataset seed(ConfigurableApplicationContext context, int count) {
+        SyntheticUserLoader loader = context.getBean(SyntheticUserLoader.class);
+        PasswordEncoder passwordEncoder = context.getBean(PasswordEncoder.class);
+        JwtUtil jwtUtil = context.getBean(JwtUtil.class);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(context.getBean(DataSource.class));
+
+        SyntheticUserGenerator generator = new SyntheticUserGenerator(RANDOM_SEED);
+        LoadResult loaded = loader.load(generator, 0, count, passwordEncoder.encode(PASSWORD), BATCH_SIZE);
+
+        String secret = new DefaultSecretGenerator().generate();
+        jdbcTemplate.update("UPDATE users SET two_factor_enabled = TRUE, two_factor_secret = ? "
+                        + "WHERE id BETWEEN ? AND ? AND MOD(id - ?, 10) = 9",
+                secret, loaded.firstId(), loaded.idOf(count - 1), loaded.firstId());
+
+        List<Seeded> users = new ArrayList<>(count);
+        List<Seeded> twoFactorUsers = new ArrayList<>(count / 10 + 1);
+        for (int sequence = 0; sequence < count; sequence++) {
+            SyntheticUser user = generator.generate(sequence);
+            boolean twoFactor = sequence % 10 == 9;
+            String token = jwtUtil.generateToken(user.email(), List.of("ROLE_USER"));
+            Seeded seeded = new Seeded(loaded.idOf(sequence), sequence, user.email(), user.cpf(), user.rg(), token);
+            (twoFactor ? twoFactorUsers : users).add(seeded);
+        }
+
+        String adminToken = jwtUtil.generateToken(ADMIN_EMAIL, List.of("ROLE_ADMIN"));
+        return new Dataset(generator, users, twoFactorUsers, adminToken, secret);
+    }
+
+    Seeded anyUser() {
+        return users.get(ThreadLocalRandom.current().nextInt(users.size()));
+    }
+
+    Seeded anyTwoFactorUser() {
+        return twoFactorUsers.get(ThreadLocalRandom.current().nextInt(twoFactorUsers.size()));
+    }
+
+    String adminToken() {
+        return adminToken;
+    }
+
+    String currentTotpCode() {
+        try {
+            return codeGenerator.generate(twoFactorSecret, Instant.now().getEpochSecond() / 30);
+        } catch (CodeGenerationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    SyntheticUser row(int sequence) {
+        return generator.generate(sequence);
+    }
+
+    // sequence numbers past the seeded range, so every registration is unique
+    SyntheticUser nextRegistration() {
+        return generator.generate(nextRegistration.getAndIncrement());
+    }
+
+    // a bounded pool so the CEP cache sees a realistic mix of hits and misses
+    static String anyCep() {
+        return String.format("%08d", 1_001_000 + ThreadLocalRandom.current().nextInt(CEP_POOL));
+    }
+}
@@ -0,0 +1,139 @@
+package com.diegobrsantosdev.user_registration_application.loadtest;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * Open-model driver: request i is due at start + i / rate whether or not earlier ones have returned.
+ * Each request runs on its own virtual thread; a cap on requests in flight keeps a wedged server from
+ * exhausting the client, and anything over the cap is counted as dropped rather than silently delayed.
+ */
+final class LoadDriver implements AutoCloseable {
+
+    private final Requests requests;
+    private final int rate;
+    private final Scenario[] schedule;
+    private final int maxInFlight;
+    private final Semaphore inFlight;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private long peakHeapBytes;
+    private int peakThreads;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(executor)
+            .build();
+
+    LoadDriver(Requests requests, int rate, Map<Scenario, Integer> mix, int maxInFlight) {
+        this.requests = requests;
+        this.rate = rate;
+        this.schedule = expand(mix);
+        this.maxInFlight = maxInFlight;
+        this.inFlight = new Semaphore(maxInFlight);
+    }
+
+    Map<Scenario, RouteStats> run(int seconds) throws InterruptedException {
+        Map<Scenario, RouteStats> stats = new EnumMap<>(Scenario.class);
+        for (Scenario scenario : schedule) {
+            stats.putIfAbsent(scenario, new RouteStats());
+        }
+
+        peakHeapBytes = 0;
+        peakThreads = 0;
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long total = (long) rate * seconds;
+        long start = System.nanoTime();
+        for (long i = 0; i < total; i++) {
+            long intended = start + i * intervalNanos;
+            long wait;
+            while ((wait = intended - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            if (i % rate == 0) {
+                sampleFootprint();
+            }
+
+            Scenario scenario = schedule[ThreadLocalRandom.current().nextInt(schedule.length)];
+            RouteStats route = stats.get(scenario);
+            if (!inFlight.tryAcquire()) {
+                route.dropped.increment();
+                continue;
+            }
+            executor.execute(() -> {
+                try {
+                    execute(scenario, route, intended);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        }
+
+        // drain before the caller reads the histograms
+        if (inFlight.tryAcquire(maxInFlight, 2, TimeUnit.MINUTES)) {
+            inFlight.release(maxInFlight);
+        }
+        return stats;
+    }
+
+    private void execute(Scenario scenario, RouteStats route, long intended) {
+        long sent = System.nanoTime();
+        boolean success = true;
+        try {
+            for (HttpRequest request : requests.build(scenario)) {
+                int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                if (status < 200 || status >= 300) {
+                    success = false;
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            success = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            success = false;
+        }
+        route.record(intended, sent, System.nanoTime(), success);
+    }
+
+    // once a second: compare peaks across thread models to estimate memory and threads per connection
+    private void sampleFootprint() {
+        peakHeapBytes = Math.max(peakHeapBytes, ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed());
+        peakThreads = Math.max(peakThreads, ManagementFactory.getThreadMXBean().getThreadCount());
+    }
+
+    long peakHeapBytes() {
+        return peakHeapBytes;
+    }
+
+    // platform threads only, virtual threads are not counted
+    int peakThreads() {
+        return peakThreads;
+    }
+
+    // one slot per unit of weight, so a uniform pick follows the mix
+    private static Scenario[] expand(Map<Scenario, Integer> mix) {
+        return mix.entrySet().stream()
+                .flatMap(entry -> Stream.generate(entry::getKey).limit(entry.getValue()))
+                .toArray(Scenario[]::new);
+    }
+
+    @Override
+    public void close() {
+        client.close();
+        executor.close();
+    }
+}
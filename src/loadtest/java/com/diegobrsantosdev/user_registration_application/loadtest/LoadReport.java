@@ -0,0 +1,117 @@
+package com.diegobrsantosdev.user_registration_application.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes {@code report.json} (one entry per route, milliseconds) and an {@code .hgrm} percentile file per route
+ * for plotting; with a baseline report, flags routes whose throughput or p99 moved beyond the allowed regression.
+ */
+final class LoadReport {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LoadTestOptions options;
+
+    LoadReport(LoadTestOptions options) {
+        this.options = options;
+    }
+
+    ObjectNode write(Map<Scenario, RouteStats> stats, LoadDriver driver) throws IOException {
+        Path directory = Files.createDirectories(options.reportDirectory());
+
+        ObjectNode report = objectMapper.createObjectNode();
+        report.put("timestamp", Instant.now().toString());
+        report.put("java", Runtime.version().toString());
+        report.put("rate", options.rate());
+        report.put("durationSeconds", options.durationSeconds());
+        report.put("users", options.users());
+        report.put("maxInFlight", options.maxInFlight());
+        report.put("virtualThreads", options.virtualThreads());
+        // client and server share the JVM, so these include the harness itself
+        report.put("peakHeapMb", driver.peakHeapBytes() / (1024 * 1024));
+        report.put("peakPlatformThreads", driver.peakThreads());
+
+        ObjectNode routes = report.putObject("routes");
+        for (Map.Entry<Scenario, RouteStats> entry : stats.entrySet()) {
+            String route = entry.getKey().route();
+            RouteStats routeStats = entry.getValue();
+            routes.set(route, summary(routeStats));
+
+            try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(route + ".hgrm")))) {
+                routeStats.latency.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(directory.resolve("report.json").toFile(), report);
+        return report;
+    }
+
+    private ObjectNode summary(RouteStats stats) {
+        ObjectNode node = objectMapper.createObjectNode();
+        long count = stats.latency.getTotalCount();
+        node.put("count", count);
+        node.put("errors", stats.errors.sum());
+        node.put("dropped", stats.dropped.sum());
+        node.put("throughput", (double) (count - stats.errors.sum()) / options.durationSeconds());
+        node.set("latencyMs", percentiles(stats.latency));
+        node.set("serviceMs", percentiles(stats.service));
+        return node;
+    }
+
+    private ObjectNode percentiles(Histogram histogram) {
+        ObjectNode node = objectMapper.createObjectNode();
+        for (double percentile : PERCENTILES) {
+            node.put(percentile == Math.rint(percentile) ? "p" + (int) percentile : "p" + percentile,
+                    histogram.getValueAtPercentile(percentile) / 1000.0);
+        }
+        node.put("max", histogram.getMaxValue() / 1000.0);
+        return node;
+    }
+
+    List<String> compare(ObjectNode current) throws IOException {
+        List<String> regressions = new ArrayList<>();
+        if (options.baseline() == null) {
+            return regressions;
+        }
+
+        JsonNode baselineRoutes = objectMapper.readTree(options.baseline().toFile()).path("routes");
+        double allowed = options.maxRegression();
+        Iterator<Map.Entry<String, JsonNode>> routes = current.path("routes").fields();
+        while (routes.hasNext()) {
+            Map.Entry<String, JsonNode> route = routes.next();
+            JsonNode baseline = baselineRoutes.path(route.getKey());
+            if (baseline.isMissingNode()) {
+                continue;
+            }
+
+            double throughput = route.getValue().path("throughput").asDouble();
+            double baselineThroughput = baseline.path("throughput").asDouble();
+            if (throughput < baselineThroughput * (1 - allowed)) {
+                regressions.add(String.format("%s throughput %.1f/s vs baseline %.1f/s",
+                        route.getKey(), throughput, baselineThroughput));
+            }
+
+            double p99 = route.getValue().path("latencyMs").path("p99").asDouble();
+            double baselineP99 = baseline.path("latencyMs").path("p99").asDouble();
+            if (p99 > baselineP99 * (1 + allowed)) {
+                regressions.add(String.format("%s p99 %.2f ms vs baseline %.2f ms",
+                        route.getKey(), p99, baselineP99));
+            }
+        }
+        return regressions;
+    }
+}
@@ -0,0 +1,81 @@
+package com.diegobrsantosdev.user_registration_application.loadtest;
+
+import com.diegobrsantosdev.user_registration_application.UserRegistrationApplication;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Boots the application on the H2 {@code test} profile with ViaCep pointed at a local stub, seeds the
+ * synthetic dataset, runs a discarded warm-up and then the measured phase at a fixed arrival rate.
+ * Exits with status 1 when a baseline is given and a route regressed beyond {@code max-regression}.
+ */
+public final class LoadTestMain {
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        List<String> regressions;
+
+        try (CepStub cepStub = new CepStub(options.stubLatencyMs());
+             ConfigurableApplicationContext context = new SpringApplicationBuilder(UserRegistrationApplication.class)
+                     .profiles("test")
+                     .properties(
+                             "server.port=0",
+                             "viacep.base-url=" + cepStub.baseUrl(),
+                             "logging.level.root=WARN",
+                             "spring.threads.virtual.enabled=" + options.virtualThreads(),
+                             "server.tomcat.max-connections=" + options.maxConnections(),
+                             "server.tomcat.accept-count=" + options.maxConnections(),
+                             "spring.jpa.properties.hibernate.jdbc.batch_size=100",
+                             "spring.jpa.properties.hibernate.order_inserts=true")
+                     .run()) {
+
+            long seeding = System.nanoTime();
+            Dataset dataset = Dataset.seed(context, options.users());
+            System.out.printf("[loadtest] seeded %d users in %d ms%n",
+                    options.users(), (System.nanoTime() - seeding) / 1_000_000);
+
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            try (LoadDriver driver = new LoadDriver(new Requests(baseUrl, dataset), options.rate(),
+                    options.mix(), options.maxInFlight())) {
+
+                System.out.printf("[loadtest] warm-up %ds at %d req/s%n", options.warmupSeconds(), options.rate());
+                driver.run(options.warmupSeconds());
+
+                System.out.printf("[loadtest] measuring %ds at %d req/s%n", options.durationSeconds(), options.rate());
+                Map<Scenario, RouteStats> stats = driver.run(options.durationSeconds());
+
+                LoadReport report = new LoadReport(options);
+                ObjectNode written = report.write(stats, driver);
+                print(stats);
+                regressions = report.compare(written);
+            }
+        }
+
+        System.out.printf("[loadtest] report written to %s%n", options.reportDirectory().toAbsolutePath());
+        if (!regressions.isEmpty()) {
+            regressions.forEach(regression -> System.out.println("[loadtest] REGRESSION " + regression));
+            System.exit(1);
+        }
+    }
+
+    private static void print(Map<Scenario, RouteStats> stats) {
+        System.out.printf("%-15s %8s %7s %7s %9s %9s %9s %9s%n",
+                "route", "count", "errors", "dropped", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        stats.forEach((scenario, route) -> System.out.printf("%-15s %8d %7d %7d %9.2f %9.2f %9.2f %9.2f%n",
+                scenario.route(),
+                route.latency.getTotalCount(),
+                route.errors.sum(),
+                route.dropped.sum(),
+                route.latency.getValueAtPercentile(50) / 1000.0,
+                route.latency.getValueAtPercentile(99) / 1000.0,
+                route.latency.getValueAtPercentile(99.9) / 1000.0,
+                route.latency.getMaxValue() / 1000.0));
+    }
+}
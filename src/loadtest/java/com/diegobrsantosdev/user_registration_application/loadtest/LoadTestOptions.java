@@ -0,0 +1,69 @@
+package com.diegobrsantosdev.user_registration_application.loadtest;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * key=value arguments, e.g. {@code rate=500 duration=120 mix=login:50,get-me:50}.
+ * To compare thread models, run once per {@code virtual-threads=false|true} at the same rate with
+ * {@code max-in-flight} set to the concurrency under test (1000, 10000).
+ */
+record LoadTestOptions(
+        int rate,
+        int warmupSeconds,
+        int durationSeconds,
+        int users,
+        int maxInFlight,
+        int stubLatencyMs,
+        boolean virtualThreads,
+        int maxConnections,
+        Map<Scenario, Integer> mix,
+        Path reportDirectory,
+        Path baseline,
+        double maxRegression
+) {
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Expected key=value, got: " + arg);
+            }
+            values.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+
+        return new LoadTestOptions(
+                Integer.parseInt(values.getOrDefault("rate", "200")),
+                Integer.parseInt(values.getOrDefault("warmup", "15")),
+                Integer.parseInt(values.getOrDefault("duration", "60")),
+                Integer.parseInt(values.getOrDefault("users", "10000")),
+                Integer.parseInt(values.getOrDefault("max-in-flight", "5000")),
+                Integer.parseInt(values.getOrDefault("stub-latency", "40")),
+                Boolean.parseBoolean(values.getOrDefault("virtual-threads", "false")),
+                Integer.parseInt(values.getOrDefault("max-connections", "10000")),
+                parseMix(values.get("mix")),
+                Path.of(values.getOrDefault("report", "target/loadtest")),
+                values.containsKey("baseline") ? Path.of(values.get("baseline")) : null,
+                Double.parseDouble(values.getOrDefault("max-regression", "0.15"))
+        );
+    }
+
+    private static Map<Scenario, Integer> parseMix(String mix) {
+        Map<Scenario, Integer> weights = new LinkedHashMap<>();
+        if (mix == null) {
+            for (Scenario scenario : Scenario.values()) {
+                if (scenario.defaultWeight() > 0) {
+                    weights.put(scenario, scenario.defaultWeight());
+                }
+            }
+            return weights;
+        }
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.split(":");
+            weights.put(Scenario.fromRoute(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,117 @@
+package com.diegobrsantosdev.user_registration_application.loadtest;
+
+import com.diegobrsantosdev.user_registration_application.seed.SyntheticUserGenerator.SyntheticUser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Builds the HTTP exchange for one scenario. Most are a single request; login-2fa is the two-step flow a
+ * client goes through (password, then TOTP code) and is timed as one operation.
+ */
+final class Requests {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+    private final Dataset dataset;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    Requests(String baseUrl, Dataset dataset) {
+        this.baseUrl = baseUrl;
+        this.dataset = dataset;
+    }
+
+    List<HttpRequest> build(Scenario scenario) {
+        return switch (scenario) {
+            case REGISTER -> List.of(post("/api/v1/auth/register", register(dataset.nextRegistration())));
+            case LOGIN -> List.of(post("/api/v1/auth/login", login(dataset.anyUser().email())));
+            case LOGIN_2FA -> {
+                Dataset.Seeded user = dataset.anyTwoFactorUser();
+                yield List.of(
+                        post("/api/v1/auth/login", login(user.email())),
+                        post("/api/v1/auth/2fa/loginWithTwoFactor",
+                                Map.of("email", user.email(), "code", dataset.currentTotpCode())));
+            }
+            case GET_ME -> List.of(get("/api/v1/users/me", dataset.anyUser().token()));
+            case PUT_ME -> {
+                Dataset.Seeded user = dataset.anyUser();
+                yield List.of(request("/api/v1/users/me", user.token())
+                        .PUT(body(update(user))).header("Content-Type", "application/json").build());
+            }
+            case ADMIN_BY_ID -> List.of(get("/api/v1/admin/users/" + dataset.anyUser().id(), dataset.adminToken()));
+            case ADMIN_BY_CPF -> List.of(get("/api/v1/admin/users/cpf/" + dataset.anyUser().cpf(), dataset.adminToken()));
+            case ADMIN_BY_EMAIL -> List.of(get("/api/v1/admin/users/email/" + dataset.anyUser().email(), dataset.adminToken()));
+            case CEP -> List.of(get("/api/v1/cep/" + Dataset.anyCep(), dataset.anyUser().token()));
+            case REACTIVE_LOGIN -> List.of(post("/api/v1/reactive/auth/login", login(dataset.anyUser().email())));
+            case REACTIVE_CEP -> List.of(get("/api/v1/reactive/cep/" + Dataset.anyCep(), null));
+        };
+    }
+
+    private HttpRequest get(String path, String token) {
+        return request(path, token).GET().build();
+    }
+
+    private HttpRequest post(String path, Object payload) {
+        return request(path, null).POST(body(payload)).header("Content-Type", "application/json").build();
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(TIMEOUT)
+                .header("Accept", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private HttpRequest.BodyPublisher body(Object payload) {
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(payload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Map<String, Object> login(String email) {
+        return Map.of("email", email, "password", Dataset.PASSWORD);
+    }
+
+    private static Map<String, Object> register(SyntheticUser user) {
+        Map<String, Object> body = profile(user, user.name());
+        body.put("password", Dataset.PASSWORD);
+        return body;
+    }
+
+    private Map<String, Object> update(Dataset.Seeded user) {
+        return profile(dataset.row(user.sequence()), "Usuário Atualizado " + ThreadLocalRandom.current().nextInt(1_000));
+    }
+
+    private static Map<String, Object> profile(SyntheticUser user, String name) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("name", name);
+        body.put("email", user.email());
+        body.put("cpf", user.cpf());
+        body.put("rg", user.rg());
+        body.put("phone", user.phone());
+        body.put("address", user.address());
+        body.put("number", Integer.toString(ThreadLocalRandom.current().nextInt(1, 3_000)));
+        body.put("complement", user.complement());
+        body.put("neighborhood", user.neighborhood());
+        body.put("city", user.city());
+        body.put("state", user.state());
+        body.put("zipCode", Dataset.anyCep());
+        body.put("gender", user.gender().name());
+        body.put("dateOfBirth", user.dateOfBirth().toString());
+        body.put("termsAccepted", true);
+        return body;
+    }
+}
@@ -0,0 +1,31 @@
+package com.diegobrsantosdev.user_registration_application.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-route histograms in microseconds. {@code latency} runs from the intended send time of the fixed
+ * arrival schedule, so queueing behind a stall is charged to the requests that were held up (the
+ * coordinated-omission correction); {@code service} runs from the actual send and shows what the server
+ * alone cost.
+ */
+final class RouteStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    final Histogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    final Histogram service = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    final LongAdder errors = new LongAdder();
+    final LongAdder dropped = new LongAdder();
+
+    void record(long intendedNanos, long sentNanos, long completedNanos, boolean success) {
+        latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(completedNanos - intendedNanos), HIGHEST_TRACKABLE_MICROS));
+        service.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(completedNanos - sentNanos), HIGHEST_TRACKABLE_MICROS));
+        if (!success) {
+            errors.increment();
+        }
+    }
+}
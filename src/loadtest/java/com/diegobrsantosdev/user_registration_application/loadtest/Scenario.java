@@ -0,0 +1,44 @@
+package com.diegobrsantosdev.user_registration_application.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * The routes driven by the load test and their share of the default mix (weights sum to 100).
+ */
+enum Scenario {
+    REGISTER("register", 5),
+    LOGIN("login", 20),
+    LOGIN_2FA("login-2fa", 5),
+    GET_ME("get-me", 30),
+    PUT_ME("put-me", 10),
+    ADMIN_BY_ID("admin-by-id", 8),
+    ADMIN_BY_CPF("admin-by-cpf", 5),
+    ADMIN_BY_EMAIL("admin-by-email", 5),
+    CEP("cep", 12),
+    // off by default, e.g. mix=reactive-login:50,reactive-cep:50 against mix=login:50,cep:50
+    REACTIVE_LOGIN("reactive-login", 0),
+    REACTIVE_CEP("reactive-cep", 0);
+
+    private final String route;
+    private final int defaultWeight;
+
+    Scenario(String route, int defaultWeight) {
+        this.route = route;
+        this.defaultWeight = defaultWeight;
+    }
+
+    String route() {
+        return route;
+    }
+
+    int defaultWeight() {
+        return defaultWeight;
+    }
+
+    static Scenario fromRoute(String route) {
+        return Arrays.stream(values())
+                .filter(scenario -> scenario.route.equals(route))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown route: " + route));
+    }
+}
@@ -3,10 +3,12 @@ package com.diegobrsantosdev.user_registration_application;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 
 @SpringBootApplication
 @EnableCaching
+@EnableScheduling
 public class UserRegistrationApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,28 @@
+package com.diegobrsantosdev.user_registration_application.availability;
+
+import com.diegobrsantosdev.user_registration_application.exceptions.InvalidDataException;
+import com.diegobrsantosdev.user_registration_application.services.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/auth/availability")
+@RequiredArgsConstructor
+public class AvailabilityController {
+
+    private final UserService userService;
+
+    // public, for signup forms; a fresh email is answered from the registration filters without a query.
+    // CPF and RG are not offered: an anonymous yes/no on them would leak who is registered
+    @GetMapping
+    public ResponseEntity<AvailabilityDTO> availability(@RequestParam(required = false) String email) {
+        if (email == null || email.isBlank()) {
+            throw new InvalidDataException("Email is required.");
+        }
+        return ResponseEntity.ok(new AvailabilityDTO(email, !userService.existsByEmail(email)));
+    }
+}
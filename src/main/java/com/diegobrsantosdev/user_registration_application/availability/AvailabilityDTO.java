@@ -0,0 +1,8 @@
+package com.diegobrsantosdev.user_registration_application.availability;
+
+// available is a hint: registration still checks the database and may answer "Email already in use."
+public record AvailabilityDTO(
+        String email,
+        boolean available
+) {
+}
@@ -0,0 +1,26 @@
+package com.diegobrsantosdev.user_registration_application.availability;
+
+import com.diegobrsantosdev.user_registration_application.models.User;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+// id-range reads used to build the registration filters, several ranges run in parallel
+@Repository
+public interface AvailabilityQueries extends org.springframework.data.repository.Repository<User, Integer> {
+
+    @Query("select count(u) from User u")
+    long countUsers();
+
+    @Query("select coalesce(min(u.id), 0) from User u")
+    int findMinId();
+
+    @Query("select coalesce(max(u.id), 0) from User u")
+    int findMaxId();
+
+    // email, cpf, rg
+    @Query("select u.email, u.cpf, u.rg from User u where u.id between :from and :to")
+    List<Object[]> findKeys(@Param("from") int from, @Param("to") int to);
+}
@@ -0,0 +1,101 @@
+package com.diegobrsantosdev.user_registration_application.availability;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free Bloom filter over strings: never a false negative, false positives at roughly the rate it was
+ * sized for. Bits are set with compare-and-set, so puts and lookups can run from any thread.
+ * The k positions come from one 64-bit hash split in two (Kirsch-Mitzenmacher double hashing).
+ */
+final class BloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bits;
+    private final int hashes;
+    private final AtomicLong setBits = new AtomicLong();
+
+    private BloomFilter(long bits, int hashes) {
+        this.words = new AtomicLongArray((int) ((bits + 63) >>> 6));
+        this.bits = bits;
+        this.hashes = hashes;
+    }
+
+    static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(expectedInsertions, 1);
+        long bits = Math.max(64, (long) Math.ceil(-n * Math.log(falsePositiveRate) / (LN2 * LN2)));
+        int hashes = Math.max(1, (int) Math.round((double) bits / n * LN2));
+        return new BloomFilter(bits, hashes);
+    }
+
+    void put(String key) {
+        long hash = hash(key);
+        long h1 = hash;
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashes; i++) {
+            set(Math.floorMod(h1 + i * h2, bits));
+        }
+    }
+
+    boolean mightContain(String key) {
+        long hash = hash(key);
+        long h1 = hash;
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashes; i++) {
+            long index = Math.floorMod(h1 + i * h2, bits);
+            if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // probability that a key never added answers true, from the share of bits set so far
+    double expectedFalsePositiveRate() {
+        return Math.pow((double) setBits.get() / bits, hashes);
+    }
+
+    long bitSize() {
+        return bits;
+    }
+
+    int hashCount() {
+        return hashes;
+    }
+
+    private void set(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        while (true) {
+            long current = words.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+            if (words.compareAndSet(word, current, current | mask)) {
+                setBits.incrementAndGet();
+                return;
+            }
+        }
+    }
+
+    // FNV-1a over the UTF-16 chars, then the murmur3 finalizer to spread the bits
+    private static long hash(String key) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB9FE1A85EC53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
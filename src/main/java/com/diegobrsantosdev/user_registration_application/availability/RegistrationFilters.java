@@ -0,0 +1,225 @@
+package com.diegobrsantosdev.user_registration_application.availability;
+
+import com.diegobrsantosdev.user_registration_application.dtos.UserResponseDTO;
+import com.diegobrsantosdev.user_registration_application.outbox.UserChangedEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * Bloom filters over every registered email, CPF and RG, so the usual "nobody has this yet" answer needs
+ * no query. Only a possible hit goes to the database, whose unique constraints stay the final word.
+ * <p>
+ * The filters are built at startup from id ranges read in parallel and follow committed
+ * {@link UserChangedEvent}s. Old values of updated or deleted users stay in the filter, which only costs
+ * false positives; once the expected rate passes max-false-positive-rate the filters are rebuilt.
+ * Until the first build every check goes to the database. Users written by other instances or by bulk JDBC
+ * imports are unknown until the next rebuild, so a duplicate of theirs is only caught by the unique constraints;
+ * registration maps that violation to the same {@code "<field> already in use."} answer the checks give.
+ */
+@Slf4j
+@Component
+public class RegistrationFilters implements MeterBinder {
+
+    private final AvailabilityQueries queries;
+    private final TransactionTemplate scanTransaction;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final double maxFalsePositiveRate;
+    private final int chunkSize;
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final Map<RegistrationKey, Outcomes> outcomes = new EnumMap<>(RegistrationKey.class);
+    private volatile Map<RegistrationKey, BloomFilter> filters;
+    // set while a rebuild scans, so changes committed meanwhile reach the new filters too
+    private volatile Map<RegistrationKey, BloomFilter> building;
+
+    public RegistrationFilters(AvailabilityQueries queries,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${app.availability.expected-insertions:1000000}") long expectedInsertions,
+                               @Value("${app.availability.false-positive-rate:0.01}") double falsePositiveRate,
+                               @Value("${app.availability.max-false-positive-rate:0.03}") double maxFalsePositiveRate,
+                               @Value("${app.availability.build-chunk-size:50000}") int chunkSize) {
+        this.queries = queries;
+        // not read-only on purpose: a lagging replica would miss users committed before the scan started,
+        // and the filters would call their values free
+        this.scanTransaction = new TransactionTemplate(transactionManager);
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.maxFalsePositiveRate = maxFalsePositiveRate;
+        this.chunkSize = chunkSize;
+        for (RegistrationKey key : RegistrationKey.values()) {
+            outcomes.put(key, new Outcomes());
+        }
+    }
+
+    /**
+     * True when a user already holds the value. Asks the database only when the filter cannot rule it out,
+     * and counts how often that turned out to be a false positive.
+     */
+    public boolean exists(RegistrationKey key, String value, Predicate<String> database) {
+        Map<RegistrationKey, BloomFilter> current = filters;
+        String normalized = key.normalize(value);
+        if (current == null || normalized == null) {
+            return database.test(value);
+        }
+
+        Outcomes counts = outcomes.get(key);
+        if (!current.get(key).mightContain(normalized)) {
+            counts.absent.increment();
+            return false;
+        }
+        boolean exists = database.test(value);
+        (exists ? counts.present : counts.falsePositive).increment();
+        return exists;
+    }
+
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        UserResponseDTO user = event.after();
+        if (user == null) {
+            return;
+        }
+        add(filters, user.email(), user.cpf(), user.rg());
+        add(building, user.email(), user.cpf(), user.rg());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${app.availability.check-interval-ms:600000}")
+    public void rebuildIfSaturated() {
+        Map<RegistrationKey, BloomFilter> current = filters;
+        if (current != null && current.values().stream()
+                .anyMatch(filter -> filter.expectedFalsePositiveRate() > maxFalsePositiveRate)) {
+            rebuild();
+        }
+    }
+
+    public void rebuild() {
+        if (!rebuildLock.tryLock()) {
+            return;
+        }
+        try {
+            long started = System.nanoTime();
+            // room for the table to double before the rate drifts past the target
+            long users = queries.countUsers();
+            long capacity = Math.max(expectedInsertions, users * 2);
+            Map<RegistrationKey, BloomFilter> next = new EnumMap<>(RegistrationKey.class);
+            for (RegistrationKey key : RegistrationKey.values()) {
+                next.put(key, BloomFilter.create(capacity, falsePositiveRate));
+            }
+            building = next;
+            scan(next);
+            filters = next;
+            BloomFilter email = next.get(RegistrationKey.EMAIL);
+            log.info("Registration filters built for {} users in {} ms ({} bits, {} hashes each)",
+                    users, (System.nanoTime() - started) / 1_000_000, email.bitSize(), email.hashCount());
+        } catch (RuntimeException e) {
+            log.error("Registration filter build failed, keeping the current filters", e);
+        } finally {
+            building = null;
+            rebuildLock.unlock();
+        }
+    }
+
+    private void scan(Map<RegistrationKey, BloomFilter> target) {
+        int min = scanTransaction.execute(status -> queries.findMinId());
+        int max = scanTransaction.execute(status -> queries.findMaxId());
+        AtomicInteger threads = new AtomicInteger();
+        try (ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+                runnable -> new Thread(runnable, "registration-filter-build-" + threads.incrementAndGet()))) {
+            List<CompletableFuture<Void>> chunks = new ArrayList<>();
+            for (long from = min; from <= max; from += chunkSize) {
+                int start = (int) from;
+                int end = (int) Math.min(from + chunkSize - 1, max);
+                chunks.add(CompletableFuture.runAsync(() -> {
+                    for (Object[] row : scanTransaction.execute(status -> queries.findKeys(start, end))) {
+                        add(target, (String) row[0], (String) row[1], (String) row[2]);
+                    }
+                }, executor));
+            }
+            CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new)).join();
+        }
+    }
+
+    private static void add(Map<RegistrationKey, BloomFilter> target, String email, String cpf, String rg) {
+        if (target == null) {
+            return;
+        }
+        put(target, RegistrationKey.EMAIL, email);
+        put(target, RegistrationKey.CPF, cpf);
+        put(target, RegistrationKey.RG, rg);
+    }
+
+    private static void put(Map<RegistrationKey, BloomFilter> target, RegistrationKey key, String value) {
+        String normalized = key.normalize(value);
+        if (normalized != null) {
+            target.get(key).put(normalized);
+        }
+    }
+
+    // share of values nobody had that still went to the database: FP / (FP + TN)
+    double observedFalsePositiveRate(RegistrationKey key) {
+        Outcomes counts = outcomes.get(key);
+        long falsePositives = counts.falsePositive.sum();
+        long negatives = falsePositives + counts.absent.sum();
+        return negatives == 0 ? 0.0 : (double) falsePositives / negatives;
+    }
+
+    private double expectedFalsePositiveRate(RegistrationKey key) {
+        Map<RegistrationKey, BloomFilter> current = filters;
+        return current == null ? Double.NaN : current.get(key).expectedFalsePositiveRate();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (RegistrationKey key : RegistrationKey.values()) {
+            String tag = key.name().toLowerCase();
+            Outcomes counts = outcomes.get(key);
+            Gauge.builder("app.registration.filter.false_positive_rate", this, filters -> filters.observedFalsePositiveRate(key))
+                    .description("Share of unused values the filter could not rule out, as observed against the database")
+                    .tag("key", tag)
+                    .register(registry);
+            Gauge.builder("app.registration.filter.expected_false_positive_rate", this, filters -> filters.expectedFalsePositiveRate(key))
+                    .description("False-positive rate predicted from the share of bits set")
+                    .tag("key", tag)
+                    .register(registry);
+            FunctionCounter.builder("app.registration.filter.checks", counts.absent, LongAdder::sum)
+                    .tag("key", tag).tag("result", "absent").register(registry);
+            FunctionCounter.builder("app.registration.filter.checks", counts.falsePositive, LongAdder::sum)
+                    .tag("key", tag).tag("result", "false_positive").register(registry);
+            FunctionCounter.builder("app.registration.filter.checks", counts.present, LongAdder::sum)
+                    .tag("key", tag).tag("result", "present").register(registry);
+        }
+    }
+
+    private static final class Outcomes {
+        private final LongAdder absent = new LongAdder();
+        private final LongAdder falsePositive = new LongAdder();
+        private final LongAdder present = new LongAdder();
+    }
+}
@@ -0,0 +1,42 @@
+package com.diegobrsantosdev.user_registration_application.availability;
+
+import com.diegobrsantosdev.user_registration_application.validators.BrazilianDocuments;
+
+import java.util.Locale;
+
+/**
+ * The unique registration fields, each normalized to a form at least as loose as the database comparison:
+ * two values the database would call equal always produce the same key. null means the value cannot be
+ * checked in memory and goes straight to the database.
+ */
+public enum RegistrationKey {
+    EMAIL {
+        @Override
+        String normalize(String value) {
+            return value == null || value.isBlank() ? null : value.strip().toLowerCase(Locale.ROOT);
+        }
+    },
+    // stored as BIGINT, so masks and leading zeros do not count
+    CPF {
+        @Override
+        String normalize(String value) {
+            if (value == null) {
+                return null;
+            }
+            String digits = BrazilianDocuments.digitsOnly(value);
+            int start = 0;
+            while (start < digits.length() - 1 && digits.charAt(start) == '0') {
+                start++;
+            }
+            return digits.isEmpty() ? null : digits.substring(start);
+        }
+    },
+    RG {
+        @Override
+        String normalize(String value) {
+            return value == null || value.isBlank() ? null : value.strip().toUpperCase(Locale.ROOT);
+        }
+    };
+
+    abstract String normalize(String value);
+}
@@ -0,0 +1,25 @@
+package com.diegobrsantosdev.user_registration_application.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+@Configuration
+public class ReactiveConfig {
+
+    // 0 means one thread per core; BCrypt is CPU-bound, so more threads only add contention
+    @Value("${app.reactive.password-hash.threads:0}")
+    private int passwordHashThreads;
+
+    @Value("${app.reactive.password-hash.queue-size:1000}")
+    private int passwordHashQueueSize;
+
+    // past the queue size new logins are rejected with 503 instead of queueing without bound
+    @Bean(destroyMethod = "dispose")
+    public Scheduler passwordHashScheduler() {
+        int threads = passwordHashThreads > 0 ? passwordHashThreads : Runtime.getRuntime().availableProcessors();
+        return Schedulers.newBoundedElastic(threads, passwordHashQueueSize, "password-hash");
+    }
+}
@@ -1,9 +1,11 @@
 package com.diegobrsantosdev.user_registration_application.config;
 
 import com.diegobrsantosdev.user_registration_application.models.User;
+import com.diegobrsantosdev.user_registration_application.profiling.UserLoadEvent;
 import com.diegobrsantosdev.user_registration_application.repositories.UserRepository;
 import com.diegobrsantosdev.user_registration_application.security.JwtAuthenticationFilter;
 import com.diegobrsantosdev.user_registration_application.security.JwtUtil;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -20,6 +22,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.util.Optional;
+
 @Configuration
 @EnableMethodSecurity
 @RequiredArgsConstructor
@@ -33,17 +37,25 @@ public class SecurityConfig {
         http
             .csrf(AbstractHttpConfigurer::disable)
             .authorizeHttpRequests(auth -> auth
+                // long-poll and SSE results come back on an ASYNC dispatch of a request that was already authorized
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers(
                     "/api/v1/auth/login",
                     "/api/v1/auth/register",
+                    "/api/v1/auth/register/status/**",
+                    "/api/v1/auth/availability",
                     "/api/v1/auth/2fa/loginWithTwoFactor",
                     "/api/v1/auth/2fa/verifyTwoFactor",
                     "/api/v1/cep/**",
+                    "/api/v1/reactive/auth/login",
+                    "/api/v1/reactive/cep/**",
                     "/v3/api-docs/**",
                     "/swagger-ui/**",
                     "/swagger-ui.html",
-                    "/h2-console/**"
+                    "/h2-console/**",
+                    "/actuator/health"
                 ).permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
                 .requestMatchers("/api/v1/users/**").hasAnyRole("USER", "ADMIN")
                 .anyRequest().authenticated()
@@ -69,9 +81,15 @@ public class SecurityConfig {
 
     @Bean
     public UserDetailsService users() {
-        return email -> userRepository.findByEmail(email)
-                .map(this::toUserDetails)
-                .orElseThrow(() -> new UsernameNotFoundException(email));
+        return email -> {
+            UserLoadEvent event = new UserLoadEvent();
+            event.begin();
+            Optional<User> user = userRepository.findByEmail(email);
+            event.commit(user.isPresent() ? "FOUND" : "NOT_FOUND", false);
+
+            return user.map(this::toUserDetails)
+                    .orElseThrow(() -> new UsernameNotFoundException(email));
+        };
     }
 
     private UserDetailsImpl toUserDetails(User user) {
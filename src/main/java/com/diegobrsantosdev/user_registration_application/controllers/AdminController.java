@@ -8,8 +8,11 @@ import com.diegobrsantosdev.user_registration_application.exceptions.ResourceNot
 import com.diegobrsantosdev.user_registration_application.models.User;
 import com.diegobrsantosdev.user_registration_application.services.UserService;
 import com.diegobrsantosdev.user_registration_application.shared.ApiMessages;
+import com.diegobrsantosdev.user_registration_application.shared.ETags;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -26,9 +29,19 @@ public class AdminController {
 
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<UserResponseDTO> getUserById(@PathVariable Integer id) {
+    public ResponseEntity<UserResponseDTO> getUserById(
+            @PathVariable Integer id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        if (ifNoneMatch != null) {
+            String current = ETags.weak(id, userService.getUserVersion(id));
+            if (ETags.matches(ifNoneMatch, current)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(current).build();
+            }
+        }
+
         UserResponseDTO dto = userService.getUserById(id);
-        return ResponseEntity.ok(dto);
+        return ETags.withETag(ResponseEntity.ok(), ETags.weak(dto.id(), dto.version()), dto);
     }
 
     @GetMapping("/cpf/{cpf}")
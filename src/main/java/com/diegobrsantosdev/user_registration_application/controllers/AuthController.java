@@ -2,23 +2,33 @@ package com.diegobrsantosdev.user_registration_application.controllers;
 
 import com.diegobrsantosdev.user_registration_application.dtos.AuthResponseDTO;
 import com.diegobrsantosdev.user_registration_application.dtos.LoginRequestDTO;
+import com.diegobrsantosdev.user_registration_application.dtos.RegistrationStatusDTO;
 import com.diegobrsantosdev.user_registration_application.dtos.UserRegisterDTO;
+import com.diegobrsantosdev.user_registration_application.services.AsyncRegistrationService;
 import com.diegobrsantosdev.user_registration_application.services.AuthService;
+import com.diegobrsantosdev.user_registration_application.validators.ManualAddress;
 import jakarta.validation.Valid;
+import jakarta.validation.groups.Default;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.net.URI;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/auth")
 public class AuthController {
 
     private final AuthService authService;
+    private final AsyncRegistrationService asyncRegistrationService;
 
     //Without 2FA
     @PostMapping("/login")
@@ -28,9 +38,41 @@ public class AuthController {
     }
 
     @PostMapping("/register")
-    public ResponseEntity<AuthResponseDTO> register(@RequestBody @Valid UserRegisterDTO request) {
+    public ResponseEntity<AuthResponseDTO> register(
+            @RequestBody @Validated({Default.class, ManualAddress.class}) UserRegisterDTO request) {
         AuthResponseDTO response = authService.register(request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    //Address, neighborhood, city and state are filled from the ZIP code
+    @PostMapping(value = "/register", params = "addressLookup=true")
+    public ResponseEntity<AuthResponseDTO> registerWithAddressLookup(@RequestBody @Valid UserRegisterDTO request) {
+        AuthResponseDTO response = authService.registerWithAddressLookup(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    //202 right after the reservation; poll the Location until COMPLETED, then log in
+    @PostMapping(value = "/register", params = "async=true")
+    public ResponseEntity<RegistrationStatusDTO> registerAsync(
+            @RequestBody @Validated({Default.class, ManualAddress.class}) UserRegisterDTO request) {
+        return accepted(asyncRegistrationService.submit(request));
+    }
+
+    //Both modes: the address is filled from the ZIP code before the reservation, then the 202 as above
+    @PostMapping(value = "/register", params = {"async=true", "addressLookup=true"})
+    public ResponseEntity<RegistrationStatusDTO> registerAsyncWithAddressLookup(@RequestBody @Valid UserRegisterDTO request) {
+        return accepted(asyncRegistrationService.submit(authService.enrichAddress(request)));
+    }
+
+    @GetMapping("/register/status/{id}")
+    public ResponseEntity<RegistrationStatusDTO> registrationStatus(@PathVariable String id) {
+        return ResponseEntity.ok(asyncRegistrationService.status(id));
+    }
+
+    private ResponseEntity<RegistrationStatusDTO> accepted(RegistrationStatusDTO status) {
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/auth/register/status/" + status.id()))
+                .body(status);
+    }
+
 }
@@ -0,0 +1,24 @@
+package com.diegobrsantosdev.user_registration_application.controllers;
+
+import com.diegobrsantosdev.user_registration_application.dtos.AuthResponseDTO;
+import com.diegobrsantosdev.user_registration_application.dtos.LoginRequestDTO;
+import com.diegobrsantosdev.user_registration_application.services.ReactiveAuthService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/v1/reactive/auth")
+@RequiredArgsConstructor
+public class ReactiveAuthController {
+
+    private final ReactiveAuthService reactiveAuthService;
+
+    @PostMapping("/login")
+    public Mono<AuthResponseDTO> login(@RequestBody LoginRequestDTO request) {
+        return reactiveAuthService.login(request);
+    }
+}
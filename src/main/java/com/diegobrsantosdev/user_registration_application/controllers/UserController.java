@@ -4,8 +4,12 @@ import com.diegobrsantosdev.user_registration_application.config.UserDetailsImpl
 import com.diegobrsantosdev.user_registration_application.dtos.*;
 import com.diegobrsantosdev.user_registration_application.services.UserService;
 import com.diegobrsantosdev.user_registration_application.shared.ApiMessages;
+import com.diegobrsantosdev.user_registration_application.shared.ETags;
+import com.diegobrsantosdev.user_registration_application.shared.JsonMergePatch;
+import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -23,17 +27,41 @@ public class UserController {
 
     @GetMapping("/me")
     public ResponseEntity<UserResponseDTO> getCurrentUser(
-            @AuthenticationPrincipal UserDetailsImpl currentUser) {
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        if (ifNoneMatch != null) {
+            String current = ETags.weak(currentUser.getId(), userService.getUserVersion(currentUser.getId()));
+            if (ETags.matches(ifNoneMatch, current)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(current).build();
+            }
+        }
+
         UserResponseDTO dto = userService.getUserById(currentUser.getId());
-        return ResponseEntity.status(HttpStatus.OK).body(dto);
+        return ETags.withETag(ResponseEntity.status(HttpStatus.OK), ETags.weak(dto.id(), dto.version()), dto);
     }
 
     @PutMapping("/me")
     public ResponseEntity<UserResponseDTO> updateCurrentUser(
             @AuthenticationPrincipal UserDetailsImpl currentUser,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody @Valid UserUpdateDTO dto) {
-        UserResponseDTO updated = userService.updateUser(currentUser.getId(), dto);
-        return ResponseEntity.status(HttpStatus.OK).body(updated);
+
+        UserResponseDTO updated = ifMatch == null
+                ? userService.updateUser(currentUser.getId(), dto)
+                : userService.updateUser(currentUser.getId(), dto, ETags.expectedVersion(ifMatch, currentUser.getId()));
+        return ETags.withETag(ResponseEntity.status(HttpStatus.OK), ETags.weak(updated.id(), updated.version()), updated);
+    }
+
+    @PatchMapping(value = "/me", consumes = JsonMergePatch.MEDIA_TYPE)
+    public ResponseEntity<UserResponseDTO> patchCurrentUser(
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody JsonNode patch) {
+
+        Long expectedVersion = ifMatch == null ? null : ETags.expectedVersion(ifMatch, currentUser.getId());
+        UserResponseDTO updated = userService.patchUser(currentUser.getId(), patch, expectedVersion);
+        return ETags.withETag(ResponseEntity.status(HttpStatus.OK), ETags.weak(updated.id(), updated.version()), updated);
     }
 
     @PutMapping("/me/password")
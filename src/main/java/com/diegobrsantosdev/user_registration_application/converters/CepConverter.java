@@ -0,0 +1,12 @@
+package com.diegobrsantosdev.user_registration_application.converters;
+
+import com.diegobrsantosdev.user_registration_application.validators.BrazilianDocuments;
+import jakarta.persistence.Converter;
+
+@Converter
+public class CepConverter extends NumericIdentifierConverter {
+
+    public CepConverter() {
+        super("ZIP code", BrazilianDocuments.CEP_LENGTH);
+    }
+}
@@ -0,0 +1,46 @@
+package com.diegobrsantosdev.user_registration_application.converters;
+
+import com.diegobrsantosdev.user_registration_application.validators.BrazilianDocuments;
+import jakarta.persistence.AttributeConverter;
+
+/**
+ * Stores a digits-only identifier as BIGINT while the entity keeps a String.
+ * Masks are stripped before conversion, so "123.456.789-09" and "12345678909" map to the same key,
+ * and leading zeros are restored on read using the identifier's fixed width.
+ */
+public abstract class NumericIdentifierConverter implements AttributeConverter<String, Long> {
+
+    // a long holds up to 18 digits without overflow
+    private static final int MAX_DIGITS = 18;
+
+    private final String name;
+    private final int width;
+
+    protected NumericIdentifierConverter(String name, int width) {
+        this.name = name;
+        this.width = width;
+    }
+
+    @Override
+    public Long convertToDatabaseColumn(String value) {
+        if (value == null) return null;
+
+        String digits = BrazilianDocuments.digitsOnly(value);
+        if (digits.isEmpty() || digits.length() > MAX_DIGITS) {
+            throw new IllegalArgumentException(name + " must contain between 1 and " + MAX_DIGITS + " digits");
+        }
+        return Long.parseLong(digits);
+    }
+
+    @Override
+    public String convertToEntityAttribute(Long value) {
+        if (value == null) return null;
+
+        String digits = Long.toString(value);
+        if (digits.length() >= width) return digits;
+
+        StringBuilder padded = new StringBuilder(width);
+        for (int i = digits.length(); i < width; i++) padded.append('0');
+        return padded.append(digits).toString();
+    }
+}
@@ -0,0 +1,12 @@
+package com.diegobrsantosdev.user_registration_application.converters;
+
+import jakarta.persistence.Converter;
+
+@Converter
+public class PhoneConverter extends NumericIdentifierConverter {
+
+    // DDDs never start with zero, so 10 and 11 digit numbers need no padding
+    public PhoneConverter() {
+        super("Phone", 0);
+    }
+}
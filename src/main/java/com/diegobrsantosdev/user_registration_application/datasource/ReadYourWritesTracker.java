@@ -0,0 +1,45 @@
+package com.diegobrsantosdev.user_registration_application.datasource;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers when each user last committed a write, so their reads stay on the primary
+ * until the replicas had time to catch up.
+ */
+public class ReadYourWritesTracker {
+
+    private final long windowNanos;
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    public void recordWrite(String username) {
+        if (username != null) {
+            lastWrites.put(username, System.nanoTime());
+        }
+    }
+
+    public boolean isSticky(String username) {
+        if (username == null || windowNanos <= 0) return false;
+
+        Long writtenAt = lastWrites.get(username);
+        if (writtenAt == null) return false;
+        if (System.nanoTime() - writtenAt < windowNanos) return true;
+
+        lastWrites.remove(username, writtenAt);
+        return false;
+    }
+
+    // users who write and never read again would otherwise stay in the map
+    @Scheduled(fixedDelayString = "${app.datasource.routing.sticky-purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long now = System.nanoTime();
+        lastWrites.entrySet().removeIf(entry -> now - entry.getValue() >= windowNanos);
+    }
+}
@@ -0,0 +1,181 @@
+package com.diegobrsantosdev.user_registration_application.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sends connections of read-only transactions to the replicas (round robin) and everything else to the primary.
+ * Must sit behind a LazyConnectionDataSourceProxy so the read-only flag is known when the connection is fetched.
+ * A replica that fails to hand out a connection is skipped for a while and the read goes to the primary,
+ * and a user who just committed a write keeps reading from the primary for the sticky window.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    public static final String PRIMARY = "primary";
+
+    private final Map<String, DataSource> targets = new LinkedHashMap<>();
+    private final List<String> replicaKeys;
+    private final ReadYourWritesTracker tracker;
+    private final long retryNanos;
+
+    private final AtomicInteger next = new AtomicInteger();
+    private final Map<String, Long> downUntil = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> routed = new ConcurrentHashMap<>();
+    private final LongAdder fallbacks = new LongAdder();
+
+    public ReplicaRoutingDataSource(DataSource primary,
+                                    Map<String, DataSource> replicas,
+                                    ReadYourWritesTracker tracker,
+                                    Duration replicaRetry) {
+        this.targets.put(PRIMARY, primary);
+        this.targets.putAll(replicas);
+        this.replicaKeys = List.copyOf(replicas.keySet());
+        this.tracker = tracker;
+        this.retryNanos = replicaRetry.toNanos();
+
+        targets.keySet().forEach(key -> routed.put(key, new LongAdder()));
+        setTargetDataSources(new HashMap<>(targets));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return resolveRoute();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connect(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connect(target -> target.getConnection(username, password));
+    }
+
+    private Connection connect(ConnectionSource source) throws SQLException {
+        String route = resolveRoute();
+
+        if (PRIMARY.equals(route)) {
+            recordWriteOnCommit();
+            return open(PRIMARY, source);
+        }
+
+        try {
+            return open(route, source);
+        } catch (SQLException e) {
+            downUntil.put(route, System.nanoTime() + retryNanos);
+            fallbacks.increment();
+            log.warn("Replica {} unavailable, reading from the primary: {}", route, e.getMessage());
+            return open(PRIMARY, source);
+        }
+    }
+
+    private Connection open(String route, ConnectionSource source) throws SQLException {
+        Connection connection = source.open(targets.get(route));
+        routed.get(route).increment();
+        return connection;
+    }
+
+    String resolveRoute() {
+        if (replicaKeys.isEmpty() || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        if (tracker.isSticky(currentUsername())) {
+            return PRIMARY;
+        }
+        return nextReplica();
+    }
+
+    private String nextReplica() {
+        int size = replicaKeys.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        long now = System.nanoTime();
+
+        for (int i = 0; i < size; i++) {
+            String key = replicaKeys.get((start + i) % size);
+            Long until = downUntil.get(key);
+            if (until == null || now - until >= 0) {
+                return key;
+            }
+        }
+        return PRIMARY;
+    }
+
+    // the window starts when the replica lag starts, i.e. after the commit
+    private void recordWriteOnCommit() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        String username = currentUsername();
+        if (username == null) return;
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                tracker.recordWrite(username);
+            }
+        });
+    }
+
+    private static String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    // ========= STATS =========
+
+    public Map<String, DataSource> getTargets() {
+        return Collections.unmodifiableMap(targets);
+    }
+
+    public Map<String, Long> routedConnections() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        targets.keySet().forEach(key -> counts.put(key, routed.get(key).sum()));
+        return counts;
+    }
+
+    public long fallbackCount() {
+        return fallbacks.sum();
+    }
+
+    @Override
+    public void close() {
+        for (DataSource target : targets.values()) {
+            if (target instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Could not close datasource: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSource {
+        Connection open(DataSource target) throws SQLException;
+    }
+}
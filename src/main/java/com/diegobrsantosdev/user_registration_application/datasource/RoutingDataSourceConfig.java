@@ -0,0 +1,92 @@
+package com.diegobrsantosdev.user_registration_application.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replaces the auto-configured datasource when app.datasource.routing.enabled=true.
+ * The primary pool is built from spring.datasource.*, one pool per URL in app.datasource.replicas.urls.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.routing.enabled", havingValue = "true")
+public class RoutingDataSourceConfig {
+
+    @Value("${app.datasource.replicas.urls:}")
+    private List<String> replicaUrls;
+
+    @Value("${app.datasource.replicas.username:${spring.datasource.username:}}")
+    private String replicaUsername;
+
+    @Value("${app.datasource.replicas.password:${spring.datasource.password:}}")
+    private String replicaPassword;
+
+    @Value("${app.datasource.replicas.maximum-pool-size:10}")
+    private int replicaPoolSize;
+
+    @Value("${app.datasource.replicas.connection-timeout-ms:2000}")
+    private long replicaConnectionTimeoutMs;
+
+    @Value("${spring.datasource.hikari.maximum-pool-size:10}")
+    private int primaryPoolSize;
+
+    @Value("${app.datasource.routing.sticky-window-ms:5000}")
+    private long stickyWindowMs;
+
+    @Value("${app.datasource.routing.replica-retry-ms:30000}")
+    private long replicaRetryMs;
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker() {
+        return new ReadYourWritesTracker(Duration.ofMillis(stickyWindowMs));
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties properties,
+                                                             ReadYourWritesTracker tracker) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+        primary.setMaximumPoolSize(primaryPoolSize);
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (String url : replicaUrls) {
+            if (url.isBlank()) continue;
+
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + replicas.size());
+            replica.setJdbcUrl(url.trim());
+            replica.setUsername(replicaUsername);
+            replica.setPassword(replicaPassword);
+            replica.setMaximumPoolSize(replicaPoolSize);
+            replica.setConnectionTimeout(replicaConnectionTimeoutMs);
+            replica.setReadOnly(true);
+            replicas.put(replica.getPoolName(), replica);
+        }
+
+        return new ReplicaRoutingDataSource(primary, replicas, tracker, Duration.ofMillis(replicaRetryMs));
+    }
+
+    @Bean
+    public RoutingDataSourceMetrics routingDataSourceMetrics(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new RoutingDataSourceMetrics(replicaRoutingDataSource);
+    }
+
+    // the lazy proxy holds the physical connection back until the first statement,
+    // by then the transaction's read-only flag is set and the router can see it
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
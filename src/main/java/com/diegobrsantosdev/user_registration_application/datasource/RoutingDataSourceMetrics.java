@@ -0,0 +1,45 @@
+package com.diegobrsantosdev.user_registration_application.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import javax.sql.DataSource;
+
+/**
+ * Hikari pool metrics for every route (tagged pool=primary, replica-0, ...) plus
+ * connections handed out per route and replica fallbacks.
+ * The pools are not beans, so Boot's datasource metrics only ever see the primary.
+ */
+public class RoutingDataSourceMetrics implements MeterBinder {
+
+    private final ReplicaRoutingDataSource routing;
+
+    public RoutingDataSourceMetrics(ReplicaRoutingDataSource routing) {
+        this.routing = routing;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (var target : routing.getTargets().entrySet()) {
+            String route = target.getKey();
+            DataSource dataSource = target.getValue();
+
+            if (dataSource instanceof HikariDataSource hikari
+                    && hikari.getMetricRegistry() == null && hikari.getMetricsTrackerFactory() == null) {
+                hikari.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+            }
+
+            FunctionCounter.builder("datasource.route.connections", routing, r -> r.routedConnections().get(route))
+                    .description("Connections handed out by the routing datasource")
+                    .tag("route", route)
+                    .register(registry);
+        }
+
+        FunctionCounter.builder("datasource.route.fallbacks", routing, ReplicaRoutingDataSource::fallbackCount)
+                .description("Reads sent to the primary because a replica was unavailable")
+                .register(registry);
+    }
+}
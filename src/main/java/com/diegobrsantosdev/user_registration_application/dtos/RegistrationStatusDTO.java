@@ -0,0 +1,21 @@
+package com.diegobrsantosdev.user_registration_application.dtos;
+
+import com.diegobrsantosdev.user_registration_application.models.RegistrationReservation;
+import com.diegobrsantosdev.user_registration_application.models.RegistrationStatus;
+
+// no token here: anyone holding the status URL could read it, so the user logs in once it is COMPLETED
+public record RegistrationStatusDTO(
+        String id,
+        RegistrationStatus status,
+        Integer userId,
+        String message
+) {
+    public static RegistrationStatusDTO fromEntity(RegistrationReservation reservation) {
+        return new RegistrationStatusDTO(
+                reservation.getId(),
+                reservation.getStatus(),
+                reservation.getUserId(),
+                reservation.getMessage()
+        );
+    }
+}
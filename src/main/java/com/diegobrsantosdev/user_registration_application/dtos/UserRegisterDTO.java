@@ -2,7 +2,11 @@ package com.diegobrsantosdev.user_registration_application.dtos;
 
 import com.diegobrsantosdev.user_registration_application.models.Gender;
 import com.diegobrsantosdev.user_registration_application.models.Role;
+import com.diegobrsantosdev.user_registration_application.validators.ManualAddress;
+import com.diegobrsantosdev.user_registration_application.validators.ValidCep;
 import com.diegobrsantosdev.user_registration_application.validators.ValidCpf;
+import com.diegobrsantosdev.user_registration_application.validators.ValidPhone;
+import com.diegobrsantosdev.user_registration_application.validators.ValidUf;
 import jakarta.validation.constraints.*;
 
 import java.time.LocalDate;
@@ -20,8 +24,6 @@ public record UserRegisterDTO(
     String password,
 
     @NotBlank(message = "CPF is required")
-    @Size(min = 11, max = 11, message = "CPF must have exactly 11 digits")
-    @Pattern(regexp = "\\d{11}", message = "CPF must contain only digits")
     @ValidCpf
     String cpf,
 
@@ -29,11 +31,11 @@ public record UserRegisterDTO(
     String rg,
 
     @NotBlank(message = "Phone is required")
-    @Pattern(regexp = "^\\d{10,11}$", message = "Phone must have 10 or 11 digits (only numbers, including DDD)")
+    @ValidPhone
     String phone,
 
 
-    @NotBlank(message = "Address is required")
+    @NotBlank(message = "Address is required", groups = ManualAddress.class)
     String address,
 
     @NotBlank(message = "Number is required")
@@ -41,19 +43,19 @@ public record UserRegisterDTO(
 
     String complement,
 
-    @NotBlank(message = "Neighborhood is required")
+    @NotBlank(message = "Neighborhood is required", groups = ManualAddress.class)
     String neighborhood,
 
-    @NotBlank(message = "City is required")
+    @NotBlank(message = "City is required", groups = ManualAddress.class)
     String city,
 
-    @NotBlank(message = "State is required")
-    @Pattern(regexp = "[A-Z]{2}", message = "State (UF) must have 2 uppercase letters (e.g. SP)")
+    @NotBlank(message = "State is required", groups = ManualAddress.class)
+    @ValidUf
     String state,
 
 
     @NotBlank(message = "ZIP code is required")
-    @Pattern(regexp = "\\d{8}", message = "ZIP code must have 8 digits")
+    @ValidCep
     String zipCode,
 
     @NotNull(message = "gender is required")
@@ -72,4 +74,12 @@ public record UserRegisterDTO(
 
     //CREATEDAT/UPDATEDAT are automatic
 
-) {}
\ No newline at end of file
+) {
+    public UserRegisterDTO withAddress(String address, String neighborhood, String city, String state) {
+        return new UserRegisterDTO(
+                name, email, password, cpf, rg, phone,
+                address, number, complement, neighborhood, city, state, zipCode,
+                gender, dateOfBirth, profilePictureUrl, termsAccepted
+        );
+    }
+}
\ No newline at end of file
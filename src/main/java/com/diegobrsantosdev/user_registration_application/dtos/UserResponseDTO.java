@@ -3,6 +3,7 @@ package com.diegobrsantosdev.user_registration_application.dtos;
 import com.diegobrsantosdev.user_registration_application.models.Gender;
 import com.diegobrsantosdev.user_registration_application.models.Role;
 import com.diegobrsantosdev.user_registration_application.models.User;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -29,10 +30,23 @@ public record UserResponseDTO(
     LocalDateTime createdAt,
     LocalDateTime updatedAt,
     Set<Role> roles,
-    Boolean twoFactorEnabled
+    Boolean twoFactorEnabled,
 
+    // only used to build the ETag header
+    @JsonIgnore
+    Long version
 
 ) {
+    public UserResponseDTO(Integer id, String name, String email, String cpf, String rg, String phone,
+                           String address, String number, String complement, String neighborhood,
+                           String city, String state, String zipCode, Gender gender, LocalDate dateOfBirth,
+                           String profilePictureUrl, Boolean termsAccepted, LocalDateTime createdAt,
+                           LocalDateTime updatedAt, Set<Role> roles, Boolean twoFactorEnabled) {
+        this(id, name, email, cpf, rg, phone, address, number, complement, neighborhood, city, state, zipCode,
+                gender, dateOfBirth, profilePictureUrl, termsAccepted, createdAt, updatedAt, roles,
+                twoFactorEnabled, null);
+    }
+
     public static UserResponseDTO fromEntity(User user) {
         if (user == null) return null;
         return new UserResponseDTO(
@@ -56,8 +70,8 @@ public record UserResponseDTO(
                 user.getCreatedAt(),
                 user.getUpdatedAt(),
                 user.getRoles(),
-                user.getTwoFactorEnabled()
-
+                user.getTwoFactorEnabled(),
+                user.getVersion()
         );
     }
 }
@@ -1,7 +1,10 @@
 package com.diegobrsantosdev.user_registration_application.dtos;
 
 import com.diegobrsantosdev.user_registration_application.models.Gender;
+import com.diegobrsantosdev.user_registration_application.validators.ValidCep;
 import com.diegobrsantosdev.user_registration_application.validators.ValidCpf;
+import com.diegobrsantosdev.user_registration_application.validators.ValidPhone;
+import com.diegobrsantosdev.user_registration_application.validators.ValidUf;
 import jakarta.validation.constraints.*;
 
 import java.time.LocalDate;
@@ -15,8 +18,6 @@ public record UserUpdateDTO(
         String email,
 
         @NotBlank(message = "CPF is required")
-        @Size(min = 11, max = 11, message = "CPF must have exactly 11 digits")
-        @Pattern(regexp = "\\d{11}", message = "CPF must contain only digits")
         @ValidCpf
         String cpf,
 
@@ -24,7 +25,7 @@ public record UserUpdateDTO(
         String rg,
 
         @NotBlank(message = "Phone is required")
-        @Pattern(regexp = "^\\d{10,11}$", message = "Phone must have 10 or 11 digits (only numbers, including DDD)")
+        @ValidPhone
         String phone,
 
 
@@ -43,11 +44,11 @@ public record UserUpdateDTO(
         String city,
 
         @NotBlank(message = "State is required")
-        @Pattern(regexp = "[A-Z]{2}", message = "State (UF) must have 2 uppercase letters (e.g. SP)")
+        @ValidUf
         String state,
 
         @NotBlank(message = "ZIP code is required")
-        @Pattern(regexp = "\\d{8}", message = "ZIP code must have 8 digits")
+        @ValidCep
         String zipCode,
 
         @NotNull(message = "gender is required")
@@ -0,0 +1,12 @@
+package com.diegobrsantosdev.user_registration_application.exceptions;
+
+import java.io.Serial;
+
+public class PreconditionFailedException extends RuntimeException {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -165,8 +165,34 @@ public class ResourceExceptionHandler {
         );
         return ResponseEntity.status(status).body(err);
     }
-}
-
 
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<StandardError> preconditionFailed(PreconditionFailedException e, HttpServletRequest request) {
+        String error = "Precondition failed";
+        HttpStatus status = HttpStatus.PRECONDITION_FAILED;
+        StandardError err = new StandardError(
+                Instant.now(), status.value(), error, e.getMessage(), request.getRequestURI());
+        return ResponseEntity.status(status).body(err);
+    }
 
+    @ExceptionHandler(org.springframework.dao.OptimisticLockingFailureException.class)
+    public ResponseEntity<StandardError> concurrentModification(Exception e, HttpServletRequest request) {
+        String error = "Concurrent modification";
+        HttpStatus status = HttpStatus.CONFLICT;
+        StandardError err = new StandardError(
+                Instant.now(), status.value(), error,
+                "The resource was modified by another request. Reload it and try again.",
+                request.getRequestURI());
+        return ResponseEntity.status(status).body(err);
+    }
 
+    // a bounded executor (the reactive password-hash scheduler) refused the task because its queue is full
+    @ExceptionHandler(java.util.concurrent.RejectedExecutionException.class)
+    public ResponseEntity<StandardError> overloaded(Exception e, HttpServletRequest request) {
+        String error = "Service unavailable";
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        StandardError err = new StandardError(
+                Instant.now(), status.value(), error, "The server is busy, please retry shortly.", request.getRequestURI());
+        return ResponseEntity.status(status).body(err);
+    }
+}
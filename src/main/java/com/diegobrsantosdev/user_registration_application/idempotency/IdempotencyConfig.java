@@ -0,0 +1,35 @@
+package com.diegobrsantosdev.user_registration_application.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Maps the Idempotency-Key filter to app.idempotency.paths, right after the Spring Security chain:
+ * unauthenticated requests never reach the store and keys are scoped to the caller.
+ */
+@Configuration
+public class IdempotencyConfig {
+
+    @Value("${app.idempotency.paths:/api/v1/auth/register,/api/v1/users/me/password}")
+    private String[] paths;
+
+    @Value("${app.idempotency.wait-timeout-ms:30000}")
+    private long waitTimeoutMs;
+
+    @Value("${app.idempotency.max-body-bytes:65536}")
+    private int maxBodyBytes;
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(IdempotencyStore store, ObjectMapper objectMapper) {
+        FilterRegistrationBean<IdempotencyFilter> registration = new FilterRegistrationBean<>(
+                new IdempotencyFilter(store, objectMapper, waitTimeoutMs, maxBodyBytes));
+        registration.addUrlPatterns(paths);
+        // SecurityDoneFilter sits at DEFAULT_FILTER_ORDER + 1 when profiling is on
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 2);
+        return registration;
+    }
+}
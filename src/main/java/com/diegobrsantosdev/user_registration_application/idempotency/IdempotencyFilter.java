@@ -0,0 +1,276 @@
+package com.diegobrsantosdev.user_registration_application.idempotency;
+
+import com.diegobrsantosdev.user_registration_application.exceptions.StandardError;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Idempotency-Key support for the mutating endpoints it is mapped to. Registered after the Spring Security
+ * chain, so keys are scoped to the authenticated user (or shared by anonymous callers) and to method and path.
+ * <p>
+ * The request is fingerprinted (method, path, query, body); a retry with the same key and fingerprint gets the
+ * stored response back with Idempotent-Replayed: true, a different fingerprint gets 422. A retry that arrives
+ * while the first attempt still runs waits for it. 5xx responses are not stored, the next retry runs again.
+ */
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    public static final String REPLAYED = "Idempotent-Replayed";
+
+    private static final Set<String> METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+    private static final int MAX_KEY_LENGTH = 255;
+    // recomputed on write, or tied to the original exchange
+    private static final Set<String> SKIPPED_HEADERS = Set.of(
+            HttpHeaders.CONTENT_TYPE.toLowerCase(), HttpHeaders.CONTENT_LENGTH.toLowerCase(),
+            HttpHeaders.TRANSFER_ENCODING.toLowerCase(), HttpHeaders.DATE.toLowerCase(),
+            HttpHeaders.SET_COOKIE.toLowerCase(), "server-timing");
+
+    private final IdempotencyStore store;
+    private final ObjectMapper objectMapper;
+    private final long waitTimeoutMs;
+    private final int maxBodyBytes;
+
+    public IdempotencyFilter(IdempotencyStore store, ObjectMapper objectMapper, long waitTimeoutMs, int maxBodyBytes) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.waitTimeoutMs = waitTimeoutMs;
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getHeader(IDEMPOTENCY_KEY) == null || !METHODS.contains(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String key = request.getHeader(IDEMPOTENCY_KEY).strip();
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            writeError(request, response, HttpStatus.BAD_REQUEST,
+                    IDEMPOTENCY_KEY + " must have between 1 and " + MAX_KEY_LENGTH + " characters.");
+            return;
+        }
+
+        byte[] body = request.getInputStream().readNBytes(maxBodyBytes + 1);
+        if (body.length > maxBodyBytes) {
+            writeError(request, response, HttpStatus.PAYLOAD_TOO_LARGE,
+                    "Requests sent with an " + IDEMPOTENCY_KEY + " are limited to " + maxBodyBytes + " bytes.");
+            return;
+        }
+
+        String scope = principal() + " " + request.getMethod() + " " + request.getRequestURI();
+        String fingerprint = fingerprint(request, body);
+        while (true) {
+            IdempotencyStore.Claim claim = store.claim(scope + " " + key, fingerprint);
+            switch (claim.outcome()) {
+                case OWNER -> {
+                    execute(new CachedBodyRequest(request, body), response, filterChain, claim.entry());
+                    return;
+                }
+                case MISMATCH -> {
+                    writeError(request, response, HttpStatus.UNPROCESSABLE_ENTITY,
+                            IDEMPOTENCY_KEY + " was already used with a different request.");
+                    return;
+                }
+                case EXISTING -> {
+                    StoredResponse stored;
+                    try {
+                        stored = claim.entry().response.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+                    } catch (TimeoutException e) {
+                        writeError(request, response, HttpStatus.CONFLICT,
+                                "A request with this " + IDEMPOTENCY_KEY + " is still in progress, retry later.");
+                        return;
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new ServletException(e);
+                    } catch (ExecutionException e) {
+                        throw new ServletException(e.getCause());
+                    }
+                    // the first attempt ended without a response worth keeping: claim again and run
+                    if (stored != null) {
+                        replay(stored, response);
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    private void execute(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain,
+                         IdempotencyStore.Entry entry) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(request, wrapper);
+            if (wrapper.getStatus() < 500) {
+                store.complete(entry, snapshot(wrapper));
+                stored = true;
+            }
+        } finally {
+            if (!stored) {
+                store.abandon(entry);
+            }
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private StoredResponse snapshot(ContentCachingResponseWrapper response) {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (String name : response.getHeaderNames()) {
+            if (!SKIPPED_HEADERS.contains(name.toLowerCase())) {
+                headers.put(name, new ArrayList<>(response.getHeaders(name)));
+            }
+        }
+        return new StoredResponse(response.getStatus(), response.getContentType(), headers,
+                response.getContentAsByteArray());
+    }
+
+    private void replay(StoredResponse stored, HttpServletResponse response) throws IOException {
+        store.replayed();
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        stored.headers().forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+        response.setHeader(REPLAYED, "true");
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private void writeError(HttpServletRequest request, HttpServletResponse response, HttpStatus status,
+                            String message) throws IOException {
+        StandardError error = new StandardError(Instant.now(), status.value(), "Idempotency error", message,
+                request.getRequestURI());
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+
+    private static String principal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return "anonymous";
+        }
+        return "user:" + authentication.getName();
+    }
+
+    private static String fingerprint(HttpServletRequest request, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((request.getMethod() + " " + request.getRequestURI() + "?"
+                    + (request.getQueryString() == null ? "" : request.getQueryString()) + "\n")
+                    .getBytes(StandardCharsets.UTF_8));
+            digest.update(body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    // the body was read for the fingerprint, so the endpoint gets it from memory
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            InputStream source = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() throws IOException {
+                    return source.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    return source.read(buffer, offset, length);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    try {
+                        return source.available() == 0;
+                    } catch (IOException e) {
+                        return true;
+                    }
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // the whole body is already in memory, so it is available at once
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    try {
+                        if (!isFinished()) {
+                            listener.onDataAvailable();
+                        }
+                        listener.onAllDataRead();
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(body),
+                    encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding)));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
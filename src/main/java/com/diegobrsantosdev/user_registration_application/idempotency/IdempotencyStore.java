@@ -0,0 +1,140 @@
+package com.diegobrsantosdev.user_registration_application.idempotency;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Responses of requests sent with an Idempotency-Key, kept for ttl-minutes and at most max-entries.
+ * <p>
+ * The first request with a key claims it and runs; a retry arriving meanwhile gets the same future and
+ * waits for it instead of running the endpoint again. Entries leave in creation order, which with a fixed
+ * TTL is also expiry order, so bounding and expiring only ever look at the head of one queue; only an
+ * abandoned attempt is taken out of the middle.
+ * Entries live in this instance's memory: a retry routed to another instance runs again.
+ */
+@Component
+public class IdempotencyStore implements MeterBinder {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<Entry> creationOrder = new ConcurrentLinkedQueue<>();
+    private final LongAdder replays = new LongAdder();
+    private final long ttlNanos;
+    private final int maxEntries;
+
+    public IdempotencyStore(@Value("${app.idempotency.ttl-minutes:1440}") long ttlMinutes,
+                            @Value("${app.idempotency.max-entries:10000}") int maxEntries) {
+        this.ttlNanos = Duration.ofMinutes(ttlMinutes).toNanos();
+        this.maxEntries = maxEntries;
+    }
+
+    Claim claim(String key, String fingerprint) {
+        long now = System.nanoTime();
+        while (true) {
+            Entry fresh = new Entry(key, fingerprint, now + ttlNanos);
+            Entry existing = entries.putIfAbsent(key, fresh);
+            if (existing == null) {
+                creationOrder.add(fresh);
+                evictOverflow();
+                return new Claim(Outcome.OWNER, fresh);
+            }
+            if (existing.expiresAt - now < 0) {
+                entries.remove(key, existing);
+                continue;
+            }
+            if (!existing.fingerprint.equals(fingerprint)) {
+                return new Claim(Outcome.MISMATCH, existing);
+            }
+            return new Claim(Outcome.EXISTING, existing);
+        }
+    }
+
+    void complete(Entry entry, StoredResponse response) {
+        entry.response.complete(response);
+    }
+
+    // nothing worth replaying (5xx or an exception): the key is released and waiting retries run themselves
+    void abandon(Entry entry) {
+        entries.remove(entry.key, entry);
+        // a linear scan, but otherwise a burst of 5xx would keep dead entries queued for the whole TTL
+        creationOrder.remove(entry);
+        entry.response.complete(null);
+    }
+
+    void replayed() {
+        replays.increment();
+    }
+
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long now = System.nanoTime();
+        Entry head;
+        while ((head = creationOrder.peek()) != null && head.expiresAt - now < 0) {
+            if (creationOrder.remove(head)) {
+                entries.remove(head.key, head);
+            }
+        }
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void evictOverflow() {
+        while (entries.size() > maxEntries) {
+            Entry oldest = creationOrder.poll();
+            if (oldest == null) {
+                return;
+            }
+            entries.remove(oldest.key, oldest);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("app.idempotency.entries", this, IdempotencyStore::size)
+                .description("Idempotency keys currently held, in flight or completed")
+                .register(registry);
+        FunctionCounter.builder("app.idempotency.replays", replays, LongAdder::sum)
+                .description("Requests answered with the stored response of an earlier attempt")
+                .register(registry);
+    }
+
+    enum Outcome {
+        // the caller runs the request and must complete or abandon the entry
+        OWNER,
+        // same key and request: wait for the response of the entry, then replay it
+        EXISTING,
+        // same key, different request
+        MISMATCH
+    }
+
+    record Claim(Outcome outcome, Entry entry) {
+    }
+
+    static final class Entry {
+        private final String key;
+        private final String fingerprint;
+        private final long expiresAt;
+        // completed with null when the attempt was abandoned
+        final CompletableFuture<StoredResponse> response = new CompletableFuture<>();
+
+        private Entry(String key, String fingerprint, long expiresAt) {
+            this.key = key;
+            this.fingerprint = fingerprint;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.diegobrsantosdev.user_registration_application.idempotency;
+
+import java.util.List;
+import java.util.Map;
+
+// what a replay writes back: status, content type, the other response headers and the body bytes
+public record StoredResponse(
+        int status,
+        String contentType,
+        Map<String, List<String>> headers,
+        byte[] body
+) {
+}
@@ -2,12 +2,32 @@ package com.diegobrsantosdev.user_registration_application.mappers;
 
 import com.diegobrsantosdev.user_registration_application.dtos.UserRegisterDTO;
 import com.diegobrsantosdev.user_registration_application.dtos.UserUpdateDTO;
+import com.diegobrsantosdev.user_registration_application.exceptions.InvalidDataException;
 import com.diegobrsantosdev.user_registration_application.models.User;
+import com.diegobrsantosdev.user_registration_application.shared.JsonMergePatch;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
 @Component
+@RequiredArgsConstructor
 public class UserMapper {
 
+    private static final Set<String> PATCHABLE_FIELDS = Arrays.stream(UserUpdateDTO.class.getRecordComponents())
+            .map(component -> component.getName())
+            .collect(Collectors.toUnmodifiableSet());
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
     public User toEntity(UserRegisterDTO dto) {
         if (dto == null) return null;
 
@@ -51,6 +71,91 @@ public class UserMapper {
         user.setTermsAccepted(dto.termsAccepted());
     }
 
+    public UserUpdateDTO toUpdateDto(User user) {
+        return new UserUpdateDTO(
+                user.getName(),
+                user.getEmail(),
+                user.getCpf(),
+                user.getRg(),
+                user.getPhone(),
+                user.getAddress(),
+                user.getNumber(),
+                user.getComplement(),
+                user.getNeighborhood(),
+                user.getCity(),
+                user.getState(),
+                user.getZipCode(),
+                user.getGender(),
+                user.getDateOfBirth(),
+                user.getProfilePictureUrl(),
+                user.getTermsAccepted()
+        );
+    }
+
+    // merges the patch over the current values and validates the result, the entity is not touched
+    public UserUpdateDTO mergePatch(User user, JsonNode patch) {
+        if (patch == null || !patch.isObject()) {
+            throw new InvalidDataException("Merge patch must be a JSON object");
+        }
+
+        List<String> unknown = new ArrayList<>();
+        patch.fieldNames().forEachRemaining(field -> {
+            if (!PATCHABLE_FIELDS.contains(field)) unknown.add(field);
+        });
+        if (!unknown.isEmpty()) {
+            throw new InvalidDataException("Fields cannot be patched: " + String.join(", ", unknown));
+        }
+
+        JsonNode merged = JsonMergePatch.apply(objectMapper.valueToTree(toUpdateDto(user)), patch);
+
+        UserUpdateDTO patched;
+        try {
+            patched = objectMapper.treeToValue(merged, UserUpdateDTO.class);
+        } catch (JsonProcessingException e) {
+            throw new InvalidDataException("Invalid patch: " + e.getOriginalMessage());
+        }
+
+        Set<ConstraintViolation<UserUpdateDTO>> violations = validator.validate(patched);
+        if (!violations.isEmpty()) {
+            StringBuilder sb = new StringBuilder();
+            violations.forEach(violation -> sb.append(violation.getPropertyPath())
+                    .append(": ")
+                    .append(violation.getMessage())
+                    .append("; "));
+            throw new InvalidDataException(sb.toString());
+        }
+        return patched;
+    }
+
+    // only fields whose value differs are set, returns their names
+    public Set<String> applyChanges(User user, UserUpdateDTO dto) {
+        Set<String> changed = new LinkedHashSet<>();
+        apply(changed, "name", user.getName(), dto.name(), user::setName);
+        apply(changed, "email", user.getEmail(), dto.email(), user::setEmail);
+        apply(changed, "cpf", user.getCpf(), dto.cpf(), user::setCpf);
+        apply(changed, "rg", user.getRg(), dto.rg(), user::setRg);
+        apply(changed, "phone", user.getPhone(), dto.phone(), user::setPhone);
+        apply(changed, "address", user.getAddress(), dto.address(), user::setAddress);
+        apply(changed, "number", user.getNumber(), dto.number(), user::setNumber);
+        apply(changed, "complement", user.getComplement(), dto.complement(), user::setComplement);
+        apply(changed, "neighborhood", user.getNeighborhood(), dto.neighborhood(), user::setNeighborhood);
+        apply(changed, "city", user.getCity(), dto.city(), user::setCity);
+        apply(changed, "state", user.getState(), dto.state(), user::setState);
+        apply(changed, "zipCode", user.getZipCode(), dto.zipCode(), user::setZipCode);
+        apply(changed, "gender", user.getGender(), dto.gender(), user::setGender);
+        apply(changed, "dateOfBirth", user.getDateOfBirth(), dto.dateOfBirth(), user::setDateOfBirth);
+        apply(changed, "profilePictureUrl", user.getProfilePictureUrl(), dto.profilePictureUrl(), user::setProfilePictureUrl);
+        apply(changed, "termsAccepted", user.getTermsAccepted(), dto.termsAccepted(), user::setTermsAccepted);
+        return changed;
+    }
+
+    private <T> void apply(Set<String> changed, String field, T current, T value, Consumer<T> setter) {
+        if (!Objects.equals(current, value)) {
+            setter.accept(value);
+            changed.add(field);
+        }
+    }
+
     //password must be set and cryptographed out of mapper
 
 
@@ -0,0 +1,68 @@
+package com.diegobrsantosdev.user_registration_application.models;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Holds email, CPF and RG of an async registration while it is hashed and persisted.
+ * The unique indexes make the reservation atomic across instances; the keys are cleared once the
+ * registration finishes (the users table enforces them from then on) so a failed attempt frees them.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "registration_reservations", indexes = @Index(name = "idx_reservation_status_created", columnList = "status, created_at"))
+public class RegistrationReservation {
+
+    @Id
+    @Column(name = "id", length = 36)
+    private String id;
+
+    @Column(name = "email", unique = true)
+    private String email;
+
+    @Column(name = "cpf", unique = true, length = 11)
+    private String cpf;
+
+    @Column(name = "rg", unique = true)
+    private String rg;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 16)
+    private RegistrationStatus status;
+
+    @Column(name = "user_id")
+    private Integer userId;
+
+    @Column(name = "message")
+    private String message;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+
+    public void complete(Integer userId) {
+        finish(RegistrationStatus.COMPLETED, "Registration completed. Log in to get a token.");
+        this.userId = userId;
+    }
+
+    public void fail(String message) {
+        finish(RegistrationStatus.FAILED, message);
+    }
+
+    private void finish(RegistrationStatus status, String message) {
+        this.status = status;
+        this.message = message;
+        this.completedAt = Instant.now();
+        this.email = null;
+        this.cpf = null;
+        this.rg = null;
+    }
+}
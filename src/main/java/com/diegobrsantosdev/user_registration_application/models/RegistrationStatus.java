@@ -0,0 +1,7 @@
+package com.diegobrsantosdev.user_registration_application.models;
+
+public enum RegistrationStatus {
+    PENDING,
+    COMPLETED,
+    FAILED
+}
@@ -1,7 +1,11 @@
 package com.diegobrsantosdev.user_registration_application.models;
+import com.diegobrsantosdev.user_registration_application.converters.CepConverter;
+import com.diegobrsantosdev.user_registration_application.converters.CpfConverter;
+import com.diegobrsantosdev.user_registration_application.converters.PhoneConverter;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -19,6 +23,7 @@ import jakarta.persistence.FetchType;
 @Builder
 @Table(name = "users")
 @Entity
+@DynamicUpdate
 public class User {
 
     @Id
@@ -34,13 +39,15 @@ public class User {
     @Column(name = "password", nullable = false)
     private String password;
 
-    @Column(name = "cpf", unique = true, nullable = false, length = 11)
+    @Convert(converter = CpfConverter.class)
+    @Column(name = "cpf", unique = true, nullable = false)
     private String cpf;
 
     @Column(name = "rg",unique = true, nullable = false)
     private String rg;
 
-    @Column(name = "phone", nullable = false, length = 15)
+    @Convert(converter = PhoneConverter.class)
+    @Column(name = "phone", nullable = false)
     private String phone;
 
     @Column(name = "address")
@@ -61,7 +68,8 @@ public class User {
     @Column(name = "state", nullable = false, length = 2)
     private String state;
 
-    @Column(name = "zip_code", nullable = false, length = 8)
+    @Convert(converter = CepConverter.class)
+    @Column(name = "zip_code", nullable = false)
     private String zipCode;
 
     @Column(name = "gender",nullable = false)
@@ -85,6 +93,10 @@ public class User {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @ElementCollection(fetch = FetchType.EAGER)
     @CollectionTable(name = "user_roles", joinColumns = @JoinColumn(name = "user_id"))
     @Enumerated(EnumType.STRING)
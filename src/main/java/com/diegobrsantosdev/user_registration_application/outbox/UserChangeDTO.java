@@ -0,0 +1,29 @@
+package com.diegobrsantosdev.user_registration_application.outbox;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.Instant;
+import java.util.List;
+
+public record UserChangeDTO(
+        long sequence,
+        UserChangeType type,
+        Integer userId,
+        List<String> changedFields,
+        // stored JSON, written out as-is instead of being parsed and serialized again
+        @JsonRawValue
+        String user,
+        Instant occurredAt
+) {
+    public static UserChangeDTO fromEntity(UserOutboxEvent event) {
+        String fields = event.getChangedFields();
+        return new UserChangeDTO(
+                event.getSequence(),
+                event.getType(),
+                event.getUserId(),
+                fields == null || fields.isEmpty() ? List.of() : List.of(fields.split(",")),
+                event.getPayload(),
+                event.getOccurredAt()
+        );
+    }
+}
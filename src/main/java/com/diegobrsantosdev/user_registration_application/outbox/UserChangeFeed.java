@@ -0,0 +1,242 @@
+package com.diegobrsantosdev.user_registration_application.outbox;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Incremental reads of user_outbox: plain pages, long polls and SSE streams.
+ * <p>
+ * Waiting consumers are woken by {@link UserChangedEvent} after a local commit, and by a cheap max(sequence)
+ * check for commits made on other instances. One dispatcher thread serves every waiter, and waiters parked
+ * on the same sequence share a single query.
+ */
+@Slf4j
+@Component
+public class UserChangeFeed {
+
+    private final UserOutboxRepository outboxRepository;
+    private final int defaultLimit;
+    private final int maxLimit;
+    private final long maxWaitMs;
+    private final long sseTimeoutMs;
+    private final TransactionTemplate readTransaction;
+
+    private final Set<Waiter> waiters = ConcurrentHashMap.newKeySet();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong latestSequence = new AtomicLong();
+    private final AtomicBoolean deliveryScheduled = new AtomicBoolean();
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(
+            runnable -> new Thread(runnable, "user-change-feed"));
+
+    public UserChangeFeed(UserOutboxRepository outboxRepository,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${app.outbox.default-limit:100}") int defaultLimit,
+                          @Value("${app.outbox.max-limit:500}") int maxLimit,
+                          @Value("${app.outbox.max-wait-ms:30000}") long maxWaitMs,
+                          @Value("${app.outbox.sse-timeout-ms:1800000}") long sseTimeoutMs) {
+        this.outboxRepository = outboxRepository;
+        this.defaultLimit = defaultLimit;
+        this.maxLimit = maxLimit;
+        this.maxWaitMs = maxWaitMs;
+        this.sseTimeoutMs = sseTimeoutMs;
+        // not read-only on purpose: a replica could still be behind the commit that woke the waiter,
+        // and the empty page would leave it parked with latestSequence already past the change
+        this.readTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    void init() {
+        latestSequence.set(findLastSequence());
+    }
+
+    public UserChangesDTO read(long after, Integer limit) {
+        int pageSize = clamp(limit);
+        List<UserOutboxEvent> events = readTransaction.execute(status ->
+                outboxRepository.findBySequenceGreaterThanOrderBySequenceAsc(after, Limit.of(pageSize + 1)));
+        if (events.isEmpty()) {
+            return UserChangesDTO.empty(after);
+        }
+
+        List<UserChangeDTO> changes = events.stream()
+                .limit(pageSize)
+                .map(UserChangeDTO::fromEntity)
+                .toList();
+        // sequences are gap-free, so a jump means the retention purge already removed what came right after
+        boolean gap = changes.getFirst().sequence() != after + 1;
+        return new UserChangesDTO(changes, changes.getLast().sequence(), events.size() > pageSize, gap);
+    }
+
+    public DeferredResult<UserChangesDTO> poll(long after, Integer limit, long waitMs) {
+        long timeout = Math.min(Math.max(waitMs, 0), maxWaitMs);
+        DeferredResult<UserChangesDTO> result = new DeferredResult<>(timeout > 0 ? timeout : null,
+                () -> UserChangesDTO.empty(after));
+
+        UserChangesDTO page = read(after, limit);
+        if (timeout == 0 || !page.changes().isEmpty()) {
+            result.setResult(page);
+            return result;
+        }
+
+        Waiter waiter = new Waiter(after, clamp(limit), result);
+        waiters.add(waiter);
+        result.onCompletion(() -> waiters.remove(waiter));
+        // a commit between the read and the registration above would otherwise wait for the next one
+        if (latestSequence.get() > after) {
+            scheduleDelivery();
+        }
+        return result;
+    }
+
+    public SseEmitter subscribe(long after) {
+        SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, after);
+        subscribers.add(subscriber);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+        // replays the backlog from the outbox before switching to live changes
+        scheduleDelivery();
+        return emitter;
+    }
+
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        latestSequence.accumulateAndGet(event.sequence(), Math::max);
+        scheduleDelivery();
+    }
+
+    // picks up commits from other instances; skipped while nobody is waiting
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:1000}")
+    public void checkForChanges() {
+        if (waiters.isEmpty() && subscribers.isEmpty()) {
+            return;
+        }
+        long last = findLastSequence();
+        if (last > latestSequence.getAndAccumulate(last, Math::max)) {
+            scheduleDelivery();
+        }
+    }
+
+    public int waiting() {
+        return waiters.size() + subscribers.size();
+    }
+
+    private long findLastSequence() {
+        return readTransaction.execute(status -> outboxRepository.findLastSequence());
+    }
+
+    private void scheduleDelivery() {
+        if (deliveryScheduled.compareAndSet(false, true)) {
+            dispatcher.execute(this::deliver);
+        }
+    }
+
+    private void deliver() {
+        deliveryScheduled.set(false);
+        long latest = latestSequence.get();
+        Map<Long, UserChangesDTO> pages = new HashMap<>();
+        boolean more = false;
+
+        try {
+            for (Waiter waiter : waiters) {
+                if (waiter.after() >= latest) {
+                    continue;
+                }
+                UserChangesDTO page = pages.computeIfAbsent(waiter.after(), after -> read(after, maxLimit));
+                if (!page.changes().isEmpty()) {
+                    waiter.result().setResult(trim(page, waiter.limit()));
+                }
+            }
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.cursor >= latest) {
+                    continue;
+                }
+                UserChangesDTO page = pages.computeIfAbsent(subscriber.cursor, after -> read(after, maxLimit));
+                send(subscriber, page);
+                more |= page.hasMore();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Change feed delivery failed, retrying on the next change or poll", e);
+        }
+
+        // a stream replaying a long backlog gets the rest in further passes
+        if (more) {
+            scheduleDelivery();
+        }
+    }
+
+    // runs on the dispatcher thread only, so a subscriber never sees two sends at once
+    private void send(Subscriber subscriber, UserChangesDTO page) {
+        try {
+            if (page.gap()) {
+                subscriber.emitter.send(SseEmitter.event().name("gap").data(subscriber.cursor));
+            }
+            for (UserChangeDTO change : page.changes()) {
+                subscriber.emitter.send(SseEmitter.event()
+                        .id(Long.toString(change.sequence()))
+                        .name("change")
+                        .data(change, MediaType.APPLICATION_JSON));
+                subscriber.cursor = change.sequence();
+            }
+        } catch (IOException | IllegalStateException e) {
+            subscribers.remove(subscriber);
+            subscriber.emitter.completeWithError(e);
+        }
+    }
+
+    private UserChangesDTO trim(UserChangesDTO page, int limit) {
+        if (page.changes().size() <= limit) {
+            return page;
+        }
+        List<UserChangeDTO> changes = page.changes().subList(0, limit);
+        return new UserChangesDTO(changes, changes.getLast().sequence(), true, page.gap());
+    }
+
+    private int clamp(Integer limit) {
+        if (limit == null) {
+            return defaultLimit;
+        }
+        return Math.min(Math.max(limit, 1), maxLimit);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        dispatcher.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    private record Waiter(long after, int limit, DeferredResult<UserChangesDTO> result) {
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private volatile long cursor;
+
+        private Subscriber(SseEmitter emitter, long cursor) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.diegobrsantosdev.user_registration_application.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/v1/admin/users/changes")
+@RequiredArgsConstructor
+public class UserChangeFeedController {
+
+    private final UserChangeFeed changeFeed;
+
+    // waitMs > 0 turns the call into a long poll that returns as soon as a change after `after` commits
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public DeferredResult<UserChangesDTO> changes(
+            @RequestParam(defaultValue = "0") long after,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "0") long waitMs) {
+        return changeFeed.poll(after, limit, waitMs);
+    }
+
+    // event ids are outbox sequences, so a reconnecting EventSource resumes through Last-Event-ID
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public SseEmitter stream(
+            @RequestParam(required = false) Long after,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return changeFeed.subscribe(lastEventId != null ? lastEventId : after != null ? after : 0L);
+    }
+}
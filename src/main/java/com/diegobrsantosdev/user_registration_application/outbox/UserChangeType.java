@@ -0,0 +1,8 @@
+package com.diegobrsantosdev.user_registration_application.outbox;
+
+public enum UserChangeType {
+    CREATED,
+    UPDATED,
+    PROMOTED,
+    DELETED
+}
@@ -0,0 +1,25 @@
+package com.diegobrsantosdev.user_registration_application.outbox;
+
+import com.diegobrsantosdev.user_registration_application.dtos.UserResponseDTO;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Published after the transaction that wrote the outbox row commits, never for a rollback.
+ * before is null for CREATED and after is null for DELETED.
+ */
+public record UserChangedEvent(
+        long sequence,
+        UserChangeType type,
+        Integer userId,
+        UserResponseDTO before,
+        UserResponseDTO after,
+        List<String> changedFields,
+        Instant occurredAt
+) {
+    // the state the change left behind, or the last known one for a deletion
+    public UserResponseDTO current() {
+        return after != null ? after : before;
+    }
+}
@@ -0,0 +1,19 @@
+package com.diegobrsantosdev.user_registration_application.outbox;
+
+import java.util.List;
+
+/**
+ * One page of the change feed. Pass lastSequence as the next after.
+ * gap is true when changes right after the requested sequence were already purged:
+ * the consumer has to resync from GET /api/v1/admin/users and continue from lastSequence.
+ */
+public record UserChangesDTO(
+        List<UserChangeDTO> changes,
+        long lastSequence,
+        boolean hasMore,
+        boolean gap
+) {
+    public static UserChangesDTO empty(long after) {
+        return new UserChangesDTO(List.of(), after, false, false);
+    }
+}
@@ -0,0 +1,123 @@
+package com.diegobrsantosdev.user_registration_application.outbox;
+
+import com.diegobrsantosdev.user_registration_application.dtos.UserResponseDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Writes user lifecycle changes to user_outbox inside the caller's transaction and publishes a
+ * {@link UserChangedEvent} once it commits.
+ * <p>
+ * Sequences come from a locked counter row, so a writer holds the lock from {@link #record} until commit
+ * and sequence order is commit order: a consumer that has read up to N never sees a lower number show up later.
+ * Call it as the last step of the write so the lock is held only for the commit.
+ */
+@Slf4j
+@Component
+public class UserOutbox {
+
+    private final UserOutboxRepository outboxRepository;
+    private final UserOutboxSequenceRepository sequenceRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+
+    public UserOutbox(UserOutboxRepository outboxRepository,
+                      UserOutboxSequenceRepository sequenceRepository,
+                      ObjectMapper objectMapper,
+                      ApplicationEventPublisher eventPublisher,
+                      PlatformTransactionManager transactionManager,
+                      @Value("${app.outbox.retention-days:7}") long retentionDays) {
+        this.outboxRepository = outboxRepository;
+        this.sequenceRepository = sequenceRepository;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retention = Duration.ofDays(retentionDays);
+    }
+
+    @PostConstruct
+    void initCounter() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!sequenceRepository.existsById(UserOutboxSequence.ID)) {
+                    sequenceRepository.saveAndFlush(new UserOutboxSequence(UserOutboxSequence.ID, outboxRepository.findLastSequence()));
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            // another instance created the row first
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long record(UserChangeType type, UserResponseDTO before, UserResponseDTO after) {
+        UserResponseDTO current = after != null ? after : before;
+        List<String> changedFields = type == UserChangeType.UPDATED || type == UserChangeType.PROMOTED
+                ? UserSnapshots.changedFields(before, after)
+                : List.of();
+
+        UserOutboxSequence counter = sequenceRepository.lockCounter()
+                .orElseThrow(() -> new IllegalStateException("user_outbox_sequence is not initialized"));
+        long sequence = counter.getLastValue() + 1;
+        counter.setLastValue(sequence);
+
+        Instant now = Instant.now();
+        outboxRepository.save(UserOutboxEvent.builder()
+                .sequence(sequence)
+                .userId(current.id())
+                .type(type)
+                .changedFields(String.join(",", changedFields))
+                .payload(toJson(current))
+                .occurredAt(now)
+                .build());
+
+        UserChangedEvent event = new UserChangedEvent(sequence, type, current.id(), before, after, changedFields, now);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                // the write is committed: a failing listener must not turn it into an error for the caller
+                try {
+                    eventPublisher.publishEvent(event);
+                } catch (RuntimeException e) {
+                    log.error("User change listener failed for sequence {}", sequence, e);
+                }
+            }
+        });
+        return sequence;
+    }
+
+    // consumers further behind than the retention get gap=true and resync from the full list
+    @Scheduled(fixedDelayString = "${app.outbox.purge-interval-ms:3600000}")
+    public void purge() {
+        int deleted = outboxRepository.deleteOccurredBefore(Instant.now().minus(retention));
+        if (deleted > 0) {
+            log.info("Purged {} user outbox events older than {}", deleted, retention);
+        }
+    }
+
+    private String toJson(UserResponseDTO user) {
+        try {
+            return objectMapper.writeValueAsString(user);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize user " + user.id(), e);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.diegobrsantosdev.user_registration_application.outbox;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * One user lifecycle change, written in the same transaction as the change itself.
+ * The sequence comes from {@link UserOutboxSequence} and is gap-free and in commit order.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Table(name = "user_outbox", indexes = @Index(name = "idx_user_outbox_occurred_at", columnList = "occurred_at"))
+@Entity
+public class UserOutboxEvent {
+
+    @Id
+    @Column(name = "sequence")
+    private Long sequence;
+
+    @Column(name = "user_id", nullable = false)
+    private Integer userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 16)
+    private UserChangeType type;
+
+    // comma-separated UserResponseDTO field names, empty for CREATED and DELETED
+    @Column(name = "changed_fields", length = 512)
+    private String changedFields;
+
+    // UserResponseDTO as JSON: the state after the change, or the last state for DELETED
+    @Lob
+    @Column(name = "payload", nullable = false)
+    private String payload;
+
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+}
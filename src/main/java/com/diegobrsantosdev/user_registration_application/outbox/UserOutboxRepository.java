@@ -0,0 +1,26 @@
+package com.diegobrsantosdev.user_registration_application.outbox;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface UserOutboxRepository extends JpaRepository<UserOutboxEvent, Long> {
+
+    List<UserOutboxEvent> findBySequenceGreaterThanOrderBySequenceAsc(long sequence, Limit limit);
+
+    @Query("select coalesce(max(e.sequence), 0) from UserOutboxEvent e")
+    long findLastSequence();
+
+    @Modifying
+    @Transactional
+    @Query("delete from UserOutboxEvent e where e.occurredAt < :before")
+    int deleteOccurredBefore(@Param("before") Instant before);
+}
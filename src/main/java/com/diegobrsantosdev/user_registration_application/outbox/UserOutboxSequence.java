@@ -0,0 +1,23 @@
+package com.diegobrsantosdev.user_registration_application.outbox;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// single-row counter; its row lock is what keeps outbox sequences in commit order
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "user_outbox_sequence")
+@Entity
+public class UserOutboxSequence {
+
+    public static final int ID = 1;
+
+    @Id
+    @Column(name = "id")
+    private Integer id;
+
+    @Column(name = "last_value", nullable = false)
+    private long lastValue;
+}
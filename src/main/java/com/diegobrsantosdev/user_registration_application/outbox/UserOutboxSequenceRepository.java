@@ -0,0 +1,18 @@
+package com.diegobrsantosdev.user_registration_application.outbox;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface UserOutboxSequenceRepository extends JpaRepository<UserOutboxSequence, Integer> {
+
+    // SELECT ... FOR UPDATE, held until the writing transaction commits or rolls back
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from UserOutboxSequence s where s.id = " + UserOutboxSequence.ID)
+    Optional<UserOutboxSequence> lockCounter();
+}
@@ -0,0 +1,64 @@
+package com.diegobrsantosdev.user_registration_application.outbox;
+
+import com.diegobrsantosdev.user_registration_application.dtos.UserResponseDTO;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// field-by-field access to UserResponseDTO snapshots, by record component name
+final class UserSnapshots {
+
+    // updatedAt and version change on every write, they are not a field the user changed
+    private static final Set<String> IGNORED_FIELDS = Set.of("updatedAt", "version");
+    private static final Map<String, Method> FIELDS = Arrays.stream(UserResponseDTO.class.getRecordComponents())
+            .filter(component -> !IGNORED_FIELDS.contains(component.getName()))
+            .collect(Collectors.toMap(RecordComponent::getName, RecordComponent::getAccessor,
+                    (first, second) -> first, LinkedHashMap::new));
+
+    private UserSnapshots() {
+    }
+
+    static List<String> changedFields(UserResponseDTO before, UserResponseDTO after) {
+        if (before == null || after == null) {
+            return List.of();
+        }
+        List<String> changed = new ArrayList<>();
+        for (Map.Entry<String, Method> field : FIELDS.entrySet()) {
+            if (!Objects.equals(read(field.getValue(), before), read(field.getValue(), after))) {
+                changed.add(field.getKey());
+            }
+        }
+        return changed;
+    }
+
+    // unknown names are skipped; null values are kept so a cleared field shows up as null
+    static Map<String, Object> values(UserResponseDTO user, Collection<String> fields) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (String field : fields) {
+            Method accessor = FIELDS.get(field);
+            if (accessor != null) {
+                values.put(field, read(accessor, user));
+            }
+        }
+        return values;
+    }
+
+    private static Object read(Method accessor, UserResponseDTO user) {
+        try {
+            return accessor.invoke(user);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.diegobrsantosdev.user_registration_application.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+// live dashboard events; integrations that must not miss a change use /changes/stream, which replays from the outbox
+@RestController
+@RequestMapping("/api/v1/admin/users/stream")
+@RequiredArgsConstructor
+public class UserStreamController {
+
+    private final UserStreamHub streamHub;
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public SseEmitter stream() {
+        return streamHub.subscribe();
+    }
+}
@@ -0,0 +1,17 @@
+package com.diegobrsantosdev.user_registration_application.outbox;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Compact dashboard event: only the fields that changed (a short summary for CREATED, nothing for DELETED).
+ * sequence is the outbox sequence, so a dashboard that got evicted can catch up through /changes?after=sequence.
+ */
+public record UserStreamEventDTO(
+        long sequence,
+        UserChangeType type,
+        Integer userId,
+        Map<String, Object> fields,
+        Instant occurredAt
+) {
+}
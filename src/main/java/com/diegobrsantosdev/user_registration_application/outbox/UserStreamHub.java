@@ -0,0 +1,202 @@
+package com.diegobrsantosdev.user_registration_application.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process fan-out of {@link UserChangedEvent} to the admin dashboard streams.
+ * <p>
+ * Each change is serialized once into an SSE frame and the same frame is queued for every subscriber.
+ * Subscribers have a bounded buffer drained by their own virtual thread; one that falls a full buffer behind
+ * is evicted rather than slowing the writer or growing the heap. Nothing here touches the database.
+ */
+@Slf4j
+@Component
+public class UserStreamHub implements MeterBinder {
+
+    private static final List<String> CREATED_FIELDS = List.of("name", "email", "city", "state", "roles");
+
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long timeoutMs;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService writers = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong evicted = new AtomicLong();
+
+    public UserStreamHub(ObjectMapper objectMapper,
+                         @Value("${app.users-stream.buffer-size:256}") int bufferSize,
+                         @Value("${app.users-stream.max-subscribers:10000}") int maxSubscribers,
+                         @Value("${app.users-stream.timeout-ms:1800000}") long timeoutMs) {
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMs = timeoutMs;
+    }
+
+    // past the limit the request gets 503 through the RejectedExecutionException handler
+    public SseEmitter subscribe() {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new RejectedExecutionException("Too many open user streams.");
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, new ArrayBlockingQueue<>(bufferSize));
+        subscribers.add(subscriber);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+        return emitter;
+    }
+
+    // runs in the committing thread: one serialization, then one non-blocking offer per subscriber
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        Set<DataWithMediaType> frame = SseEmitter.event()
+                .id(Long.toString(event.sequence()))
+                .name(event.type().name().toLowerCase(Locale.ROOT))
+                .data(toJson(compact(event)))
+                .build();
+        published.incrementAndGet();
+        publish(frame);
+    }
+
+    // keeps idle connections open through proxies and finds clients that went away
+    @Scheduled(fixedDelayString = "${app.users-stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        if (!subscribers.isEmpty()) {
+            publish(SseEmitter.event().comment("keepalive").build());
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    public long evictedCount() {
+        return evicted.get();
+    }
+
+    public long publishedCount() {
+        return published.get();
+    }
+
+    static UserStreamEventDTO compact(UserChangedEvent event) {
+        Map<String, Object> fields = switch (event.type()) {
+            case CREATED -> UserSnapshots.values(event.after(), CREATED_FIELDS);
+            case UPDATED, PROMOTED -> UserSnapshots.values(event.after(), event.changedFields());
+            case DELETED -> Map.of();
+        };
+        return new UserStreamEventDTO(event.sequence(), event.type(), event.userId(), fields, event.occurredAt());
+    }
+
+    private void publish(Set<DataWithMediaType> frame) {
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.buffer.offer(frame)) {
+                evict(subscriber);
+            } else if (subscriber.draining.compareAndSet(false, true)) {
+                writers.execute(() -> drain(subscriber));
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            do {
+                Set<DataWithMediaType> frame;
+                while ((frame = subscriber.buffer.poll()) != null) {
+                    subscriber.emitter.send(frame);
+                }
+                subscriber.draining.set(false);
+                // an offer that landed after the last poll saw draining=true and left the frame to this thread
+            } while (!subscriber.buffer.isEmpty() && subscriber.draining.compareAndSet(false, true));
+        } catch (IOException | IllegalStateException e) {
+            // the client went away or the emitter already completed
+            subscribers.remove(subscriber);
+            subscriber.emitter.completeWithError(e);
+        }
+    }
+
+    // the client reconnects (EventSource does it on its own) and catches up from the change feed.
+    // complete() waits for the emitter's write lock, which a drain stuck on a slow socket holds,
+    // so it runs on a writer thread and the committing thread only drops the subscriber
+    private void evict(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            evicted.incrementAndGet();
+            subscriber.buffer.clear();
+            try {
+                writers.execute(subscriber.emitter::complete);
+            } catch (RejectedExecutionException e) {
+                // shutting down, the container closes the remaining connections
+            }
+        }
+    }
+
+    private String toJson(UserStreamEventDTO event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize user change " + event.sequence(), e);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("app.users.stream.subscribers", this, UserStreamHub::subscriberCount)
+                .description("Open admin user streams")
+                .register(registry);
+        FunctionCounter.builder("app.users.stream.evictions", this, UserStreamHub::evictedCount)
+                .description("Streams closed because the client fell a full buffer behind")
+                .register(registry);
+        FunctionCounter.builder("app.users.stream.events", this, UserStreamHub::publishedCount)
+                .description("User changes fanned out to the open streams")
+                .register(registry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        writers.shutdownNow();
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter, BlockingQueue<Set<DataWithMediaType>> buffer) {
+            this.emitter = emitter;
+            this.buffer = buffer;
+        }
+    }
+}
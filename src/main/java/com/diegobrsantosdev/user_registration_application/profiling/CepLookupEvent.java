@@ -0,0 +1,14 @@
+package com.diegobrsantosdev.user_registration_application.profiling;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.diegobrsantosdev.userreg.CepLookup")
+@Label("CEP Lookup")
+@Description("CEP resolved from the persistent cache or the ViaCep API")
+public class CepLookupEvent extends ProfilingEvent {
+
+    @Label("CEP")
+    public String cep;
+}
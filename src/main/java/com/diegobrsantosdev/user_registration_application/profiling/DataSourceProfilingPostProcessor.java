@@ -0,0 +1,25 @@
+package com.diegobrsantosdev.user_registration_application.profiling;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application datasource (the bean named "dataSource") with a statement-timing proxy.
+ * Other DataSource beans, such as the replica router behind it, are left alone so statements are not counted twice.
+ */
+public class DataSourceProfilingPostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+            return bean;
+        }
+        return ProxyDataSourceBuilder.create(dataSource)
+                .name("profiled")
+                .listener(new StatementTimingListener())
+                .build();
+    }
+}
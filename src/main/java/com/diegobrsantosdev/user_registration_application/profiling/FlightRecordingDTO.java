@@ -0,0 +1,14 @@
+package com.diegobrsantosdev.user_registration_application.profiling;
+
+import java.time.Instant;
+
+public record FlightRecordingDTO(
+        long id,
+        String name,
+        String state,
+        String settings,
+        Instant startTime,
+        Instant stopTime,
+        long sizeBytes
+) {
+}
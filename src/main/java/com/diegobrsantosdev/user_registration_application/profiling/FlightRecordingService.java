@@ -0,0 +1,123 @@
+package com.diegobrsantosdev.user_registration_application.profiling;
+
+import com.diegobrsantosdev.user_registration_application.exceptions.IllegalActionException;
+import com.diegobrsantosdev.user_registration_application.exceptions.ResourceNotFoundException;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+
+/**
+ * Starts and stops one in-process flight recording at a time.
+ * A stopped recording is kept until the next one starts, so it can still be downloaded.
+ * Every download is dumped to its own temp file, which the caller deletes once it has been sent.
+ */
+@Slf4j
+@Service
+public class FlightRecordingService {
+
+    private final Duration maxAge;
+    private final long maxSizeBytes;
+
+    private Recording recording;
+
+    public FlightRecordingService(@Value("${app.profiling.jfr.max-age-minutes:30}") long maxAgeMinutes,
+                                  @Value("${app.profiling.jfr.max-size-mb:100}") long maxSizeMb) {
+        this.maxAge = Duration.ofMinutes(maxAgeMinutes);
+        this.maxSizeBytes = maxSizeMb * 1024 * 1024;
+    }
+
+    // settings is a JDK configuration name: "default" (~1% overhead) or "profile" (~2%, adds method sampling)
+    public synchronized FlightRecordingDTO start(String settings) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            throw new IllegalActionException("A recording is already running");
+        }
+
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(settings);
+        } catch (IOException | ParseException e) {
+            throw new IllegalArgumentException("Unknown JFR settings: " + settings);
+        }
+
+        discard();
+        recording = new Recording(configuration);
+        recording.setName("user-registration-" + System.currentTimeMillis());
+        recording.setToDisk(true);
+        recording.setMaxAge(maxAge);
+        recording.setMaxSize(maxSizeBytes);
+        recording.start();
+        log.info("Flight recording {} started with '{}' settings", recording.getId(), settings);
+        return toDto(recording, settings);
+    }
+
+    public synchronized FlightRecordingDTO stop() {
+        if (recording == null || recording.getState() != RecordingState.RUNNING) {
+            throw new IllegalActionException("No recording is running");
+        }
+
+        recording.stop();
+        log.info("Flight recording {} stopped, {} bytes written", recording.getId(), recording.getSize());
+        return toDto(recording, null);
+    }
+
+    public synchronized FlightRecordingDTO status() {
+        if (recording == null) {
+            throw new ResourceNotFoundException("No recording has been started");
+        }
+        return toDto(recording, null);
+    }
+
+    // a running recording is snapshotted, a stopped one dumped whole; the file belongs to the caller
+    public synchronized Path download() {
+        if (recording == null) {
+            throw new ResourceNotFoundException("No recording has been started");
+        }
+        return dump(recording);
+    }
+
+    private Path dump(Recording source) {
+        try {
+            Path file = Files.createTempFile(source.getName() + "-", ".jfr");
+            file.toFile().deleteOnExit();
+            source.dump(file);
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write the flight recording", e);
+        }
+    }
+
+    private void discard() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private FlightRecordingDTO toDto(Recording source, String settings) {
+        return new FlightRecordingDTO(
+                source.getId(),
+                source.getName(),
+                source.getState().name(),
+                settings,
+                source.getStartTime(),
+                source.getStopTime(),
+                source.getSize()
+        );
+    }
+
+    @PreDestroy
+    synchronized void shutdown() {
+        discard();
+    }
+}
@@ -0,0 +1,11 @@
+package com.diegobrsantosdev.user_registration_application.profiling;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.diegobrsantosdev.userreg.JwtVerification")
+@Label("JWT Verification")
+@Description("Bearer token signature and expiry check in the JWT filter")
+public class JwtVerificationEvent extends ProfilingEvent {
+}
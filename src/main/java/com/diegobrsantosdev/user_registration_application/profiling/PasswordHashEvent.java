@@ -0,0 +1,14 @@
+package com.diegobrsantosdev.user_registration_application.profiling;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.diegobrsantosdev.userreg.PasswordHash")
+@Label("Password Hash")
+@Description("BCrypt encode or match in AuthService")
+public class PasswordHashEvent extends ProfilingEvent {
+
+    @Label("Operation")
+    public String operation;
+}
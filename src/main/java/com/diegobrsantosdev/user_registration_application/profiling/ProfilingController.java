@@ -0,0 +1,90 @@
+package com.diegobrsantosdev.user_registration_application.profiling;
+
+import com.diegobrsantosdev.user_registration_application.exceptions.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/admin/profiling")
+@RequiredArgsConstructor
+public class ProfilingController {
+
+    private final FlightRecordingService flightRecordingService;
+    private final SlowRequestLog slowRequestLog;
+    private final ObjectProvider<VirtualThreadPinningMonitor> pinningMonitor;
+
+    @PostMapping("/recording/start")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<FlightRecordingDTO> start(@RequestParam(defaultValue = "default") String settings) {
+        return ResponseEntity.ok(flightRecordingService.start(settings));
+    }
+
+    @PostMapping("/recording/stop")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<FlightRecordingDTO> stop() {
+        return ResponseEntity.ok(flightRecordingService.stop());
+    }
+
+    @GetMapping("/recording")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<FlightRecordingDTO> status() {
+        return ResponseEntity.ok(flightRecordingService.status());
+    }
+
+    @GetMapping("/recording/download")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> download() {
+        Path file = flightRecordingService.download();
+        // the dump is this request's own copy, gone once it has been written or the client went away
+        StreamingResponseBody body = out -> {
+            try {
+                Files.copy(file, out);
+            } finally {
+                deleteQuietly(file);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(file.getFileName().toString()).build().toString())
+                .body(body);
+    }
+
+    @GetMapping("/slow-requests")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<SlowRequestLog.SlowRequest>> slowRequests() {
+        return ResponseEntity.ok(slowRequestLog.recent());
+    }
+
+    @GetMapping("/virtual-threads")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<VirtualThreadPinningMonitor.PinningReport> virtualThreads() {
+        VirtualThreadPinningMonitor monitor = pinningMonitor.getIfAvailable();
+        if (monitor == null) {
+            throw new ResourceNotFoundException("Pinning monitor is disabled (app.profiling.pinning.enabled)");
+        }
+        return ResponseEntity.ok(monitor.report());
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete {}: {}", file, e.getMessage());
+        }
+    }
+}
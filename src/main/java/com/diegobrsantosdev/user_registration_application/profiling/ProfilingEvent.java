@@ -0,0 +1,30 @@
+package com.diegobrsantosdev.user_registration_application.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Base for the application's flight recorder events. Duration comes from begin()/commit(),
+ * stack traces are off because these fire on every request.
+ */
+@Category("User Registration")
+@StackTrace(false)
+public abstract class ProfilingEvent extends Event {
+
+    @Label("Outcome")
+    public String outcome;
+
+    @Label("Cache Hit")
+    public boolean cacheHit;
+
+    public void commit(String outcome, boolean cacheHit) {
+        end();
+        if (shouldCommit()) {
+            this.outcome = outcome;
+            this.cacheHit = cacheHit;
+            commit();
+        }
+    }
+}
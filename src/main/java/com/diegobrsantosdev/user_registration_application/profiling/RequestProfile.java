@@ -0,0 +1,109 @@
+package com.diegobrsantosdev.user_registration_application.profiling;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Time spent by one request in security filters, services, SQL and JSON serialization.
+ * Lives on the request thread only (see {@link RequestProfiler}), so nothing here is synchronized.
+ */
+public class RequestProfile {
+
+    public record StatementTiming(String sql, double durationMs) {
+    }
+
+    private final long startNanos = System.nanoTime();
+    private final int maxStatements;
+
+    private long securityDoneNanos;
+    private long serviceNanos;
+    private int serviceDepth;
+    private long serviceEnteredNanos;
+    private long dbNanos;
+    private int statementCount;
+    private long serializationNanos;
+    private boolean headerWritten;
+    private final List<StatementTiming> statements = new ArrayList<>();
+
+    public RequestProfile(int maxStatements) {
+        this.maxStatements = maxStatements;
+    }
+
+    public void securityDone() {
+        if (securityDoneNanos == 0) {
+            securityDoneNanos = System.nanoTime();
+        }
+    }
+
+    // nested service calls are counted once, from the outermost entry
+    public void enterService() {
+        if (serviceDepth++ == 0) {
+            serviceEnteredNanos = System.nanoTime();
+        }
+    }
+
+    public void exitService() {
+        if (--serviceDepth == 0) {
+            serviceNanos += System.nanoTime() - serviceEnteredNanos;
+        }
+    }
+
+    public void recordStatement(String sql, long nanos) {
+        statementCount++;
+        dbNanos += nanos;
+        if (statements.size() < maxStatements) {
+            statements.add(new StatementTiming(sql, toMillis(nanos)));
+        }
+    }
+
+    public void recordSerialization(long nanos) {
+        serializationNanos += nanos;
+    }
+
+    // the header goes out with whichever comes first, the JSON body or the end of the filter
+    public boolean markHeaderWritten() {
+        if (headerWritten) return false;
+        headerWritten = true;
+        return true;
+    }
+
+    public String serverTiming() {
+        return String.format(Locale.ROOT,
+                "auth;dur=%.2f, db;dur=%.2f;desc=\"%d statements\", service;dur=%.2f, ser;dur=%.2f, total;dur=%.2f",
+                authMs(), dbMs(), statementCount, serviceMs(), serializationMs(), totalMs());
+    }
+
+    public double totalMs() {
+        return toMillis(System.nanoTime() - startNanos);
+    }
+
+    // a request rejected by the security chain never reaches the marker, all of it is auth time
+    public double authMs() {
+        return toMillis((securityDoneNanos == 0 ? System.nanoTime() : securityDoneNanos) - startNanos);
+    }
+
+    public double serviceMs() {
+        return toMillis(serviceNanos);
+    }
+
+    public double dbMs() {
+        return toMillis(dbNanos);
+    }
+
+    public double serializationMs() {
+        return toMillis(serializationNanos);
+    }
+
+    public int statementCount() {
+        return statementCount;
+    }
+
+    public List<StatementTiming> statements() {
+        return List.copyOf(statements);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
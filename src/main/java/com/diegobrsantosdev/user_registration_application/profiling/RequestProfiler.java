@@ -0,0 +1,23 @@
+package com.diegobrsantosdev.user_registration_application.profiling;
+
+/**
+ * Holds the profile of the request being served on the current thread, null when the request was not sampled.
+ */
+public final class RequestProfiler {
+
+    private static final ThreadLocal<RequestProfile> CURRENT = new ThreadLocal<>();
+
+    private RequestProfiler() {}
+
+    public static RequestProfile current() {
+        return CURRENT.get();
+    }
+
+    static void start(RequestProfile profile) {
+        CURRENT.set(profile);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+}
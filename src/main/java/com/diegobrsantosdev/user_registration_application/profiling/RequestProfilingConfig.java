@@ -0,0 +1,62 @@
+package com.diegobrsantosdev.user_registration_application.profiling;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Per-request profiling, on when app.profiling.request.enabled=true.
+ * Only a sample-rate share of requests is profiled; unsampled requests pay one random draw.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.profiling.request.enabled", havingValue = "true")
+public class RequestProfilingConfig {
+
+    @Value("${app.profiling.request.sample-rate:0.01}")
+    private double sampleRate;
+
+    @Value("${app.profiling.request.server-timing-header:true}")
+    private boolean headerEnabled;
+
+    @Value("${app.profiling.request.slow-threshold-ms:500}")
+    private long slowThresholdMs;
+
+    @Value("${app.profiling.request.max-statements:50}")
+    private int maxStatements;
+
+    @Bean
+    public FilterRegistrationBean<RequestProfilingFilter> requestProfilingFilter(SlowRequestLog slowRequestLog) {
+        FilterRegistrationBean<RequestProfilingFilter> registration = new FilterRegistrationBean<>(
+                new RequestProfilingFilter(sampleRate, headerEnabled, slowThresholdMs, maxStatements, slowRequestLog));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<SecurityDoneFilter> securityDoneFilter() {
+        FilterRegistrationBean<SecurityDoneFilter> registration = new FilterRegistrationBean<>(new SecurityDoneFilter());
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+
+    @Bean
+    public ServiceTimingAspect serviceTimingAspect() {
+        return new ServiceTimingAspect();
+    }
+
+    // replaces Boot's default Jackson converter
+    @Bean
+    public TimingJackson2HttpMessageConverter timingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new TimingJackson2HttpMessageConverter(objectMapper, headerEnabled);
+    }
+
+    @Bean
+    public static DataSourceProfilingPostProcessor dataSourceProfilingPostProcessor() {
+        return new DataSourceProfilingPostProcessor();
+    }
+}
@@ -0,0 +1,82 @@
+package com.diegobrsantosdev.user_registration_application.profiling;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Outermost filter: decides whether the request is sampled, writes Server-Timing for bodiless
+ * responses and files the request in the slow log when it went over the threshold.
+ */
+@Slf4j
+public class RequestProfilingFilter extends OncePerRequestFilter {
+
+    public static final String SERVER_TIMING = "Server-Timing";
+
+    private final double sampleRate;
+    private final boolean headerEnabled;
+    private final long slowThresholdMs;
+    private final int maxStatements;
+    private final SlowRequestLog slowRequestLog;
+
+    public RequestProfilingFilter(double sampleRate, boolean headerEnabled, long slowThresholdMs,
+                                  int maxStatements, SlowRequestLog slowRequestLog) {
+        this.sampleRate = sampleRate;
+        this.headerEnabled = headerEnabled;
+        this.slowThresholdMs = slowThresholdMs;
+        this.maxStatements = maxStatements;
+        this.slowRequestLog = slowRequestLog;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        if (sampleRate <= 0 || ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        RequestProfile profile = new RequestProfile(maxStatements);
+        RequestProfiler.start(profile);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestProfiler.clear();
+            if (headerEnabled && !response.isCommitted() && profile.markHeaderWritten()) {
+                response.addHeader(SERVER_TIMING, profile.serverTiming());
+            }
+            recordIfSlow(request, response, profile);
+        }
+    }
+
+    private void recordIfSlow(HttpServletRequest request, HttpServletResponse response, RequestProfile profile) {
+        double totalMs = profile.totalMs();
+        if (totalMs < slowThresholdMs) {
+            return;
+        }
+
+        log.warn("Slow request {} {} took {} ms ({})",
+                request.getMethod(), request.getRequestURI(), Math.round(totalMs), profile.serverTiming());
+        slowRequestLog.add(new SlowRequestLog.SlowRequest(
+                Instant.now(),
+                request.getMethod(),
+                request.getRequestURI(),
+                response.getStatus(),
+                totalMs,
+                profile.authMs(),
+                profile.serviceMs(),
+                profile.dbMs(),
+                profile.serializationMs(),
+                profile.statementCount(),
+                profile.statements()
+        ));
+    }
+}
@@ -0,0 +1,26 @@
+package com.diegobrsantosdev.user_registration_application.profiling;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Registered right after the Spring Security chain; everything before it counts as auth time.
+ */
+public class SecurityDoneFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        RequestProfile profile = RequestProfiler.current();
+        if (profile != null) {
+            profile.securityDone();
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,24 @@
+package com.diegobrsantosdev.user_registration_application.profiling;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+@Aspect
+public class ServiceTimingAspect {
+
+    @Around("@within(org.springframework.stereotype.Service)")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        RequestProfile profile = RequestProfiler.current();
+        if (profile == null) {
+            return joinPoint.proceed();
+        }
+
+        profile.enterService();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            profile.exitService();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.diegobrsantosdev.user_registration_application.profiling;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * The most recent profiled requests that went over the slow threshold, newest first.
+ */
+@Component
+public class SlowRequestLog {
+
+    public record SlowRequest(
+            Instant at,
+            String method,
+            String uri,
+            int status,
+            double totalMs,
+            double authMs,
+            double serviceMs,
+            double dbMs,
+            double serializationMs,
+            int statementCount,
+            List<RequestProfile.StatementTiming> statements
+    ) {
+    }
+
+    private static final int CAPACITY = 100;
+
+    private final Deque<SlowRequest> entries = new ArrayDeque<>(CAPACITY);
+
+    public synchronized void add(SlowRequest request) {
+        if (entries.size() == CAPACITY) {
+            entries.removeLast();
+        }
+        entries.addFirst(request);
+    }
+
+    public synchronized List<SlowRequest> recent() {
+        return new ArrayList<>(entries);
+    }
+}
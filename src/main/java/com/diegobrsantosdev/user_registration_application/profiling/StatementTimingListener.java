@@ -0,0 +1,35 @@
+package com.diegobrsantosdev.user_registration_application.profiling;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Times every JDBC statement run by a profiled request; batches count as one statement.
+ */
+public class StatementTimingListener implements QueryExecutionListener {
+
+    private static final String STARTED_AT = "profiling.startedAt";
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (RequestProfiler.current() != null) {
+            execInfo.addCustomValue(STARTED_AT, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RequestProfile profile = RequestProfiler.current();
+        Long startedAt = execInfo.getCustomValue(STARTED_AT, Long.class);
+        if (profile == null || startedAt == null) {
+            return;
+        }
+
+        String sql = queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+        profile.recordStatement(sql, System.nanoTime() - startedAt);
+    }
+}
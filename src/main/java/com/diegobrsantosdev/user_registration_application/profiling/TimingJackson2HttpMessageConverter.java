@@ -0,0 +1,55 @@
+package com.diegobrsantosdev.user_registration_application.profiling;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.lang.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+/**
+ * Serializes profiled responses into a buffer first, so the serialization time is known
+ * and Server-Timing can still be added before the body commits the response.
+ */
+public class TimingJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final boolean headerEnabled;
+
+    public TimingJackson2HttpMessageConverter(ObjectMapper objectMapper, boolean headerEnabled) {
+        super(objectMapper);
+        this.headerEnabled = headerEnabled;
+    }
+
+    @Override
+    protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage) throws IOException {
+        RequestProfile profile = RequestProfiler.current();
+        if (profile == null) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(1024);
+        long start = System.nanoTime();
+        super.writeInternal(object, type, new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return buffer;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return outputMessage.getHeaders();
+            }
+        });
+        profile.recordSerialization(System.nanoTime() - start);
+
+        if (headerEnabled && profile.markHeaderWritten()) {
+            outputMessage.getHeaders().add(RequestProfilingFilter.SERVER_TIMING, profile.serverTiming());
+        }
+        buffer.writeTo(outputMessage.getBody());
+    }
+}
@@ -0,0 +1,11 @@
+package com.diegobrsantosdev.user_registration_application.profiling;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.diegobrsantosdev.userreg.TotpValidation")
+@Label("TOTP Validation")
+@Description("Time-based one-time code check in TopService")
+public class TotpValidationEvent extends ProfilingEvent {
+}
@@ -0,0 +1,11 @@
+package com.diegobrsantosdev.user_registration_application.profiling;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.diegobrsantosdev.userreg.UserLoad")
+@Label("User Load")
+@Description("User loaded by email for authentication")
+public class UserLoadEvent extends ProfilingEvent {
+}
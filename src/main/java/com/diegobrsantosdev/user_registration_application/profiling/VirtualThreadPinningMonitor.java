@@ -0,0 +1,170 @@
+package com.diegobrsantosdev.user_registration_application.profiling;
+
+import com.diegobrsantosdev.user_registration_application.UserRegistrationApplication;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Startup audit and live alerts for virtual threads that stay mounted on their carrier.
+ *
+ * The audit lists synchronized methods on our beans. Before JDK 24 a virtual thread blocking inside one
+ * pins its carrier; since JEP 491 it unmounts normally, so on 24+ the list is informational. Pinning still
+ * happens under native frames and class initializers, which the jdk.VirtualThreadPinned stream below reports
+ * (with the first frame from our code) whatever the JDK version.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.profiling.pinning.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    public record PinningReport(
+            boolean virtualThreads,
+            int javaFeatureVersion,
+            boolean synchronizedPins,
+            List<String> synchronizedMethods,
+            long pinnedEvents,
+            List<PinnedEvent> recentPinned
+    ) {
+    }
+
+    public record PinnedEvent(Instant at, double durationMs, String thread, String frame) {
+    }
+
+    // JEP 491: monitors no longer pin from this release on
+    private static final int SYNCHRONIZED_UNPINNED_SINCE = 24;
+    private static final int RECENT_CAPACITY = 50;
+    private static final String BASE_PACKAGE = UserRegistrationApplication.class.getPackageName();
+
+    private final ApplicationContext applicationContext;
+    private final boolean virtualThreads;
+    private final Duration threshold;
+    private final Counter pinnedCounter;
+    private final Deque<PinnedEvent> recent = new ArrayDeque<>(RECENT_CAPACITY);
+
+    private List<String> synchronizedMethods = List.of();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(ApplicationContext applicationContext,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                                       @Value("${app.profiling.pinning.threshold-ms:20}") long thresholdMs) {
+        this.applicationContext = applicationContext;
+        this.virtualThreads = virtualThreads;
+        this.threshold = Duration.ofMillis(thresholdMs);
+        this.pinnedCounter = Counter.builder("app.virtual-threads.pinned")
+                .description("Virtual threads that blocked while pinned to their carrier longer than the threshold")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        synchronizedMethods = auditSynchronizedMethods();
+        if (synchronizedMethods.isEmpty()) {
+            log.info("Pinning audit: no synchronized methods on application beans");
+        } else if (synchronizedPins()) {
+            log.warn("Pinning audit: {} synchronized methods pin virtual threads on JDK {}: {}",
+                    synchronizedMethods.size(), Runtime.version().feature(), synchronizedMethods);
+        } else {
+            log.info("Pinning audit: {} synchronized methods, not pinning on JDK {} (JEP 491): {}",
+                    synchronizedMethods.size(), Runtime.version().feature(), synchronizedMethods);
+        }
+
+        stream = new RecordingStream();
+        stream.enable("jdk.VirtualThreadPinned").withThreshold(threshold).withStackTrace();
+        stream.onEvent("jdk.VirtualThreadPinned", this::onPinned);
+        stream.startAsync();
+    }
+
+    public PinningReport report() {
+        List<PinnedEvent> snapshot;
+        synchronized (recent) {
+            snapshot = new ArrayList<>(recent);
+        }
+        return new PinningReport(virtualThreads, Runtime.version().feature(), synchronizedPins(),
+                synchronizedMethods, (long) pinnedCounter.count(), snapshot);
+    }
+
+    private void onPinned(RecordedEvent event) {
+        PinnedEvent pinned = new PinnedEvent(
+                event.getStartTime(),
+                event.getDuration().toNanos() / 1_000_000.0,
+                event.getThread() != null ? event.getThread().getJavaName() : null,
+                firstApplicationFrame(event));
+        pinnedCounter.increment();
+        log.warn("Virtual thread pinned for {} ms at {}", pinned.durationMs(), pinned.frame());
+
+        synchronized (recent) {
+            if (recent.size() == RECENT_CAPACITY) {
+                recent.removeLast();
+            }
+            recent.addFirst(pinned);
+        }
+    }
+
+    private static String firstApplicationFrame(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return null;
+        }
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        RecordedFrame frame = frames.stream()
+                .filter(candidate -> candidate.getMethod().getType().getName().startsWith(BASE_PACKAGE))
+                .findFirst()
+                .orElse(frames.isEmpty() ? null : frames.getFirst());
+        return frame == null ? null
+                : frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    // synchronized blocks are only visible in bytecode; methods cover what our beans declare today
+    private List<String> auditSynchronizedMethods() {
+        TreeSet<String> found = new TreeSet<>();
+        for (String name : applicationContext.getBeanDefinitionNames()) {
+            Class<?> type = applicationContext.getType(name);
+            if (type == null) {
+                continue;
+            }
+            Class<?> userClass = ClassUtils.getUserClass(type);
+            if (!userClass.getPackageName().startsWith(BASE_PACKAGE)) {
+                continue;
+            }
+            for (Method method : userClass.getDeclaredMethods()) {
+                if (Modifier.isSynchronized(method.getModifiers())) {
+                    found.add(userClass.getSimpleName() + "." + method.getName());
+                }
+            }
+        }
+        return List.copyOf(found);
+    }
+
+    private static boolean synchronizedPins() {
+        return Runtime.version().feature() < SYNCHRONIZED_UNPINNED_SINCE;
+    }
+
+    @PreDestroy
+    void close() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.diegobrsantosdev.user_registration_application.repositories;
+
+import com.diegobrsantosdev.user_registration_application.models.RegistrationReservation;
+import com.diegobrsantosdev.user_registration_application.models.RegistrationStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+@Repository
+public interface RegistrationReservationRepository extends JpaRepository<RegistrationReservation, String> {
+
+    // jobs live only in memory, so a reservation still pending after the timeout was lost (restart, crash)
+    @Modifying
+    @Transactional
+    @Query("""
+            update RegistrationReservation r
+               set r.status = :failed, r.message = :message, r.completedAt = :now,
+                   r.email = null, r.cpf = null, r.rg = null
+             where r.status = :pending and r.createdAt < :before
+            """)
+    int failPendingBefore(@Param("before") Instant before,
+                          @Param("now") Instant now,
+                          @Param("message") String message,
+                          @Param("pending") RegistrationStatus pending,
+                          @Param("failed") RegistrationStatus failed);
+
+    @Modifying
+    @Transactional
+    @Query("delete from RegistrationReservation r where r.status <> :pending and r.completedAt < :before")
+    int deleteFinishedBefore(@Param("before") Instant before, @Param("pending") RegistrationStatus pending);
+}
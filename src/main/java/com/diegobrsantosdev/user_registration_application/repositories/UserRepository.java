@@ -2,15 +2,19 @@ package com.diegobrsantosdev.user_registration_application.repositories;
 
 import com.diegobrsantosdev.user_registration_application.models.Role;
 import com.diegobrsantosdev.user_registration_application.models.User;
-import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 
 import java.util.Optional;
 import java.util.Set;
 
+// derived queries are read-only unless overridden, so they can be served by a replica
 @Repository
+@Transactional(readOnly = true)
 public interface UserRepository extends JpaRepository<User, Integer> {
 
     Optional<User> findByCpf(String cpf);
@@ -25,5 +29,9 @@ public interface UserRepository extends JpaRepository<User, Integer> {
 
     long countByRoles(Role role);
 
+    // version-only read for conditional requests, never hydrates the entity
+    @Query("select u.version from User u where u.id = :id")
+    Optional<Long> findVersionById(@Param("id") Integer id);
+
 
 }
@@ -0,0 +1,73 @@
+package com.diegobrsantosdev.user_registration_application.search;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Text handling shared by indexing and querying. Text is lower-cased, stripped of accents and split on
+ * anything that is not a letter or digit, so "João.Silva@Mail.com" becomes joao, silva, mail, com.
+ * <p>
+ * Indexed words are padded like pg_trgm ("  joao "), query words only at the front ("  jo"), which makes
+ * every query word match as a prefix. Trigrams are packed into a long, three 16-bit chars.
+ */
+final class SearchText {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final String[] NO_WORDS = {};
+
+    private SearchText() {
+    }
+
+    static String normalize(String value) {
+        if (value == null || value.isBlank()) {
+            return "";
+        }
+        String stripped = MARKS.matcher(Normalizer.normalize(value, Normalizer.Form.NFD)).replaceAll("");
+        return SEPARATORS.matcher(stripped.toLowerCase(Locale.ROOT)).replaceAll(" ").strip();
+    }
+
+    static String[] words(String value) {
+        String normalized = normalize(value);
+        return normalized.isEmpty() ? NO_WORDS : normalized.split(" ");
+    }
+
+    // sorted and distinct, so a document never counts twice for one trigram
+    static long[] indexTrigrams(String... values) {
+        return trigrams(true, values);
+    }
+
+    static long[] queryTrigrams(String[] words) {
+        return trigrams(false, words);
+    }
+
+    private static long[] trigrams(boolean padEnd, String... values) {
+        long[] trigrams = new long[16];
+        int size = 0;
+        for (String value : values) {
+            for (String word : padEnd ? words(value) : new String[]{value}) {
+                String padded = "  " + word + (padEnd ? " " : "");
+                for (int i = 0; i + 3 <= padded.length(); i++) {
+                    if (size == trigrams.length) {
+                        trigrams = Arrays.copyOf(trigrams, size * 2);
+                    }
+                    trigrams[size++] = pack(padded.charAt(i), padded.charAt(i + 1), padded.charAt(i + 2));
+                }
+            }
+        }
+        Arrays.sort(trigrams, 0, size);
+        int distinct = 0;
+        for (int i = 0; i < size; i++) {
+            if (distinct == 0 || trigrams[distinct - 1] != trigrams[i]) {
+                trigrams[distinct++] = trigrams[i];
+            }
+        }
+        return Arrays.copyOf(trigrams, distinct);
+    }
+
+    private static long pack(char a, char b, char c) {
+        return ((long) a << 32) | ((long) b << 16) | c;
+    }
+}
@@ -0,0 +1,42 @@
+package com.diegobrsantosdev.user_registration_application.search;
+
+import com.diegobrsantosdev.user_registration_application.models.Role;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/v1/admin/users/search")
+@RequiredArgsConstructor
+public class UserSearchController {
+
+    private final UserSearchIndex searchIndex;
+
+    // answered from the in-memory index; without q the matches come newest first
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<UserSearchPageDTO> search(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) String state,
+            @RequestParam(required = false) Role role,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdTo,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        UserSearchCriteria criteria = new UserSearchCriteria(q, city, state, role, createdFrom, createdTo);
+        return ResponseEntity.ok(searchIndex.search(criteria, page, Math.min(size, 100)));
+    }
+
+    // rereads every user, e.g. after a bulk import that bypassed UserService
+    @PostMapping("/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> rebuild() {
+        searchIndex.rebuild();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,19 @@
+package com.diegobrsantosdev.user_registration_application.search;
+
+import com.diegobrsantosdev.user_registration_application.models.Role;
+
+import java.time.LocalDate;
+
+/**
+ * q is matched by prefix and trigram similarity against name and email; every other field is an exact filter.
+ * city ignores case and accents, createdFrom and createdTo are inclusive days. Any field may be null.
+ */
+public record UserSearchCriteria(
+        String q,
+        String city,
+        String state,
+        Role role,
+        LocalDate createdFrom,
+        LocalDate createdTo
+) {
+}
@@ -0,0 +1,432 @@
+package com.diegobrsantosdev.user_registration_application.search;
+
+import com.diegobrsantosdev.user_registration_application.dtos.UserResponseDTO;
+import com.diegobrsantosdev.user_registration_application.exceptions.InvalidDataException;
+import com.diegobrsantosdev.user_registration_application.models.Role;
+import com.diegobrsantosdev.user_registration_application.outbox.UserChangeType;
+import com.diegobrsantosdev.user_registration_application.outbox.UserChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory trigram index over user name and email, with city, state, roles and creation time kept
+ * alongside so every filter is answered without touching the database.
+ * <p>
+ * It follows committed {@link UserChangedEvent}s and is rebuilt at startup by reading id ranges in parallel.
+ * Changes that commit while a rebuild runs go to the current index and are replayed on the new one.
+ * Writes made by other instances or by bulk JDBC imports are only picked up by {@link #rebuild}.
+ */
+@Slf4j
+@Component
+public class UserSearchIndex {
+
+    private static final Comparator<Match> RANKING = Comparator.comparingDouble(Match::score).reversed()
+            .thenComparing(match -> match.doc().name(), String.CASE_INSENSITIVE_ORDER)
+            .thenComparingInt(match -> match.doc().id());
+    private static final Comparator<Match> NEWEST_FIRST = Comparator.comparing(
+                    (Match match) -> match.doc().createdAt(), Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(Comparator.comparingInt((Match match) -> match.doc().id()).reversed());
+
+    private final UserSearchQueries queries;
+    private final TransactionTemplate loadTransaction;
+    private final int chunkSize;
+    private final int maxResults;
+    private final double minSimilarity;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final List<UserChangedEvent> pending = new ArrayList<>();
+    private Index index = new Index();
+    private volatile boolean rebuilding;
+    private volatile boolean ready;
+
+    public UserSearchIndex(UserSearchQueries queries,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${app.search.rebuild-chunk-size:20000}") int chunkSize,
+                           @Value("${app.search.max-results:1000}") int maxResults,
+                           @Value("${app.search.min-similarity:0.5}") double minSimilarity) {
+        this.queries = queries;
+        // not read-only on purpose: a lagging replica would leave out users committed before the rebuild started
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.maxResults = maxResults;
+        this.minSimilarity = minSimilarity;
+    }
+
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (rebuilding) {
+                pending.add(event);
+            }
+            apply(index, event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        if (!rebuildLock.tryLock()) {
+            return;
+        }
+        try {
+            lock.writeLock().lock();
+            try {
+                rebuilding = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            long started = System.nanoTime();
+            Index fresh = load();
+            lock.writeLock().lock();
+            try {
+                pending.sort(Comparator.comparingLong(UserChangedEvent::sequence));
+                pending.forEach(event -> apply(fresh, event));
+                index = fresh;
+                ready = true;
+            } finally {
+                pending.clear();
+                rebuilding = false;
+                lock.writeLock().unlock();
+            }
+            log.info("User search index rebuilt with {} users in {} ms",
+                    fresh.docs.size(), (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pending.clear();
+                rebuilding = false;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.error("User search index rebuild failed, keeping the current index", e);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    public UserSearchPageDTO search(UserSearchCriteria criteria, int page, int size) {
+        if (page < 0 || size < 1) {
+            throw new InvalidDataException("page must be >= 0 and size >= 1.");
+        }
+        int wanted = (page + 1) * size;
+        if (wanted > maxResults) {
+            throw new InvalidDataException("Only the first " + maxResults + " results can be paged, narrow the search.");
+        }
+        if (!ready) {
+            throw new RejectedExecutionException("The user search index is still being built.");
+        }
+
+        Filter filter = new Filter(criteria);
+        String[] words = SearchText.words(criteria.q());
+        Comparator<Match> order = words.length == 0 ? NEWEST_FIRST : RANKING;
+        // min-heap on the ranking, holding the best `wanted` matches seen so far
+        PriorityQueue<Match> best = new PriorityQueue<>(wanted, order.reversed());
+        long total;
+
+        lock.readLock().lock();
+        try {
+            total = words.length == 0
+                    ? index.scan(filter, best, wanted, order)
+                    : index.match(words, minSimilarity, filter, best, wanted, order);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Match> ranked = new ArrayList<>(best);
+        ranked.sort(order);
+        List<UserSearchResultDTO> content = ranked.stream()
+                .skip((long) page * size)
+                .map(Match::toDTO)
+                .toList();
+        return new UserSearchPageDTO(content, page, size, total);
+    }
+
+    private Index load() {
+        int min = loadTransaction.execute(status -> queries.findMinId());
+        int max = loadTransaction.execute(status -> queries.findMaxId());
+        List<CompletableFuture<Index>> chunks = new ArrayList<>();
+        AtomicInteger threads = new AtomicInteger();
+        try (ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+                runnable -> new Thread(runnable, "user-search-rebuild-" + threads.incrementAndGet()))) {
+            for (long from = min; from <= max; from += chunkSize) {
+                int start = (int) from;
+                int end = (int) Math.min(from + chunkSize - 1, max);
+                chunks.add(CompletableFuture.supplyAsync(() -> loadChunk(start, end), executor));
+            }
+            // chunks cover ascending, disjoint id ranges, so their postings are simply concatenated
+            Index merged = new Index();
+            for (CompletableFuture<Index> chunk : chunks) {
+                merged.append(chunk.join());
+            }
+            return merged;
+        }
+    }
+
+    private Index loadChunk(int from, int to) {
+        return loadTransaction.execute(status -> {
+            Map<Integer, Integer> roles = new HashMap<>();
+            for (Object[] row : queries.findRoles(from, to)) {
+                roles.merge((Integer) row[0], 1 << ((Role) row[1]).ordinal(), (a, b) -> a | b);
+            }
+            Index chunk = new Index();
+            for (UserSearchRow row : queries.findRows(from, to)) {
+                chunk.add(Doc.of(row.id(), row.name(), row.email(), row.city(), row.state(),
+                        roles.getOrDefault(row.id(), 0), row.createdAt(), 0));
+            }
+            return chunk;
+        });
+    }
+
+    private static void apply(Index target, UserChangedEvent event) {
+        if (event.type() == UserChangeType.DELETED) {
+            target.remove(event.userId());
+            return;
+        }
+        UserResponseDTO user = event.after();
+        Doc current = target.docs.get(user.id());
+        if (current != null && current.sequence() > event.sequence()) {
+            return;
+        }
+        target.remove(user.id());
+        target.add(Doc.of(user.id(), user.name(), user.email(), user.city(), user.state(),
+                roleMask(user.roles()), user.createdAt(), event.sequence()));
+    }
+
+    private static int roleMask(Set<Role> roles) {
+        int mask = 0;
+        if (roles != null) {
+            for (Role role : roles) {
+                mask |= 1 << role.ordinal();
+            }
+        }
+        return mask;
+    }
+
+    // sequence is the outbox sequence of the change the document came from, 0 when it came from a rebuild
+    record Doc(int id, String name, String email, String city, String cityKey, String state, int roles,
+               LocalDateTime createdAt, String text, long[] trigrams, long sequence) {
+
+        static Doc of(int id, String name, String email, String city, String state, int roles,
+                      LocalDateTime createdAt, long sequence) {
+            // leading space so a word prefix is always " " + word
+            String text = " " + SearchText.normalize(name) + " " + SearchText.normalize(email);
+            return new Doc(id, name, email, city, SearchText.normalize(city),
+                    state == null ? null : state.toUpperCase(), roles, createdAt, text,
+                    SearchText.indexTrigrams(name, email), sequence);
+        }
+
+        boolean hasPrefixes(String[] words) {
+            for (String word : words) {
+                if (!text.contains(" " + word)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    record Match(Doc doc, double score) {
+
+        UserSearchResultDTO toDTO() {
+            Set<Role> roles = EnumSet.noneOf(Role.class);
+            for (Role role : Role.values()) {
+                if ((doc.roles() & 1 << role.ordinal()) != 0) {
+                    roles.add(role);
+                }
+            }
+            return new UserSearchResultDTO(doc.id(), doc.name(), doc.email(), doc.city(), doc.state(),
+                    roles, doc.createdAt(), score);
+        }
+    }
+
+    private static final class Filter {
+        private final String cityKey;
+        private final String state;
+        private final int role;
+        private final LocalDateTime createdFrom;
+        private final LocalDateTime createdBefore;
+
+        private Filter(UserSearchCriteria criteria) {
+            this.cityKey = criteria.city() == null || criteria.city().isBlank() ? null : SearchText.normalize(criteria.city());
+            this.state = criteria.state() == null || criteria.state().isBlank() ? null : criteria.state().strip().toUpperCase();
+            this.role = criteria.role() == null ? 0 : 1 << criteria.role().ordinal();
+            this.createdFrom = criteria.createdFrom() == null ? null : criteria.createdFrom().atStartOfDay();
+            this.createdBefore = criteria.createdTo() == null ? null : criteria.createdTo().plusDays(1).atStartOfDay();
+        }
+
+        boolean test(Doc doc) {
+            return (cityKey == null || cityKey.equals(doc.cityKey()))
+                    && (state == null || state.equals(doc.state()))
+                    && (role == 0 || (doc.roles() & role) != 0)
+                    && (createdFrom == null || (doc.createdAt() != null && !doc.createdAt().isBefore(createdFrom)))
+                    && (createdBefore == null || (doc.createdAt() != null && doc.createdAt().isBefore(createdBefore)));
+        }
+    }
+
+    // not thread-safe, guarded by the read/write lock of the enclosing index
+    static final class Index {
+        private final Map<Integer, Doc> docs = new HashMap<>();
+        private final Map<Long, Postings> postings = new HashMap<>();
+
+        void add(Doc doc) {
+            docs.put(doc.id(), doc);
+            for (long trigram : doc.trigrams()) {
+                postings.computeIfAbsent(trigram, key -> new Postings()).add(doc.id());
+            }
+        }
+
+        void remove(int id) {
+            Doc doc = docs.remove(id);
+            if (doc == null) {
+                return;
+            }
+            for (long trigram : doc.trigrams()) {
+                Postings list = postings.get(trigram);
+                if (list != null && list.remove(id) && list.size == 0) {
+                    postings.remove(trigram);
+                }
+            }
+        }
+
+        void append(Index other) {
+            docs.putAll(other.docs);
+            other.postings.forEach((trigram, list) -> postings.merge(trigram, list, Postings::append));
+        }
+
+        long scan(Filter filter, PriorityQueue<Match> best, int wanted, Comparator<Match> order) {
+            long total = 0;
+            for (Doc doc : docs.values()) {
+                if (filter.test(doc)) {
+                    total++;
+                    offer(best, new Match(doc, 0), wanted, order);
+                }
+            }
+            return total;
+        }
+
+        /**
+         * Counts, per document, how many query trigrams it contains. Lists are walked from the rarest up; once
+         * the lists left are too few for an unseen document to reach the threshold, only known candidates count.
+         */
+        long match(String[] words, double minSimilarity, Filter filter, PriorityQueue<Match> best, int wanted,
+                   Comparator<Match> order) {
+            long[] trigrams = SearchText.queryTrigrams(words);
+            Postings[] lists = new Postings[trigrams.length];
+            for (int i = 0; i < trigrams.length; i++) {
+                lists[i] = postings.getOrDefault(trigrams[i], Postings.EMPTY);
+            }
+            Arrays.sort(lists, Comparator.comparingInt(list -> list.size));
+
+            int needed = Math.max(1, (int) Math.ceil(minSimilarity * trigrams.length));
+            Map<Integer, int[]> hits = new HashMap<>();
+            for (int i = 0; i < lists.length; i++) {
+                boolean admit = lists.length - i >= needed;
+                Postings list = lists[i];
+                for (int j = 0; j < list.size; j++) {
+                    int[] count = admit ? hits.computeIfAbsent(list.ids[j], id -> new int[1]) : hits.get(list.ids[j]);
+                    if (count != null) {
+                        count[0]++;
+                    }
+                }
+            }
+
+            long total = 0;
+            for (Map.Entry<Integer, int[]> hit : hits.entrySet()) {
+                if (hit.getValue()[0] < needed) {
+                    continue;
+                }
+                Doc doc = docs.get(hit.getKey());
+                if (doc == null || !filter.test(doc)) {
+                    continue;
+                }
+                total++;
+                double score = (double) hit.getValue()[0] / trigrams.length + (doc.hasPrefixes(words) ? 1 : 0);
+                offer(best, new Match(doc, score), wanted, order);
+            }
+            return total;
+        }
+
+        private static void offer(PriorityQueue<Match> best, Match match, int wanted, Comparator<Match> order) {
+            if (best.size() < wanted) {
+                best.add(match);
+            } else if (order.compare(match, best.peek()) < 0) {
+                best.poll();
+                best.add(match);
+            }
+        }
+    }
+
+    // ascending user ids; new users get the highest id, so most adds are an append
+    static final class Postings {
+        private static final Postings EMPTY = new Postings();
+
+        private int[] ids = new int[4];
+        private int size;
+
+        void add(int id) {
+            int at = size == 0 || ids[size - 1] < id ? size : Arrays.binarySearch(ids, 0, size, id);
+            if (at < 0) {
+                at = -at - 1;
+            } else if (at < size) {
+                return;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size + (size >> 1) + 1);
+            }
+            System.arraycopy(ids, at, ids, at + 1, size - at);
+            ids[at] = id;
+            size++;
+        }
+
+        boolean remove(int id) {
+            int at = Arrays.binarySearch(ids, 0, size, id);
+            if (at < 0) {
+                return false;
+            }
+            System.arraycopy(ids, at + 1, ids, at, size - at - 1);
+            size--;
+            return true;
+        }
+
+        // every id of other is greater than the ones already here
+        Postings append(Postings other) {
+            if (size + other.size > ids.length) {
+                ids = Arrays.copyOf(ids, size + other.size);
+            }
+            System.arraycopy(other.ids, 0, ids, size, other.size);
+            size += other.size;
+            return this;
+        }
+    }
+}
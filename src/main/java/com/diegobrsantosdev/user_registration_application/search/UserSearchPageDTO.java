@@ -0,0 +1,11 @@
+package com.diegobrsantosdev.user_registration_application.search;
+
+import java.util.List;
+
+public record UserSearchPageDTO(
+        List<UserSearchResultDTO> content,
+        int page,
+        int size,
+        long totalElements
+) {
+}
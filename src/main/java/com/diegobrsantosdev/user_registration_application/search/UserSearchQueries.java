@@ -0,0 +1,32 @@
+package com.diegobrsantosdev.user_registration_application.search;
+
+import com.diegobrsantosdev.user_registration_application.models.User;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+// id-range reads used to rebuild the search index, several ranges run in parallel
+@Repository
+public interface UserSearchQueries extends org.springframework.data.repository.Repository<User, Integer> {
+
+    @Query("select coalesce(min(u.id), 0) from User u")
+    int findMinId();
+
+    @Query("select coalesce(max(u.id), 0) from User u")
+    int findMaxId();
+
+    @Query("""
+            select new com.diegobrsantosdev.user_registration_application.search.UserSearchRow(
+                   u.id, u.name, u.email, u.city, u.state, u.createdAt)
+              from User u
+             where u.id between :from and :to
+             order by u.id
+            """)
+    List<UserSearchRow> findRows(@Param("from") int from, @Param("to") int to);
+
+    // id, role pairs
+    @Query("select u.id, r from User u join u.roles r where u.id between :from and :to")
+    List<Object[]> findRoles(@Param("from") int from, @Param("to") int to);
+}
@@ -0,0 +1,19 @@
+package com.diegobrsantosdev.user_registration_application.search;
+
+import com.diegobrsantosdev.user_registration_application.models.Role;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+// score is 0 without q; with q it is the share of query trigrams found, plus 1 when every query word is a prefix
+public record UserSearchResultDTO(
+        Integer id,
+        String name,
+        String email,
+        String city,
+        String state,
+        Set<Role> roles,
+        LocalDateTime createdAt,
+        double score
+) {
+}
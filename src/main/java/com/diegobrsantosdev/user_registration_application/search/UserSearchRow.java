@@ -0,0 +1,14 @@
+package com.diegobrsantosdev.user_registration_application.search;
+
+import java.time.LocalDateTime;
+
+// the columns the search index needs, read without loading User entities
+public record UserSearchRow(
+        Integer id,
+        String name,
+        String email,
+        String city,
+        String state,
+        LocalDateTime createdAt
+) {
+}
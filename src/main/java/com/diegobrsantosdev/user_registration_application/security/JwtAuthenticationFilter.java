@@ -1,5 +1,6 @@
 package com.diegobrsantosdev.user_registration_application.security;
 import com.diegobrsantosdev.user_registration_application.config.UserDetailsImpl;
+import com.diegobrsantosdev.user_registration_application.profiling.JwtVerificationEvent;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -33,7 +34,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             String token = authHeader.substring(7);
 
-            if (jwtUtil.validateToken(token)) {
+            JwtVerificationEvent event = new JwtVerificationEvent();
+            event.begin();
+            boolean valid = jwtUtil.validateToken(token);
+            event.commit(valid ? "VALID" : "INVALID", false);
+
+            if (valid) {
                 String username = jwtUtil.getUsernameFromToken(token);
 
                 var userDetails =
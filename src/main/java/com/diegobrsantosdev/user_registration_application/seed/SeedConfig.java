@@ -0,0 +1,38 @@
+package com.diegobrsantosdev.user_registration_application.seed;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Bulk seed on startup, combined with a datasource profile: --spring.profiles.active=test,seed.
+ * Every synthetic user logs in with app.seed.password; the hash is computed once for the whole load.
+ */
+@Configuration
+@Profile("seed")
+public class SeedConfig {
+
+    @Value("${app.seed.users:100000}")
+    private int users;
+
+    @Value("${app.seed.first-sequence:0}")
+    private int firstSequence;
+
+    @Value("${app.seed.batch-size:5000}")
+    private int batchSize;
+
+    @Value("${app.seed.random-seed:42}")
+    private long randomSeed;
+
+    @Value("${app.seed.password:senha1234}")
+    private String password;
+
+    @Bean
+    public CommandLineRunner syntheticUserSeeder(SyntheticUserLoader loader, PasswordEncoder passwordEncoder) {
+        return args -> loader.load(new SyntheticUserGenerator(randomSeed), firstSequence, users,
+                passwordEncoder.encode(password), batchSize);
+    }
+}
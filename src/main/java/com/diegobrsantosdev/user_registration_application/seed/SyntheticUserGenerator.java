@@ -0,0 +1,191 @@
+package com.diegobrsantosdev.user_registration_application.seed;
+
+import com.diegobrsantosdev.user_registration_application.models.Gender;
+import com.diegobrsantosdev.user_registration_application.validators.BrazilianDocuments;
+
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic synthetic users: the same seed and sequence number always give the same row, so a
+ * benchmark can rebuild any user's email or CPF without keeping the dataset in memory.
+ * Cities are drawn by population share, CEPs and DDDs match the city, and CPFs are a permutation of
+ * the nine-digit bases below 100 million, unique for every sequence up to {@link #MAX_SEQUENCE}.
+ */
+public final class SyntheticUserGenerator {
+
+    public static final int MAX_SEQUENCE = 99_999_998;
+
+    // 48271 shares no factor with 99999999 (3^2 * 11 * 73 * 101 * 137), so the mapping is a bijection
+    private static final long CPF_MULTIPLIER = 48_271L;
+    private static final int CPF_MODULUS = 99_999_999;
+    private static final int RG_OFFSET = 100_000_000;
+
+    private static final City[] CITIES = {
+            new City("São Paulo", "SP", "11", 1_000, 5_999, 1_145),
+            new City("Rio de Janeiro", "RJ", "21", 20_000, 23_799, 621),
+            new City("Brasília", "DF", "61", 70_000, 72_799, 282),
+            new City("Fortaleza", "CE", "85", 60_000, 61_599, 243),
+            new City("Salvador", "BA", "71", 40_000, 42_499, 242),
+            new City("Belo Horizonte", "MG", "31", 30_000, 31_999, 231),
+            new City("Manaus", "AM", "92", 69_000, 69_099, 206),
+            new City("Curitiba", "PR", "41", 80_000, 82_999, 177),
+            new City("Recife", "PE", "81", 50_000, 52_999, 149),
+            new City("Goiânia", "GO", "62", 74_000, 74_899, 143),
+            new City("Porto Alegre", "RS", "51", 90_000, 91_999, 133),
+            new City("Belém", "PA", "91", 66_000, 66_999, 130),
+            new City("Guarulhos", "SP", "11", 7_000, 7_399, 129),
+            new City("Campinas", "SP", "19", 13_000, 13_139, 114),
+            new City("São Luís", "MA", "98", 65_000, 65_109, 103),
+            new City("Maceió", "AL", "82", 57_000, 57_099, 96),
+            new City("Campo Grande", "MS", "67", 79_000, 79_129, 90),
+            new City("Teresina", "PI", "86", 64_000, 64_099, 87),
+            new City("João Pessoa", "PB", "83", 58_000, 58_099, 82),
+            new City("Natal", "RN", "84", 59_000, 59_161, 75),
+            new City("Cuiabá", "MT", "65", 78_000, 78_109, 65),
+            new City("Aracaju", "SE", "79", 49_000, 49_099, 60),
+            new City("Florianópolis", "SC", "48", 88_000, 88_099, 54),
+            new City("Porto Velho", "RO", "69", 76_800, 76_834, 46),
+            new City("Macapá", "AP", "96", 68_900, 68_929, 44),
+            new City("Boa Vista", "RR", "95", 69_300, 69_339, 41),
+            new City("Rio Branco", "AC", "68", 69_900, 69_923, 36),
+            new City("Vitória", "ES", "27", 29_000, 29_099, 32),
+            new City("Palmas", "TO", "63", 77_000, 77_249, 30)
+    };
+
+    private static final String[] FIRST_NAMES = {
+            "Ana", "Maria", "Juliana", "Fernanda", "Patrícia", "Aline", "Camila", "Beatriz", "Larissa", "Letícia",
+            "João", "José", "Carlos", "Paulo", "Lucas", "Gabriel", "Rafael", "Mateus", "Pedro", "Thiago"
+    };
+
+    private static final String[] LAST_NAMES = {
+            "Silva", "Santos", "Oliveira", "Souza", "Rodrigues", "Ferreira", "Alves", "Pereira", "Lima", "Gomes",
+            "Costa", "Ribeiro", "Martins", "Carvalho", "Araújo", "Melo", "Barbosa", "Cardoso", "Rocha", "Dias"
+    };
+
+    private static final String[] FIRST_NAMES_ASCII = ascii(FIRST_NAMES);
+    private static final String[] LAST_NAMES_ASCII = ascii(LAST_NAMES);
+
+    private static final String[] STREETS = {
+            "Rua das Flores", "Avenida Brasil", "Rua Sete de Setembro", "Rua XV de Novembro", "Avenida Getúlio Vargas",
+            "Rua Dom Pedro II", "Rua São João", "Travessa da Paz", "Avenida Beira Mar", "Rua Tiradentes"
+    };
+
+    private static final String[] NEIGHBORHOODS = {
+            "Centro", "Jardim América", "Vila Nova", "Boa Vista", "Santa Cruz",
+            "São José", "Liberdade", "Bela Vista", "Industrial", "Aeroporto"
+    };
+
+    private static final String[] DOMAINS = {"gmail.com", "hotmail.com", "outlook.com", "yahoo.com.br", "uol.com.br"};
+
+    private static final int[] CUMULATIVE_WEIGHTS = new int[CITIES.length];
+
+    static {
+        int total = 0;
+        for (int i = 0; i < CITIES.length; i++) {
+            total += CITIES[i].weight();
+            CUMULATIVE_WEIGHTS[i] = total;
+        }
+    }
+
+    private static final LocalDate OLDEST_BIRTH = LocalDate.of(1950, 1, 1);
+    private static final int BIRTH_RANGE_DAYS = 20_000;
+
+    private final long seed;
+    private final LocalDateTime createdUntil;
+
+    public SyntheticUserGenerator(long seed) {
+        this(seed, LocalDateTime.of(2025, 1, 1, 0, 0));
+    }
+
+    public SyntheticUserGenerator(long seed, LocalDateTime createdUntil) {
+        this.seed = seed;
+        this.createdUntil = createdUntil;
+    }
+
+    public record SyntheticUser(
+            String name,
+            String email,
+            String cpf,
+            String rg,
+            String phone,
+            String address,
+            String number,
+            String complement,
+            String neighborhood,
+            String city,
+            String state,
+            String zipCode,
+            Gender gender,
+            LocalDate dateOfBirth,
+            LocalDateTime createdAt
+    ) {}
+
+    private record City(String name, String state, String ddd, int cepFrom, int cepTo, int weight) {}
+
+    public SyntheticUser generate(int sequence) {
+        if (sequence < 0 || sequence > MAX_SEQUENCE) {
+            throw new IllegalArgumentException("Sequence must be between 0 and " + MAX_SEQUENCE);
+        }
+
+        SplittableRandom random = new SplittableRandom(seed * 0x9E3779B97F4A7C15L + sequence);
+        City city = city(random.nextInt(CUMULATIVE_WEIGHTS[CUMULATIVE_WEIGHTS.length - 1]));
+        int first = random.nextInt(FIRST_NAMES.length);
+        int last = random.nextInt(LAST_NAMES.length);
+        Gender gender = first < FIRST_NAMES.length / 2 ? Gender.FEMALE : Gender.MALE;
+
+        return new SyntheticUser(
+                FIRST_NAMES[first] + " " + LAST_NAMES[last],
+                email(sequence, random.nextInt(DOMAINS.length), first, last),
+                cpf(sequence),
+                rg(sequence),
+                city.ddd() + "9" + zeroPadded(random.nextInt(100_000_000), 8),
+                STREETS[random.nextInt(STREETS.length)],
+                Integer.toString(random.nextInt(1, 3_000)),
+                random.nextInt(4) == 0 ? "Apto " + random.nextInt(1, 300) : null,
+                NEIGHBORHOODS[random.nextInt(NEIGHBORHOODS.length)],
+                city.name(),
+                city.state(),
+                zeroPadded(random.nextInt(city.cepFrom(), city.cepTo() + 1) * 1_000 + random.nextInt(1_000), 8),
+                gender,
+                OLDEST_BIRTH.plusDays(random.nextInt(BIRTH_RANGE_DAYS)),
+                createdUntil.minusMinutes(random.nextInt(3 * 365 * 24 * 60))
+        );
+    }
+
+    public static String cpf(int sequence) {
+        return BrazilianDocuments.cpfFromBase(1 + (int) (sequence * CPF_MULTIPLIER % CPF_MODULUS));
+    }
+
+    public static String rg(int sequence) {
+        return Integer.toString(RG_OFFSET + sequence);
+    }
+
+    private static String email(int sequence, int domain, int first, int last) {
+        return FIRST_NAMES_ASCII[first] + "." + LAST_NAMES_ASCII[last] + "." + sequence + "@" + DOMAINS[domain];
+    }
+
+    // String.format is several times slower and shows up when generating millions of rows
+    private static String zeroPadded(int value, int width) {
+        char[] digits = new char[width];
+        for (int i = width - 1; i >= 0; i--) {
+            digits[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return new String(digits);
+    }
+
+    private static City city(int draw) {
+        int index = Arrays.binarySearch(CUMULATIVE_WEIGHTS, draw + 1);
+        return CITIES[index >= 0 ? index : -index - 1];
+    }
+
+    private static String[] ascii(String[] names) {
+        return Arrays.stream(names)
+                .map(name -> Normalizer.normalize(name, Normalizer.Form.NFD).replaceAll("\\p{M}", "").toLowerCase())
+                .toArray(String[]::new);
+    }
+}
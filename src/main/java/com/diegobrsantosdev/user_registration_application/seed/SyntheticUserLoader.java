@@ -0,0 +1,164 @@
+package com.diegobrsantosdev.user_registration_application.seed;
+
+import com.diegobrsantosdev.user_registration_application.exceptions.DatabaseException;
+import com.diegobrsantosdev.user_registration_application.seed.SyntheticUserGenerator.SyntheticUser;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+
+/**
+ * Bulk-loads synthetic users with plain JDBC batches into users and user_roles, bypassing Hibernate.
+ * Every row gets the same pre-hashed password, so loading does not pay one BCrypt round per user.
+ *
+ * Ids come from the users_seq that Hibernate allocates from (pooled, 50 per call): the loader reserves
+ * one value, moves the sequence past the whole range before inserting anything, and then writes ids
+ * first..first+count-1, so entities saved through JPA meanwhile never collide with the bulk rows.
+ * On MySQL add rewriteBatchedStatements=true to the JDBC URL, otherwise each batch is sent row by row.
+ */
+@Slf4j
+@Component
+public class SyntheticUserLoader {
+
+    // must match Hibernate's default allocation size for users_seq
+    private static final int ALLOCATION_SIZE = 50;
+
+    private static final String INSERT_USER = """
+            INSERT INTO users (id, name, email, password, cpf, rg, phone, address, number, complement,
+                               neighborhood, city, state, zip_code, gender, date_of_birth, profile_picture_url,
+                               terms_accepted, created_at, updated_at, version, two_factor_enabled, two_factor_secret)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, NULL, TRUE, ?, ?, 0, FALSE, NULL)
+            """;
+
+    private static final String INSERT_ROLE = "INSERT INTO user_roles (user_id, roles) VALUES (?, 'USER')";
+
+    private final DataSource dataSource;
+
+    public SyntheticUserLoader(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Ids are contiguous, so sequence {@code s} of this load has id {@code firstId + (s - firstSequence)}.
+     */
+    public record LoadResult(int firstId, int firstSequence, int count, long elapsedMillis) {
+
+        public int idOf(int sequence) {
+            return firstId + (sequence - firstSequence);
+        }
+    }
+
+    public LoadResult load(SyntheticUserGenerator generator, int firstSequence, int count,
+                           String encodedPassword, int batchSize) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("count must be positive");
+        }
+        if (firstSequence < 0 || (long) firstSequence + count - 1 > SyntheticUserGenerator.MAX_SEQUENCE) {
+            throw new IllegalArgumentException("Sequences must stay between 0 and " + SyntheticUserGenerator.MAX_SEQUENCE);
+        }
+
+        long started = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                int firstId = reserveIds(connection, count);
+                insert(connection, generator, firstId, firstSequence, count, encodedPassword, batchSize);
+
+                LoadResult result = new LoadResult(firstId, firstSequence, count, (System.nanoTime() - started) / 1_000_000);
+                log.info("Loaded {} synthetic users (ids {}..{}) in {} ms",
+                        count, firstId, firstId + count - 1, result.elapsedMillis());
+                return result;
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new DatabaseException("Could not load synthetic users: " + e.getMessage());
+        }
+    }
+
+    private void insert(Connection connection, SyntheticUserGenerator generator, int firstId, int firstSequence,
+                        int count, String encodedPassword, int batchSize) throws SQLException {
+        try (PreparedStatement users = connection.prepareStatement(INSERT_USER);
+             PreparedStatement roles = connection.prepareStatement(INSERT_ROLE)) {
+
+            for (int i = 0; i < count; i++) {
+                SyntheticUser user = generator.generate(firstSequence + i);
+                Timestamp createdAt = Timestamp.valueOf(user.createdAt());
+
+                int id = firstId + i;
+                users.setInt(1, id);
+                users.setString(2, user.name());
+                users.setString(3, user.email());
+                users.setString(4, encodedPassword);
+                users.setLong(5, Long.parseLong(user.cpf()));
+                users.setString(6, user.rg());
+                users.setLong(7, Long.parseLong(user.phone()));
+                users.setString(8, user.address());
+                users.setString(9, user.number());
+                if (user.complement() == null) users.setNull(10, Types.VARCHAR);
+                else users.setString(10, user.complement());
+                users.setString(11, user.neighborhood());
+                users.setString(12, user.city());
+                users.setString(13, user.state());
+                users.setLong(14, Long.parseLong(user.zipCode()));
+                users.setString(15, user.gender().name());
+                users.setDate(16, Date.valueOf(user.dateOfBirth()));
+                users.setTimestamp(17, createdAt);
+                users.setTimestamp(18, createdAt);
+                users.addBatch();
+
+                roles.setInt(1, id);
+                roles.addBatch();
+
+                // commit per batch so the transaction log stays bounded on multi-million loads
+                if ((i + 1) % batchSize == 0 || i == count - 1) {
+                    users.executeBatch();
+                    roles.executeBatch();
+                    connection.commit();
+                }
+            }
+        }
+    }
+
+    private int reserveIds(Connection connection, int count) throws SQLException {
+        String product = connection.getMetaData().getDatabaseProductName();
+        long first;
+        try (Statement statement = connection.createStatement()) {
+            if (product.startsWith("H2")) {
+                first = single(statement, "SELECT NEXT VALUE FOR users_seq");
+                statement.execute("ALTER SEQUENCE users_seq RESTART WITH " + (first + count + ALLOCATION_SIZE));
+            } else if (product.startsWith("MySQL")) {
+                // Hibernate emulates the sequence with a one-row table on MySQL
+                first = single(statement, "SELECT next_val FROM users_seq FOR UPDATE");
+                statement.executeUpdate("UPDATE users_seq SET next_val = " + (first + count + ALLOCATION_SIZE));
+            } else {
+                throw new SQLException("Unsupported database for bulk loading: " + product);
+            }
+        }
+        connection.commit();
+
+        if (first + count > Integer.MAX_VALUE) {
+            throw new SQLException("users_seq would overflow the integer id column");
+        }
+        return (int) first;
+    }
+
+    private static long single(Statement statement, String sql) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.diegobrsantosdev.user_registration_application.services;
+
+import com.diegobrsantosdev.user_registration_application.dtos.RegistrationStatusDTO;
+import com.diegobrsantosdev.user_registration_application.dtos.UserRegisterDTO;
+import com.diegobrsantosdev.user_registration_application.exceptions.ResourceAlreadyExistsException;
+import com.diegobrsantosdev.user_registration_application.exceptions.ResourceNotFoundException;
+import com.diegobrsantosdev.user_registration_application.models.RegistrationReservation;
+import com.diegobrsantosdev.user_registration_application.models.RegistrationStatus;
+import com.diegobrsantosdev.user_registration_application.repositories.RegistrationReservationRepository;
+import com.diegobrsantosdev.user_registration_application.validators.BrazilianDocuments;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Registration that answers 202 before BCrypt runs. Email, CPF and RG are reserved synchronously,
+ * so a duplicate still gets 409 on the request itself; hashing and the insert finish in {@link RegistrationPipeline}.
+ */
+@Slf4j
+@Service
+@Timed("app.service")
+public class AsyncRegistrationService {
+
+    private final AuthService authService;
+    private final RegistrationReservationRepository reservationRepository;
+    private final RegistrationPipeline pipeline;
+    private final Duration pendingTimeout;
+    private final Duration statusRetention;
+
+    public AsyncRegistrationService(AuthService authService,
+                                    RegistrationReservationRepository reservationRepository,
+                                    RegistrationPipeline pipeline,
+                                    @Value("${app.registration.async.pending-timeout-minutes:5}") long pendingTimeoutMinutes,
+                                    @Value("${app.registration.async.status-retention-minutes:15}") long statusRetentionMinutes) {
+        this.authService = authService;
+        this.reservationRepository = reservationRepository;
+        this.pipeline = pipeline;
+        this.pendingTimeout = Duration.ofMinutes(pendingTimeoutMinutes);
+        this.statusRetention = Duration.ofMinutes(statusRetentionMinutes);
+    }
+
+    public RegistrationStatusDTO submit(UserRegisterDTO request) {
+        authService.checkRegistrationRules(request);
+
+        RegistrationReservation reservation = RegistrationReservation.builder()
+                .id(UUID.randomUUID().toString())
+                .email(request.email())
+                .cpf(BrazilianDocuments.digitsOnly(request.cpf()))
+                .rg(request.rg())
+                .status(RegistrationStatus.PENDING)
+                .message("Registration is being processed.")
+                .createdAt(Instant.now())
+                .build();
+
+        try {
+            reservationRepository.saveAndFlush(reservation);
+        } catch (DataIntegrityViolationException e) {
+            throw new ResourceAlreadyExistsException("A registration with this email, CPF or RG is already in progress.");
+        }
+
+        try {
+            pipeline.submit(reservation.getId(), request);
+        } catch (RejectedExecutionException e) {
+            // free the keys right away, the client retries after the 503
+            reservationRepository.deleteById(reservation.getId());
+            throw e;
+        }
+
+        return RegistrationStatusDTO.fromEntity(reservation);
+    }
+
+    // not read-only: the caller is anonymous, so read-your-writes stickiness never applies and a replica
+    // could still miss the reservation or show it PENDING after it completed
+    @Transactional
+    public RegistrationStatusDTO status(String id) {
+        return reservationRepository.findById(id)
+                .map(RegistrationStatusDTO::fromEntity)
+                .orElseThrow(() -> new ResourceNotFoundException("Registration not found"));
+    }
+
+    @Scheduled(fixedDelayString = "${app.registration.async.purge-interval-ms:60000}")
+    public void purge() {
+        Instant now = Instant.now();
+        int timedOut = reservationRepository.failPendingBefore(now.minus(pendingTimeout), now,
+                RegistrationPipeline.ERROR_MESSAGE, RegistrationStatus.PENDING, RegistrationStatus.FAILED);
+        int deleted = reservationRepository.deleteFinishedBefore(now.minus(statusRetention), RegistrationStatus.PENDING);
+        if (timedOut > 0 || deleted > 0) {
+            log.info("Registration housekeeping: {} timed out, {} purged", timedOut, deleted);
+        }
+    }
+}
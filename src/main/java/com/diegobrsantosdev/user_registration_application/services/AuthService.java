@@ -8,29 +8,45 @@ import com.diegobrsantosdev.user_registration_application.exceptions.InvalidCred
 import com.diegobrsantosdev.user_registration_application.exceptions.InvalidDataException;
 import com.diegobrsantosdev.user_registration_application.models.Role;
 import com.diegobrsantosdev.user_registration_application.models.User;
+import com.diegobrsantosdev.user_registration_application.profiling.PasswordHashEvent;
 import com.diegobrsantosdev.user_registration_application.security.JwtUtil;
+import com.diegobrsantosdev.user_registration_application.viaCep.CepNotFoundException;
+import com.diegobrsantosdev.user_registration_application.viaCep.CepResponseDTO;
+import com.diegobrsantosdev.user_registration_application.viaCep.CepService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.text.Normalizer;
 import java.time.LocalDate;
+import java.util.Locale;
+import java.util.Optional;
 import java.util.Set;
 
 @Service
+@Timed("app.service")
 @RequiredArgsConstructor
 public class AuthService {
 
     private final UserService userService;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final CepService cepService;
 
     public AuthResponseDTO login(LoginRequestDTO request) {
         User user = userService.findByEmail(request.getEmail());
 
-        if (user == null || !passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        if (user == null || !matchesPassword(request.getPassword(), user.getPassword())) {
             throw new InvalidCredentialsException("Invalid email or password.");
         }
 
+        return loginResponse(user);
+    }
+
+    // the password has been checked; 2FA users get no token until the code is verified
+    public AuthResponseDTO loginResponse(User user) {
         if (user.getTwoFactorEnabled()) {
             return new AuthResponseDTO(
                     null,
@@ -56,8 +72,43 @@ public class AuthService {
         );
     }
 
+    // Only zipCode, number and complement are required; the rest of the address comes from the CEP cache
+    public AuthResponseDTO registerWithAddressLookup(UserRegisterDTO request) {
+        return register(enrichAddress(request));
+    }
+
     public AuthResponseDTO register(UserRegisterDTO request) {
+        checkRegistrationRules(request);
+
+        User user;
+        try {
+            user = userService.create(newUser(request, encodePassword(request.password())));
+        } catch (DataIntegrityViolationException e) {
+            Optional<String> conflict = findRegistrationConflict(request);
+            if (conflict.isPresent()) {
+                throw new InvalidCredentialsException(conflict.get());
+            }
+            throw e;
+        }
+
+        String token = jwtUtil.generateToken(
+                user.getEmail(),
+                user.getRoles()
+                        .stream()
+                        .map(role -> "ROLE_" + role.name())
+                        .toList()
+        );
 
+        return new AuthResponseDTO(
+                token,
+                false,
+                false,
+                UserResponseDTO.fromEntity(user)
+        );
+    }
+
+    // uniqueness and business rules shared by the synchronous and the async (202) registration
+    public void checkRegistrationRules(UserRegisterDTO request) {
         if (userService.existsByEmail(request.email())) {
             throw new InvalidCredentialsException("Email already in use.");
         }
@@ -83,11 +134,19 @@ public class AuthService {
         if (!request.termsAccepted()) {
             throw new InvalidDataException("Terms must be accepted.");
         }
+    }
 
+    // the unique indexes caught a user committed after checkRegistrationRules passed: same message as the checks
+    public Optional<String> findRegistrationConflict(UserRegisterDTO request) {
+        return userService.findTakenRegistrationField(request.email(), request.cpf(), request.rg())
+                .map(field -> field + " already in use.");
+    }
+
+    public User newUser(UserRegisterDTO request, String encodedPassword) {
         User user = new User();
         user.setName(request.name());
         user.setEmail(request.email());
-        user.setPassword(passwordEncoder.encode(request.password()));
+        user.setPassword(encodedPassword);
         user.setCpf(request.cpf());
         user.setRg(request.rg());
         user.setPhone(request.phone());
@@ -107,22 +166,70 @@ public class AuthService {
         user.setTwoFactorSecret(null);
 
         user.setRoles(Set.of(Role.USER));
+        return user;
+    }
 
-        user = userService.save(user);
+    public boolean matchesPassword(String raw, String encoded) {
+        PasswordHashEvent event = new PasswordHashEvent();
+        event.operation = "MATCH";
+        event.begin();
+        boolean matches = passwordEncoder.matches(raw, encoded);
+        event.commit(matches ? "MATCH" : "MISMATCH", false);
+        return matches;
+    }
 
-        String token = jwtUtil.generateToken(
-                user.getEmail(),
-                user.getRoles()
-                        .stream()
-                        .map(role -> "ROLE_" + role.name())
-                        .toList()
-        );
+    public String encodePassword(String raw) {
+        PasswordHashEvent event = new PasswordHashEvent();
+        event.operation = "ENCODE";
+        event.begin();
+        String encoded = passwordEncoder.encode(raw);
+        event.commit("ENCODED", false);
+        return encoded;
+    }
 
-        return new AuthResponseDTO(
-                token,
-                false,
-                false,
-                UserResponseDTO.fromEntity(user)
+    // also used before the async (202) registration reserves anything, so a bad CEP is still a 400
+    public UserRegisterDTO enrichAddress(UserRegisterDTO request) {
+        CepResponseDTO cep;
+        try {
+            cep = cepService.lookupCep(request.zipCode());
+        } catch (CepNotFoundException e) {
+            throw new InvalidDataException("ZIP code not found: " + request.zipCode());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidDataException(e.getMessage());
+        } catch (RuntimeException e) {
+            throw new InvalidDataException("Address lookup is unavailable. Please send the full address.");
+        }
+
+        return request.withAddress(
+                resolveAddressField("Address", request.address(), cep.address()),
+                resolveAddressField("Neighborhood", request.neighborhood(), cep.neighborhood()),
+                resolveAddressField("City", request.city(), cep.city()),
+                resolveAddressField("State", request.state(), cep.state())
         );
     }
-}
\ No newline at end of file
+
+    // client values win only when they agree with the cached record; some CEPs cover a whole city and have no street
+    private String resolveAddressField(String field, String supplied, String cached) {
+        boolean hasSupplied = supplied != null && !supplied.isBlank();
+        boolean hasCached = cached != null && !cached.isBlank();
+
+        if (hasSupplied && hasCached && !normalize(supplied).equals(normalize(cached))) {
+            throw new InvalidDataException(field + " does not match the ZIP code.");
+        }
+        if (hasSupplied) {
+            return supplied;
+        }
+        if (hasCached) {
+            return cached;
+        }
+        throw new InvalidDataException(field + " is required.");
+    }
+
+    private String normalize(String value) {
+        return Normalizer.normalize(value, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .replaceAll("\\s+", " ")
+                .trim()
+                .toLowerCase(Locale.ROOT);
+    }
+}
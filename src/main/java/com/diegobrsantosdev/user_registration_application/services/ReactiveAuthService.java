@@ -0,0 +1,39 @@
+package com.diegobrsantosdev.user_registration_application.services;
+
+import com.diegobrsantosdev.user_registration_application.dtos.AuthResponseDTO;
+import com.diegobrsantosdev.user_registration_application.dtos.LoginRequestDTO;
+import com.diegobrsantosdev.user_registration_application.exceptions.InvalidCredentialsException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Same login as {@link AuthService#login}, split by the kind of work: the user lookup is blocking JDBC
+ * and runs on bounded-elastic, the BCrypt check runs on the bounded password-hash scheduler.
+ */
+@Service
+public class ReactiveAuthService {
+
+    private final UserService userService;
+    private final AuthService authService;
+    private final Scheduler passwordHashScheduler;
+
+    public ReactiveAuthService(UserService userService,
+                               AuthService authService,
+                               @Qualifier("passwordHashScheduler") Scheduler passwordHashScheduler) {
+        this.userService = userService;
+        this.authService = authService;
+        this.passwordHashScheduler = passwordHashScheduler;
+    }
+
+    public Mono<AuthResponseDTO> login(LoginRequestDTO request) {
+        return Mono.fromCallable(() -> userService.findByEmail(request.getEmail()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .publishOn(passwordHashScheduler)
+                .filter(user -> authService.matchesPassword(request.getPassword(), user.getPassword()))
+                .switchIfEmpty(Mono.error(() -> new InvalidCredentialsException("Invalid email or password.")))
+                .map(authService::loginResponse);
+    }
+}
@@ -0,0 +1,223 @@
+package com.diegobrsantosdev.user_registration_application.services;
+
+import com.diegobrsantosdev.user_registration_application.dtos.UserRegisterDTO;
+import com.diegobrsantosdev.user_registration_application.dtos.UserResponseDTO;
+import com.diegobrsantosdev.user_registration_application.models.RegistrationReservation;
+import com.diegobrsantosdev.user_registration_application.models.User;
+import com.diegobrsantosdev.user_registration_application.outbox.UserChangeType;
+import com.diegobrsantosdev.user_registration_application.outbox.UserOutbox;
+import com.diegobrsantosdev.user_registration_application.repositories.RegistrationReservationRepository;
+import com.diegobrsantosdev.user_registration_application.repositories.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Background half of the async registration: BCrypt runs on a fixed pool sized to the cores,
+ * and a single writer drains the hashed users and inserts them in batches, one transaction per batch.
+ */
+@Slf4j
+@Component
+public class RegistrationPipeline {
+
+    static final String DUPLICATE_MESSAGE = "Email, CPF or RG already in use.";
+    static final String ERROR_MESSAGE = "Registration could not be completed.";
+
+    private final AuthService authService;
+    private final UserRepository userRepository;
+    private final RegistrationReservationRepository reservationRepository;
+    private final UserOutbox userOutbox;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long batchMaxWaitMs;
+
+    private final ThreadPoolExecutor hashWorkers;
+    private final BlockingQueue<Hashed> hashed;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public RegistrationPipeline(AuthService authService,
+                                UserRepository userRepository,
+                                RegistrationReservationRepository reservationRepository,
+                                UserOutbox userOutbox,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${app.registration.async.workers:0}") int workers,
+                                @Value("${app.registration.async.queue-capacity:1000}") int queueCapacity,
+                                @Value("${app.registration.async.batch-size:50}") int batchSize,
+                                @Value("${app.registration.async.batch-max-wait-ms:20}") long batchMaxWaitMs) {
+        this.authService = authService;
+        this.userRepository = userRepository;
+        this.reservationRepository = reservationRepository;
+        this.userOutbox = userOutbox;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.batchMaxWaitMs = batchMaxWaitMs;
+
+        // BCrypt is CPU-bound: one worker per core, and past the queue capacity submit() throws and the request gets 503
+        int threads = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        this.hashWorkers = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> new Thread(runnable, "registration-hash-" + counter.incrementAndGet()),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.hashed = new LinkedBlockingQueue<>(queueCapacity);
+        this.writer = new Thread(this::drain, "registration-writer");
+        this.writer.setDaemon(true);
+    }
+
+    @PostConstruct
+    void start() {
+        writer.start();
+    }
+
+    // throws RejectedExecutionException when the hash queue is full
+    public void submit(String reservationId, UserRegisterDTO request) {
+        hashWorkers.execute(() -> hash(reservationId, request));
+    }
+
+    public int pending() {
+        return hashWorkers.getQueue().size() + hashWorkers.getActiveCount() + hashed.size();
+    }
+
+    private void hash(String reservationId, UserRegisterDTO request) {
+        try {
+            hashed.put(new Hashed(reservationId, request, authService.encodePassword(request.password())));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.error("Hashing failed for registration {}", reservationId, e);
+            failQuietly(reservationId, ERROR_MESSAGE);
+        }
+    }
+
+    private void drain() {
+        List<Hashed> batch = new ArrayList<>(batchSize);
+        while (running || !hashed.isEmpty()) {
+            try {
+                Hashed first = hashed.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // wait a little for concurrent registrations so they share one transaction and one JDBC batch
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(batchMaxWaitMs);
+                while (batch.size() < batchSize) {
+                    Hashed next = hashed.poll(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                persistBatch(batch);
+            } catch (InterruptedException e) {
+                if (!running) {
+                    hashed.drainTo(batch);
+                    persistBatch(batch);
+                    return;
+                }
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void persistBatch(List<Hashed> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            persist(batch);
+        } catch (DataIntegrityViolationException e) {
+            // one conflicting row fails the whole batch; retry one by one so only that registration fails
+            for (Hashed item : batch) {
+                persistOne(item);
+            }
+        } catch (RuntimeException e) {
+            log.error("Registration batch of {} failed", batch.size(), e);
+            batch.forEach(item -> failQuietly(item.reservationId(), ERROR_MESSAGE));
+        }
+    }
+
+    private void persistOne(Hashed item) {
+        try {
+            persist(List.of(item));
+        } catch (DataIntegrityViolationException e) {
+            failQuietly(item.reservationId(), conflictMessage(item.request()));
+        } catch (RuntimeException e) {
+            log.error("Registration {} failed", item.reservationId(), e);
+            failQuietly(item.reservationId(), ERROR_MESSAGE);
+        }
+    }
+
+    // the same "Email already in use." the synchronous registration answers, when the field can be told
+    private String conflictMessage(UserRegisterDTO request) {
+        try {
+            return authService.findRegistrationConflict(request).orElse(DUPLICATE_MESSAGE);
+        } catch (RuntimeException e) {
+            return DUPLICATE_MESSAGE;
+        }
+    }
+
+    private void persist(List<Hashed> items) {
+        transactionTemplate.executeWithoutResult(status -> {
+            // fresh entities on every attempt: a rolled-back save leaves ids on the previous ones
+            List<User> users = items.stream()
+                    .map(item -> authService.newUser(item.request(), item.encodedPassword()))
+                    .toList();
+            userRepository.saveAll(users);
+            userRepository.flush();
+            users.forEach(user -> userOutbox.record(UserChangeType.CREATED, null, UserResponseDTO.fromEntity(user)));
+
+            Map<String, RegistrationReservation> reservations = reservationRepository
+                    .findAllById(items.stream().map(Hashed::reservationId).toList())
+                    .stream()
+                    .collect(Collectors.toMap(RegistrationReservation::getId, Function.identity()));
+            for (int i = 0; i < items.size(); i++) {
+                RegistrationReservation reservation = reservations.get(items.get(i).reservationId());
+                // missing only when housekeeping already timed it out and purged it
+                if (reservation != null) {
+                    reservation.complete(users.get(i).getId());
+                }
+            }
+        });
+    }
+
+    private void failQuietly(String reservationId, String message) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    reservationRepository.findById(reservationId).ifPresent(reservation -> reservation.fail(message)));
+        } catch (RuntimeException e) {
+            log.error("Could not mark registration {} as failed", reservationId, e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        hashWorkers.shutdown();
+        hashWorkers.awaitTermination(10, TimeUnit.SECONDS);
+        running = false;
+        writer.interrupt();
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    private record Hashed(String reservationId, UserRegisterDTO request, String encodedPassword) {
+    }
+}
@@ -4,11 +4,13 @@ import com.google.zxing.BarcodeFormat;
 import com.google.zxing.client.j2se.MatrixToImageWriter;
 import com.google.zxing.common.BitMatrix;
 import com.google.zxing.qrcode.QRCodeWriter;
+import com.diegobrsantosdev.user_registration_application.profiling.TotpValidationEvent;
 import dev.samstevens.totp.code.*;
 
 import dev.samstevens.totp.secret.DefaultSecretGenerator;
 import dev.samstevens.totp.secret.SecretGenerator;
 import dev.samstevens.totp.time.SystemTimeProvider;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
 
 import javax.imageio.ImageIO;
@@ -17,6 +19,7 @@ import java.io.ByteArrayOutputStream;
 import java.util.Base64;
 
 @Service
+@Timed("app.service")
 public class TopService {
 
     private final SecretGenerator secretGenerator = new DefaultSecretGenerator();
@@ -34,7 +37,11 @@ public class TopService {
 
     // validate TOTP code
     public boolean validateCode(String secret, String code) {
-        return verifier.isValidCode(secret, code);
+        TotpValidationEvent event = new TotpValidationEvent();
+        event.begin();
+        boolean valid = verifier.isValidCode(secret, code);
+        event.commit(valid ? "VALID" : "INVALID", false);
+        return valid;
     }
 
     // generate otpauth URI
@@ -4,21 +4,27 @@ import com.diegobrsantosdev.user_registration_application.dtos.*;
 import com.diegobrsantosdev.user_registration_application.exceptions.InvalidDataException;
 import com.diegobrsantosdev.user_registration_application.exceptions.UsernameNotFoundException;
 import com.diegobrsantosdev.user_registration_application.models.User;
+import com.diegobrsantosdev.user_registration_application.outbox.UserChangeType;
+import com.diegobrsantosdev.user_registration_application.outbox.UserOutbox;
 import com.diegobrsantosdev.user_registration_application.repositories.UserRepository;
 import com.diegobrsantosdev.user_registration_application.security.JwtUtil;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 @Service
+@Timed("app.service")
 @RequiredArgsConstructor
 public class TwoFactorAuthService {
 
     private final UserRepository userRepository;
     private final JwtUtil jwtUtil;
     private final TopService topService;
+    private final UserOutbox userOutbox;
 
     // helper method to get the authenticated User from Authentication
     private User getAuthenticatedUser(Authentication authentication) {
@@ -43,6 +49,7 @@ public class TwoFactorAuthService {
         }
     }
 
+    @Transactional
     public TwoFactorVerifyResponseDTO verify2FA(TwoFactorVerifyRequestDTO request) {
         User user = userRepository.findByEmail(request.email())
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
@@ -50,8 +57,13 @@ public class TwoFactorAuthService {
         boolean valid = topService.validateCode(user.getTwoFactorSecret(), request.code());
         if (!valid) throw new InvalidDataException("Invalid 2FA code");
 
+        UserResponseDTO before = UserResponseDTO.fromEntity(user);
         user.setTwoFactorEnabled(true);
-        userRepository.save(user);
+        User saved = userRepository.save(user);
+        // verifying again once enabled changes nothing
+        if (!Boolean.TRUE.equals(before.twoFactorEnabled())) {
+            userOutbox.record(UserChangeType.UPDATED, before, UserResponseDTO.fromEntity(saved));
+        }
 
         List<String> roles = user.getRoles().stream()
                 .map(role -> "ROLE_" + role.name())
@@ -1,13 +1,19 @@
 package com.diegobrsantosdev.user_registration_application.services;
 
+import com.diegobrsantosdev.user_registration_application.availability.RegistrationFilters;
+import com.diegobrsantosdev.user_registration_application.availability.RegistrationKey;
 import com.diegobrsantosdev.user_registration_application.dtos.*;
 import com.diegobrsantosdev.user_registration_application.models.Role;
 import com.diegobrsantosdev.user_registration_application.models.User;
 import com.diegobrsantosdev.user_registration_application.exceptions.*;
 import com.diegobrsantosdev.user_registration_application.mappers.UserMapper;
+import com.diegobrsantosdev.user_registration_application.outbox.UserChangeType;
+import com.diegobrsantosdev.user_registration_application.outbox.UserOutbox;
 import com.diegobrsantosdev.user_registration_application.repositories.UserRepository;
+import com.diegobrsantosdev.user_registration_application.validators.BrazilianDocuments;
 import com.diegobrsantosdev.user_registration_application.shared.ApiMessages;
-import jakarta.transaction.Transactional;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.annotation.Timed;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
@@ -17,18 +23,22 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
 
 @Service
+@Timed("app.service")
 @RequiredArgsConstructor
 public class UserService {
 
     private final UserRepository userRepository;
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
+    private final UserOutbox userOutbox;
+    private final RegistrationFilters registrationFilters;
 
     // ========= CREATE =========
     @Transactional
@@ -47,38 +57,72 @@ public class UserService {
         user.setRoles(Set.of(Role.USER));
 
         User savedUser = userRepository.save(user);
-        return UserResponseDTO.fromEntity(savedUser);
+        UserResponseDTO created = UserResponseDTO.fromEntity(savedUser);
+        userOutbox.record(UserChangeType.CREATED, null, created);
+        return created;
+    }
+
+    // registration path of AuthService: the insert and its outbox row commit together
+    @Transactional
+    public User create(User user) {
+        User savedUser = userRepository.save(user);
+        userOutbox.record(UserChangeType.CREATED, null, UserResponseDTO.fromEntity(savedUser));
+        return savedUser;
     }
 
 
     // ========= READ =========
+    // read-only transactions are routed to a replica when app.datasource.routing.enabled=true
+    @Transactional(readOnly = true)
     public UserResponseDTO getUserById(Integer id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
         return UserResponseDTO.fromEntity(user);
     }
 
+    // the CPF column is BIGINT: a value that is not a CPF cannot be bound, and no user holds it anyway
+    @Transactional(readOnly = true)
     public Optional<UserResponseDTO> getUserByCpf(String cpf) {
+        if (!BrazilianDocuments.isValidCpf(cpf, true)) {
+            return Optional.empty();
+        }
         return userRepository.findByCpf(cpf)
                 .map(UserResponseDTO::fromEntity);
     }
 
+    @Transactional(readOnly = true)
     public Optional<UserResponseDTO> getUserByEmail(String email) {
         return userRepository.findByEmail(email)
                 .map(UserResponseDTO::fromEntity);
     }
 
+    @Transactional(readOnly = true)
     public Page<UserResponseDTO> listAllUsers(Pageable pageable) {
         return userRepository.findAll(pageable)
                 .map(UserResponseDTO::fromEntity);
     }
 
+    @Transactional(readOnly = true)
+    public Long getUserVersion(Integer id) {
+        return userRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+    }
+
     // ========= UPDATE =========
     @Transactional
     public UserResponseDTO updateUser(Integer id, @Valid UserUpdateDTO dto) {
+        return updateUser(id, dto, null);
+    }
+
+    // expectedVersion comes from If-Match; null skips the check
+    @Transactional
+    public UserResponseDTO updateUser(Integer id, @Valid UserUpdateDTO dto, Long expectedVersion) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
+        checkVersion(user, expectedVersion);
+        UserResponseDTO before = UserResponseDTO.fromEntity(user);
+
         userRepository.findByCpf(dto.cpf())
                 .filter(u -> !u.getId().equals(id))
                 .ifPresent(u -> {
@@ -93,7 +137,41 @@ public class UserService {
 
         userMapper.updateEntityFromDto(user, dto);
         User updated = userRepository.saveAndFlush(user);
-        return UserResponseDTO.fromEntity(updated);
+        UserResponseDTO after = UserResponseDTO.fromEntity(updated);
+        userOutbox.record(UserChangeType.UPDATED, before, after);
+        return after;
+    }
+
+    // RFC 7396 merge patch: only the columns that actually changed are written (see @DynamicUpdate on User)
+    @Transactional
+    public UserResponseDTO patchUser(Integer id, JsonNode patch, Long expectedVersion) {
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        checkVersion(user, expectedVersion);
+
+        // probes run before the entity is touched, otherwise the query would auto-flush the pending changes
+        UserUpdateDTO patched = userMapper.mergePatch(user, patch);
+
+        if (!patched.cpf().equals(user.getCpf()) && userRepository.existsByCpf(patched.cpf())) {
+            throw new ResourceAlreadyExistsException("CPF already registered");
+        }
+        if (!patched.email().equals(user.getEmail()) && userRepository.existsByEmail(patched.email())) {
+            throw new ResourceAlreadyExistsException("Email already registered");
+        }
+        if (!patched.rg().equals(user.getRg()) && userRepository.existsByRg(patched.rg())) {
+            throw new ResourceAlreadyExistsException("RG already registered");
+        }
+
+        UserResponseDTO before = UserResponseDTO.fromEntity(user);
+        if (userMapper.applyChanges(user, patched).isEmpty()) {
+            return before;
+        }
+
+        User updated = userRepository.saveAndFlush(user);
+        UserResponseDTO after = UserResponseDTO.fromEntity(updated);
+        userOutbox.record(UserChangeType.UPDATED, before, after);
+        return after;
     }
 
     @Transactional
@@ -117,10 +195,13 @@ public class UserService {
             throw new InvalidDataException(ApiMessages.USER_ALREADY_ADMIN);
         }
 
+        UserResponseDTO before = UserResponseDTO.fromEntity(user);
         Set<Role> roles = new HashSet<>(user.getRoles());
         roles.add(Role.ADMIN);
         user.setRoles(roles);
-        return save(user);
+        User promoted = save(user);
+        userOutbox.record(UserChangeType.PROMOTED, before, UserResponseDTO.fromEntity(promoted));
+        return promoted;
     }
 
     // ========= DELETE =========
@@ -130,6 +211,7 @@ public class UserService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
         userRepository.delete(user);
+        userOutbox.record(UserChangeType.DELETED, UserResponseDTO.fromEntity(user), null);
         return new MessageResponseDTO("Your account has been successfully deleted");
     }
 
@@ -149,12 +231,19 @@ public class UserService {
 
 
         userRepository.delete(user);
+        userOutbox.record(UserChangeType.DELETED, UserResponseDTO.fromEntity(user), null);
         return new MessageResponseDTO("User deleted successfully");
     }
 
 
     // ========= OTHERS =========
 
+    private void checkVersion(User user, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(user.getVersion())) {
+            throw new PreconditionFailedException("User was modified since it was last read");
+        }
+    }
+
 
     private void checkDuplicate(String fieldName, Optional<?> existing) {
         if (existing.isPresent()) {
@@ -162,37 +251,64 @@ public class UserService {
         }
     }
 
+    @Transactional(readOnly = true)
     public User findByEmail(String email) {
         return userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException(email));
     }
 
+    @Transactional(readOnly = true)
     public boolean existsByEmail(String email) {
-        return userRepository.existsByEmail(email);
+        return registrationFilters.exists(RegistrationKey.EMAIL, email, userRepository::existsByEmail);
     }
 
     public User save(User user) {
         return userRepository.save(user);
     }
 
+    @Transactional(readOnly = true)
     public boolean existsByCpf(String cpf) {
-        return userRepository.existsByCpf(cpf);
+        if (!BrazilianDocuments.isValidCpf(cpf, true)) {
+            return false;
+        }
+        return registrationFilters.exists(RegistrationKey.CPF, cpf, userRepository::existsByCpf);
     }
 
+    @Transactional(readOnly = true)
     public boolean existsByRg(String rg) {
-        return userRepository.existsByRg(rg);
+        return registrationFilters.exists(RegistrationKey.RG, rg, userRepository::existsByRg);
     }
 
+    // after a unique-index violation, e.g. a filter false negative for a user another instance wrote;
+    // skips the filters, and is not read-only, so a replica that has not seen the conflicting insert is skipped too
+    @Transactional
+    public Optional<String> findTakenRegistrationField(String email, String cpf, String rg) {
+        if (userRepository.existsByEmail(email)) {
+            return Optional.of("Email");
+        }
+        if (userRepository.existsByCpf(cpf)) {
+            return Optional.of("CPF");
+        }
+        if (userRepository.existsByRg(rg)) {
+            return Optional.of("RG");
+        }
+        return Optional.empty();
+    }
+
+    @Transactional(readOnly = true)
     public User findById(Integer id) {
         return userRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("User not found"));
     }
 
+    @Transactional
     public void deleteUser(Integer id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
         userRepository.delete(user);
+        userOutbox.record(UserChangeType.DELETED, UserResponseDTO.fromEntity(user), null);
     }
 
+    @Transactional(readOnly = true)
     public long countByRoles(Role role) {
         return userRepository.countByRoles(role);
     }
@@ -0,0 +1,61 @@
+package com.diegobrsantosdev.user_registration_application.shared;
+
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Weak ETags built from a resource id and its JPA version, e.g. W/"12-3".
+ */
+public final class ETags {
+
+    private ETags() {}
+
+    public static String weak(Integer id, Long version) {
+        if (id == null || version == null) return null;
+        return "W/\"" + id + "-" + version + "\"";
+    }
+
+    // If-None-Match uses weak comparison, so W/"1-2" and "1-2" are the same tag
+    public static boolean matches(String header, String etag) {
+        if (header == null || etag == null) return false;
+
+        String current = opaque(etag);
+        for (String candidate : header.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || opaque(tag).equals(current)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Version carried by an If-Match tag for the given id.
+     * Returns null for "*", and -1 when the tag belongs to another resource or cannot be parsed,
+     * so it never matches a real version.
+     */
+    public static Long expectedVersion(String header, Integer id) {
+        if (header == null || header.trim().equals("*")) return null;
+
+        String tag = opaque(header.trim());
+        if (tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\"")) return -1L;
+
+        String value = tag.substring(1, tag.length() - 1);
+        int separator = value.lastIndexOf('-');
+        if (separator < 0 || !value.substring(0, separator).equals(String.valueOf(id))) return -1L;
+
+        try {
+            return Long.parseLong(value.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+    public static <T> ResponseEntity<T> withETag(ResponseEntity.BodyBuilder builder, String etag, T body) {
+        if (etag != null) {
+            builder.eTag(etag);
+        }
+        return builder.body(body);
+    }
+
+    private static String opaque(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
@@ -0,0 +1,20 @@
+package com.diegobrsantosdev.user_registration_application.statistics;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// registrations in one bucket, e.g. (HOUR, 486512) -> 37
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "registration_rollups")
+@Entity
+public class RegistrationRollup {
+
+    @EmbeddedId
+    private RegistrationRollupId id;
+
+    @Column(name = "count", nullable = false)
+    private long count;
+}
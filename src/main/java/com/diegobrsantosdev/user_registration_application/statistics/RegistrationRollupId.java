@@ -0,0 +1,26 @@
+package com.diegobrsantosdev.user_registration_application.statistics;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.*;
+
+import java.io.Serializable;
+
+@Getter
+@Setter
+@EqualsAndHashCode
+@AllArgsConstructor
+@NoArgsConstructor
+@Embeddable
+public class RegistrationRollupId implements Serializable {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "resolution", length = 8, nullable = false)
+    private RollupResolution resolution;
+
+    // bucket index since the epoch, see RollupResolution#startOf
+    @Column(name = "bucket", nullable = false)
+    private long bucket;
+}
@@ -0,0 +1,36 @@
+package com.diegobrsantosdev.user_registration_application.statistics;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface RegistrationRollupRepository extends JpaRepository<RegistrationRollup, RegistrationRollupId> {
+
+    @Query("""
+            select r from RegistrationRollup r
+             where r.id.resolution = :resolution and r.id.bucket between :from and :to
+             order by r.id.bucket
+            """)
+    List<RegistrationRollup> findRange(@Param("resolution") RollupResolution resolution,
+                                       @Param("from") long from,
+                                       @Param("to") long to);
+
+    // deltas instead of absolute values, so several instances can flush into the same bucket
+    @Modifying
+    @Query("""
+            update RegistrationRollup r set r.count = r.count + :delta
+             where r.id.resolution = :resolution and r.id.bucket = :bucket
+            """)
+    int addToBucket(@Param("resolution") RollupResolution resolution,
+                    @Param("bucket") long bucket,
+                    @Param("delta") long delta);
+
+    @Modifying
+    @Query("delete from RegistrationRollup r where r.id.resolution = :resolution and r.id.bucket < :bucket")
+    int deleteBefore(@Param("resolution") RollupResolution resolution, @Param("bucket") long bucket);
+}
@@ -0,0 +1,293 @@
+package com.diegobrsantosdev.user_registration_application.statistics;
+
+import com.diegobrsantosdev.user_registration_application.exceptions.InvalidDataException;
+import com.diegobrsantosdev.user_registration_application.outbox.UserChangeType;
+import com.diegobrsantosdev.user_registration_application.outbox.UserChangedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Registrations per minute, hour and day. Each resolution keeps its most recent buckets in a ring fed by
+ * CREATED {@link UserChangedEvent}s, and the increments are flushed as deltas to registration_rollups.
+ * <p>
+ * Ranges inside the ring are answered from memory, older ones with a single primary-key range read.
+ * At startup the rings are loaded from the table; when the table is still empty it is backfilled once
+ * from users.created_at. With several instances the in-memory part only sees this instance's signups
+ * since it started, the table has them all once flushed.
+ */
+@Slf4j
+@Component
+public class RegistrationRollups {
+
+    private static final int DEFAULT_POINTS = 60;
+
+    private final RegistrationRollupRepository rollupRepository;
+    private final UserStatisticsQueries queries;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxPoints;
+    private final Map<RollupResolution, Duration> retention = new EnumMap<>(RollupResolution.class);
+    private final Map<RollupResolution, Ring> rings = new EnumMap<>(RollupResolution.class);
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public RegistrationRollups(RegistrationRollupRepository rollupRepository,
+                               UserStatisticsQueries queries,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${app.rollups.max-points:5000}") int maxPoints,
+                               @Value("${app.rollups.minute-retention-days:7}") long minuteRetentionDays,
+                               @Value("${app.rollups.hour-retention-days:90}") long hourRetentionDays) {
+        this.rollupRepository = rollupRepository;
+        this.queries = queries;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxPoints = maxPoints;
+        this.retention.put(RollupResolution.MINUTE, Duration.ofDays(minuteRetentionDays));
+        this.retention.put(RollupResolution.HOUR, Duration.ofDays(hourRetentionDays));
+        for (RollupResolution resolution : RollupResolution.values()) {
+            rings.put(resolution, new Ring(resolution.ringSize()));
+        }
+    }
+
+    // runs before the web server accepts requests, so no signup is counted twice by the backfill
+    @PostConstruct
+    void load() {
+        Instant now = Instant.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            if (rollupRepository.count() == 0) {
+                backfill(now);
+            }
+            for (RollupResolution resolution : RollupResolution.values()) {
+                long last = resolution.bucketOf(now);
+                Ring ring = rings.get(resolution);
+                for (RegistrationRollup row : rollupRepository.findRange(resolution, last - resolution.ringSize() + 1, last)) {
+                    ring.load(row.getId().getBucket(), row.getCount());
+                }
+            }
+        });
+    }
+
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.type() != UserChangeType.CREATED) {
+            return;
+        }
+        LocalDateTime createdAt = event.after() != null ? event.after().createdAt() : null;
+        record(createdAt != null ? toInstant(createdAt) : event.occurredAt());
+    }
+
+    void record(Instant registeredAt) {
+        rings.forEach((resolution, ring) -> ring.increment(resolution.bucketOf(registeredAt)));
+    }
+
+    public RegistrationSeriesDTO series(RollupResolution resolution, Instant from, Instant to) {
+        Instant now = Instant.now();
+        long last = resolution.bucketOf(to != null ? to : now);
+        long first = from != null ? resolution.bucketOf(from) : last - DEFAULT_POINTS + 1;
+        if (first > last) {
+            throw new InvalidDataException("'from' must not be after 'to'.");
+        }
+        if (last - first + 1 > maxPoints) {
+            throw new InvalidDataException("The range covers more than " + maxPoints
+                    + " " + resolution.name().toLowerCase() + " buckets, use a coarser resolution.");
+        }
+
+        long ringStart = resolution.bucketOf(now) - resolution.ringSize() + 1;
+        Map<Long, Long> stored = first < ringStart
+                ? rollupRepository.findRange(resolution, first, Math.min(last, ringStart - 1)).stream()
+                        .collect(Collectors.toMap(row -> row.getId().getBucket(), RegistrationRollup::getCount))
+                : Map.of();
+
+        Ring ring = rings.get(resolution);
+        List<RegistrationSeriesDTO.Point> points = new ArrayList<>((int) (last - first + 1));
+        long total = 0;
+        for (long bucket = first; bucket <= last; bucket++) {
+            long count = bucket >= ringStart ? ring.count(bucket) : stored.getOrDefault(bucket, 0L);
+            points.add(new RegistrationSeriesDTO.Point(resolution.startOf(bucket), count));
+            total += count;
+        }
+        return new RegistrationSeriesDTO(resolution, resolution.startOf(first),
+                resolution.startOf(last + 1), total, points);
+    }
+
+    @Scheduled(fixedDelayString = "${app.rollups.flush-interval-ms:5000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<Delta> deltas = new ArrayList<>();
+            rings.forEach((resolution, ring) -> ring.collect(resolution, deltas));
+            if (deltas.isEmpty()) {
+                return;
+            }
+            transactionTemplate.executeWithoutResult(status -> deltas.forEach(this::persist));
+            // only marked as flushed once committed, a failed flush is retried with the same deltas
+            deltas.forEach(delta -> rings.get(delta.resolution()).flushed(delta));
+        } catch (RuntimeException e) {
+            log.warn("Registration rollup flush failed, retrying on the next run", e);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.rollups.purge-interval-ms:3600000}")
+    public void purge() {
+        Instant now = Instant.now();
+        transactionTemplate.executeWithoutResult(status -> retention.forEach((resolution, keep) ->
+                rollupRepository.deleteBefore(resolution, resolution.bucketOf(now.minus(keep)))));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+
+    // the first instance to insert a bucket wins, a concurrent insert fails the flush and the retry updates
+    private void persist(Delta delta) {
+        if (rollupRepository.addToBucket(delta.resolution(), delta.slot().bucket, delta.amount()) == 0) {
+            rollupRepository.save(new RegistrationRollup(
+                    new RegistrationRollupId(delta.resolution(), delta.slot().bucket), delta.amount()));
+        }
+    }
+
+    // one scan of created_at, bucketed here instead of a dialect-specific GROUP BY per resolution
+    private void backfill(Instant now) {
+        Map<RollupResolution, Map<Long, Long>> totals = new EnumMap<>(RollupResolution.class);
+        for (RollupResolution resolution : RollupResolution.values()) {
+            totals.put(resolution, new HashMap<>());
+        }
+        try (Stream<LocalDateTime> createdAt = queries.streamCreatedAt()) {
+            createdAt.forEach(at -> {
+                Instant instant = toInstant(at);
+                totals.forEach((resolution, buckets) -> buckets.merge(resolution.bucketOf(instant), 1L, Long::sum));
+            });
+        }
+
+        List<RegistrationRollup> rows = new ArrayList<>();
+        totals.forEach((resolution, buckets) -> {
+            Duration keep = retention.get(resolution);
+            long oldest = keep == null ? Long.MIN_VALUE : resolution.bucketOf(now.minus(keep));
+            buckets.forEach((bucket, count) -> {
+                if (bucket >= oldest) {
+                    rows.add(new RegistrationRollup(new RegistrationRollupId(resolution, bucket), count));
+                }
+            });
+        });
+        rollupRepository.saveAll(rows);
+        if (!rows.isEmpty()) {
+            log.info("Backfilled {} registration rollup buckets from users.created_at", rows.size());
+        }
+    }
+
+    private static Instant toInstant(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    record Delta(RollupResolution resolution, Slot slot, long total, long amount) {
+    }
+
+    static final class Slot {
+        private final long bucket;
+        private final LongAdder count = new LongAdder();
+        // written by the flushing thread only
+        private volatile long flushed;
+
+        private Slot(long bucket, long loaded) {
+            this.bucket = bucket;
+            this.count.add(loaded);
+            this.flushed = loaded;
+        }
+    }
+
+    /**
+     * Lock-free ring of the latest buckets of one resolution. A slot is taken over by compare-and-set when a
+     * newer bucket maps to it; the slot it replaces, and any increment older than the ring, is kept aside
+     * until its unflushed part has been written.
+     */
+    static final class Ring {
+        private final AtomicReferenceArray<Slot> slots;
+        private final Set<Slot> retired = ConcurrentHashMap.newKeySet();
+
+        Ring(int size) {
+            this.slots = new AtomicReferenceArray<>(size);
+        }
+
+        void increment(long bucket) {
+            int index = index(bucket);
+            while (true) {
+                Slot slot = slots.get(index);
+                if (slot != null && slot.bucket == bucket) {
+                    slot.count.increment();
+                    return;
+                }
+                if (slot != null && slot.bucket > bucket) {
+                    Slot late = new Slot(bucket, 0);
+                    late.count.increment();
+                    retired.add(late);
+                    return;
+                }
+                if (slots.compareAndSet(index, slot, new Slot(bucket, 0)) && slot != null
+                        && slot.count.sum() > slot.flushed) {
+                    retired.add(slot);
+                }
+            }
+        }
+
+        void load(long bucket, long count) {
+            slots.set(index(bucket), new Slot(bucket, count));
+        }
+
+        long count(long bucket) {
+            Slot slot = slots.get(index(bucket));
+            return slot != null && slot.bucket == bucket ? slot.count.sum() : 0;
+        }
+
+        void collect(RollupResolution resolution, List<Delta> deltas) {
+            for (int i = 0; i < slots.length(); i++) {
+                addDelta(resolution, slots.get(i), deltas);
+            }
+            for (Slot slot : retired) {
+                addDelta(resolution, slot, deltas);
+            }
+        }
+
+        void flushed(Delta delta) {
+            delta.slot().flushed = delta.total();
+            retired.remove(delta.slot());
+        }
+
+        private void addDelta(RollupResolution resolution, Slot slot, List<Delta> deltas) {
+            if (slot == null) {
+                return;
+            }
+            long total = slot.count.sum();
+            if (total > slot.flushed) {
+                deltas.add(new Delta(resolution, slot, total, total - slot.flushed));
+            }
+        }
+
+        private int index(long bucket) {
+            return (int) Math.floorMod(bucket, (long) slots.length());
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.diegobrsantosdev.user_registration_application.statistics;
+
+import java.time.Instant;
+import java.util.List;
+
+// one point per bucket in [from, to], empty buckets included; start is the beginning of the bucket
+public record RegistrationSeriesDTO(
+        RollupResolution resolution,
+        Instant from,
+        Instant to,
+        long total,
+        List<Point> points
+) {
+    public record Point(Instant start, long count) {
+    }
+}
@@ -0,0 +1,37 @@
+package com.diegobrsantosdev.user_registration_application.statistics;
+
+import java.time.Instant;
+
+/**
+ * Bucket sizes of the registration rollups. Buckets are counted from the epoch, so days are UTC days.
+ * ringSize is how many of the most recent buckets are kept in memory; older ones are read from the table.
+ */
+public enum RollupResolution {
+    MINUTE(60, 24 * 60),
+    HOUR(60 * 60, 14 * 24),
+    DAY(24 * 60 * 60, 400);
+
+    private final long seconds;
+    private final int ringSize;
+
+    RollupResolution(long seconds, int ringSize) {
+        this.seconds = seconds;
+        this.ringSize = ringSize;
+    }
+
+    public long seconds() {
+        return seconds;
+    }
+
+    public int ringSize() {
+        return ringSize;
+    }
+
+    public long bucketOf(Instant instant) {
+        return Math.floorDiv(instant.getEpochSecond(), seconds);
+    }
+
+    public Instant startOf(long bucket) {
+        return Instant.ofEpochSecond(bucket * seconds);
+    }
+}
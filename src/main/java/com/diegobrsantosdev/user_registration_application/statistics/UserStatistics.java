@@ -0,0 +1,313 @@
+package com.diegobrsantosdev.user_registration_application.statistics;
+
+import com.diegobrsantosdev.user_registration_application.dtos.UserResponseDTO;
+import com.diegobrsantosdev.user_registration_application.models.Role;
+import com.diegobrsantosdev.user_registration_application.outbox.UserChangedEvent;
+import com.diegobrsantosdev.user_registration_application.outbox.UserOutboxRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * User counts per state, gender, birth year, 2FA and role, kept in LongAdders and moved by every
+ * {@link UserChangedEvent}: the buckets of the old snapshot go down, the ones of the new snapshot go up.
+ * <p>
+ * At startup the counters come from the last checkpoint, then {@link #reconcile} replaces them with one
+ * aggregate scan. The scan reads the outbox sequence in the same snapshot, so changes that commit while it
+ * runs are buffered and only those past that sequence are replayed on top.
+ * Counters only see commits made by this instance; with several instances schedule app.statistics.reconcile-cron.
+ */
+@Slf4j
+@Component
+public class UserStatistics implements MeterBinder {
+
+    static final String TOTAL = "total";
+    static final String ADMINS = "admins";
+    static final String TWO_FACTOR = "twoFactor";
+    static final String STATE = "state:";
+    static final String GENDER = "gender:";
+    static final String BIRTH_YEAR = "birthYear:";
+    private static final String UNKNOWN = "UNKNOWN";
+
+    // inclusive upper age of each bucket, the last one is open-ended
+    private static final int[] AGE_LIMITS = {17, 24, 34, 44, 54, 64};
+    private static final String[] AGE_LABELS = {"0-17", "18-24", "25-34", "35-44", "45-54", "55-64", "65+"};
+
+    private final UserStatisticsQueries queries;
+    private final UserOutboxRepository outboxRepository;
+    private final UserStatisticsCheckpointRepository checkpointRepository;
+    private final TransactionTemplate snapshotTransaction;
+
+    private final ReentrantLock reconcileLock = new ReentrantLock();
+    private final List<UserChangedEvent> pending = new ArrayList<>();
+    private volatile Counters counters = new Counters();
+    private volatile boolean reconciling;
+    private volatile Instant reconciledAt;
+    private volatile Instant checkpointedAt;
+    private volatile long lastDrift;
+
+    public UserStatistics(UserStatisticsQueries queries,
+                          UserOutboxRepository outboxRepository,
+                          UserStatisticsCheckpointRepository checkpointRepository,
+                          PlatformTransactionManager transactionManager) {
+        this.queries = queries;
+        this.outboxRepository = outboxRepository;
+        this.checkpointRepository = checkpointRepository;
+        // not read-only on purpose: a lagging replica would miss events committed before reconciling started
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    @PostConstruct
+    void loadCheckpoint() {
+        Counters loaded = new Counters();
+        for (UserStatisticsCheckpoint row : checkpointRepository.findAll()) {
+            loaded.add(row.getBucket(), row.getCount());
+            if (checkpointedAt == null || row.getCheckpointedAt().isAfter(checkpointedAt)) {
+                checkpointedAt = row.getCheckpointedAt();
+            }
+        }
+        counters = loaded;
+    }
+
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        if (reconciling) {
+            reconcileLock.lock();
+            try {
+                if (reconciling) {
+                    pending.add(event);
+                    counters.apply(event);
+                    return;
+                }
+            } finally {
+                reconcileLock.unlock();
+            }
+        }
+        counters.apply(event);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    // "-" (the default) disables it; a single instance only needs the startup run
+    @Scheduled(cron = "${app.statistics.reconcile-cron:-}")
+    public void reconcile() {
+        reconcileLock.lock();
+        try {
+            if (reconciling) {
+                return;
+            }
+            // set before the snapshot is taken, so no commit can fall between the scan and the buffer
+            reconciling = true;
+        } finally {
+            reconcileLock.unlock();
+        }
+
+        try {
+            DatabaseCounts counts = snapshotTransaction.execute(status -> readDatabase());
+            reconcileLock.lock();
+            try {
+                for (UserChangedEvent event : pending) {
+                    if (event.sequence() > counts.sequence()) {
+                        counts.counters().apply(event);
+                    }
+                }
+                lastDrift = counters.distanceTo(counts.counters());
+                counters = counts.counters();
+                reconciledAt = Instant.now();
+            } finally {
+                pending.clear();
+                reconciling = false;
+                reconcileLock.unlock();
+            }
+            if (lastDrift > 0) {
+                log.warn("User statistics drifted by {} from the database and were reconciled", lastDrift);
+            }
+        } catch (RuntimeException e) {
+            reconcileLock.lock();
+            try {
+                pending.clear();
+                reconciling = false;
+            } finally {
+                reconcileLock.unlock();
+            }
+            log.error("User statistics reconciliation failed, keeping the current counters", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.statistics.checkpoint-interval-ms:60000}")
+    public void checkpoint() {
+        if (reconciling) {
+            return;
+        }
+        Instant now = Instant.now();
+        checkpointRepository.saveAll(counters.snapshot().entrySet().stream()
+                .map(entry -> new UserStatisticsCheckpoint(entry.getKey(), entry.getValue(), now))
+                .toList());
+        checkpointedAt = now;
+    }
+
+    public UserStatisticsDTO statistics() {
+        Counters current = counters;
+        long total = current.get(TOTAL);
+        long twoFactor = current.get(TWO_FACTOR);
+        return new UserStatisticsDTO(
+                total,
+                current.get(ADMINS),
+                twoFactor,
+                total == 0 ? 0.0 : (double) twoFactor / total,
+                current.withPrefix(STATE),
+                current.withPrefix(GENDER),
+                ageBuckets(current.withPrefix(BIRTH_YEAR), LocalDate.now().getYear()),
+                reconciledAt,
+                checkpointedAt
+        );
+    }
+
+    private DatabaseCounts readDatabase() {
+        long sequence = outboxRepository.findLastSequence();
+        Counters fresh = new Counters();
+        for (Object[] row : queries.countByDimensions()) {
+            long count = ((Number) row[4]).longValue();
+            fresh.add(TOTAL, count);
+            fresh.add(STATE + orUnknown(row[0]), count);
+            fresh.add(GENDER + orUnknown(row[1]), count);
+            if (row[2] != null) {
+                fresh.add(BIRTH_YEAR + row[2], count);
+            }
+            if (Boolean.TRUE.equals(row[3])) {
+                fresh.add(TWO_FACTOR, count);
+            }
+        }
+        fresh.add(ADMINS, queries.countWithRole(Role.ADMIN));
+        return new DatabaseCounts(sequence, fresh);
+    }
+
+    static Set<String> buckets(UserResponseDTO user) {
+        Set<String> buckets = new HashSet<>(8);
+        buckets.add(TOTAL);
+        buckets.add(STATE + orUnknown(user.state()));
+        buckets.add(GENDER + orUnknown(user.gender()));
+        if (user.dateOfBirth() != null) {
+            buckets.add(BIRTH_YEAR + user.dateOfBirth().getYear());
+        }
+        if (Boolean.TRUE.equals(user.twoFactorEnabled())) {
+            buckets.add(TWO_FACTOR);
+        }
+        if (user.roles() != null && user.roles().contains(Role.ADMIN)) {
+            buckets.add(ADMINS);
+        }
+        return buckets;
+    }
+
+    static Map<String, Long> ageBuckets(Map<String, Long> byBirthYear, int currentYear) {
+        Map<String, Long> ages = new LinkedHashMap<>();
+        for (String label : AGE_LABELS) {
+            ages.put(label, 0L);
+        }
+        byBirthYear.forEach((year, count) -> {
+            int age = currentYear - Integer.parseInt(year);
+            int bucket = 0;
+            while (bucket < AGE_LIMITS.length && age > AGE_LIMITS[bucket]) {
+                bucket++;
+            }
+            ages.merge(AGE_LABELS[bucket], count, Long::sum);
+        });
+        return ages;
+    }
+
+    private static String orUnknown(Object value) {
+        return value == null ? UNKNOWN : value.toString();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("app.users.statistics.drift", this, statistics -> statistics.lastDrift)
+                .description("Sum of counter differences corrected by the last reconciliation")
+                .register(registry);
+    }
+
+    private record DatabaseCounts(long sequence, Counters counters) {
+    }
+
+    static final class Counters {
+        private final Map<String, LongAdder> adders = new ConcurrentHashMap<>();
+
+        void add(String bucket, long delta) {
+            adders.computeIfAbsent(bucket, key -> new LongAdder()).add(delta);
+        }
+
+        long get(String bucket) {
+            LongAdder adder = adders.get(bucket);
+            return adder == null ? 0 : adder.sum();
+        }
+
+        // only buckets that differ move, so an unrelated update never shows a transient -1/+1
+        void apply(UserChangedEvent event) {
+            Set<String> removed = event.before() == null ? Set.of() : buckets(event.before());
+            Set<String> added = event.after() == null ? Set.of() : buckets(event.after());
+            for (String bucket : removed) {
+                if (!added.contains(bucket)) {
+                    add(bucket, -1);
+                }
+            }
+            for (String bucket : added) {
+                if (!removed.contains(bucket)) {
+                    add(bucket, 1);
+                }
+            }
+        }
+
+        Map<String, Long> snapshot() {
+            Map<String, Long> snapshot = new TreeMap<>();
+            adders.forEach((bucket, adder) -> snapshot.put(bucket, adder.sum()));
+            return snapshot;
+        }
+
+        Map<String, Long> withPrefix(String prefix) {
+            Map<String, Long> values = new TreeMap<>();
+            adders.forEach((bucket, adder) -> {
+                long count = adder.sum();
+                if (bucket.startsWith(prefix) && count != 0) {
+                    values.put(bucket.substring(prefix.length()), count);
+                }
+            });
+            return values;
+        }
+
+        long distanceTo(Counters other) {
+            Set<String> buckets = new HashSet<>(adders.keySet());
+            buckets.addAll(other.adders.keySet());
+            long distance = 0;
+            for (String bucket : buckets) {
+                distance += Math.abs(get(bucket) - other.get(bucket));
+            }
+            return distance;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.diegobrsantosdev.user_registration_application.statistics;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+// last checkpointed value of one counter, e.g. bucket "state:PE"
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "user_statistics")
+@Entity
+public class UserStatisticsCheckpoint {
+
+    @Id
+    @Column(name = "bucket", length = 64)
+    private String bucket;
+
+    @Column(name = "count", nullable = false)
+    private long count;
+
+    @Column(name = "checkpointed_at", nullable = false)
+    private Instant checkpointedAt;
+}
@@ -0,0 +1,8 @@
+package com.diegobrsantosdev.user_registration_application.statistics;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UserStatisticsCheckpointRepository extends JpaRepository<UserStatisticsCheckpoint, String> {
+}
@@ -0,0 +1,46 @@
+package com.diegobrsantosdev.user_registration_application.statistics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Instant;
+
+@RestController
+@RequestMapping("/api/v1/admin/users/statistics")
+@RequiredArgsConstructor
+public class UserStatisticsController {
+
+    private final UserStatistics userStatistics;
+    private final RegistrationRollups registrationRollups;
+
+    // answered from the in-memory counters, the cost does not grow with the table
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<UserStatisticsDTO> statistics() {
+        return ResponseEntity.ok(userStatistics.statistics());
+    }
+
+    // full scan: recounts from the database, e.g. after a bulk import that bypassed UserService
+    @PostMapping("/reconcile")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<UserStatisticsDTO> reconcile() {
+        userStatistics.reconcile();
+        return ResponseEntity.ok(userStatistics.statistics());
+    }
+
+    // from/to are ISO-8601 instants; without from, the last 60 buckets up to to (default now)
+    @GetMapping("/registrations")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<RegistrationSeriesDTO> registrations(
+            @RequestParam(defaultValue = "HOUR") RollupResolution resolution,
+            @RequestParam(required = false) Instant from,
+            @RequestParam(required = false) Instant to) {
+        return ResponseEntity.ok(registrationRollups.series(resolution, from, to));
+    }
+}
@@ -0,0 +1,21 @@
+package com.diegobrsantosdev.user_registration_application.statistics;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * ageBuckets are derived from the birth year, so an age is off by one until the birthday in the current year.
+ * reconciledAt is null while the counters still come from the last checkpoint.
+ */
+public record UserStatisticsDTO(
+        long total,
+        long admins,
+        long twoFactorEnabled,
+        double twoFactorAdoption,
+        Map<String, Long> byState,
+        Map<String, Long> byGender,
+        Map<String, Long> ageBuckets,
+        Instant reconciledAt,
+        Instant checkpointedAt
+) {
+}
@@ -0,0 +1,31 @@
+package com.diegobrsantosdev.user_registration_application.statistics;
+
+import com.diegobrsantosdev.user_registration_application.models.Role;
+import com.diegobrsantosdev.user_registration_application.models.User;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+// full-table scans, only used to reconcile the counters and to backfill the rollups
+@Repository
+public interface UserStatisticsQueries extends org.springframework.data.repository.Repository<User, Integer> {
+
+    // one scan for every dimension but roles: state, gender, birth year, 2FA, count
+    @Query("""
+            select u.state, u.gender, year(u.dateOfBirth), u.twoFactorEnabled, count(u)
+              from User u
+             group by u.state, u.gender, year(u.dateOfBirth), u.twoFactorEnabled
+            """)
+    List<Object[]> countByDimensions();
+
+    @Query("select count(distinct u.id) from User u join u.roles r where r = :role")
+    long countWithRole(@Param("role") Role role);
+
+    // must be consumed and closed inside a transaction
+    @Query("select u.createdAt from User u where u.createdAt is not null")
+    Stream<LocalDateTime> streamCreatedAt();
+}
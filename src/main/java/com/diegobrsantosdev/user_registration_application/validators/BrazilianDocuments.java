@@ -0,0 +1,222 @@
+package com.diegobrsantosdev.user_registration_application.validators;
+
+/**
+ * Single-pass validation for Brazilian identifiers (CPF, CNPJ, CEP, phone and UF).
+ * Checks read the input one char at a time and never allocate, so they are safe on hot paths.
+ * When {@code allowFormatted} is true, the usual mask separators ('.', '-', '/', spaces and
+ * phone parentheses) are skipped and only the digits are checked.
+ */
+public final class BrazilianDocuments {
+
+    public static final int CPF_LENGTH = 11;
+    public static final int CNPJ_LENGTH = 14;
+    public static final int CEP_LENGTH = 8;
+
+    private static final String[] UFS = {
+            "AC", "AL", "AM", "AP", "BA", "CE", "DF", "ES", "GO", "MA", "MG", "MS", "MT", "PA",
+            "PB", "PE", "PI", "PR", "RJ", "RN", "RO", "RR", "RS", "SC", "SE", "SP", "TO"
+    };
+
+    // one bit per two-letter combination, 26 * 26 = 676 bits
+    private static final long[] UF_BITS = new long[11];
+
+    static {
+        for (String uf : UFS) {
+            int index = ufIndex(uf.charAt(0), uf.charAt(1));
+            UF_BITS[index >>> 6] |= 1L << index;
+        }
+    }
+
+    private BrazilianDocuments() {}
+
+    // ========= CPF =========
+    public static boolean isValidCpf(CharSequence value, boolean allowFormatted) {
+        if (value == null) return false;
+
+        int count = 0, first = -1, sum1 = 0, sum2 = 0, dv1 = 0, dv2 = 0;
+        boolean allSame = true;
+
+        for (int i = 0, n = value.length(); i < n; i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (count == CPF_LENGTH) return false;
+                int digit = c - '0';
+                if (count == 0) first = digit;
+                else if (digit != first) allSame = false;
+
+                if (count < 9) sum1 += digit * (10 - count);
+                if (count < 10) sum2 += digit * (11 - count);
+                if (count == 9) dv1 = digit;
+                if (count == 10) dv2 = digit;
+                count++;
+            } else if (!allowFormatted || !isDocumentSeparator(c)) {
+                return false;
+            }
+        }
+
+        // blocked CPFs such as 111.111.111-11 pass the check digits
+        if (count != CPF_LENGTH || allSame) return false;
+        return dv1 == cpfCheckDigit(sum1) && dv2 == cpfCheckDigit(sum2);
+    }
+
+    /**
+     * Completes a nine-digit CPF base (0 to 999999999, leading zeros implied) with its two check digits.
+     * Bases made of a single repeated digit produce blocked CPFs that {@link #isValidCpf} rejects.
+     */
+    public static String cpfFromBase(int base) {
+        if (base < 0 || base > 999_999_999) {
+            throw new IllegalArgumentException("CPF base must have at most nine digits");
+        }
+
+        char[] digits = new char[CPF_LENGTH];
+        int sum1 = 0, sum2 = 0;
+        for (int i = 8; i >= 0; i--) {
+            int digit = base % 10;
+            base /= 10;
+            digits[i] = (char) ('0' + digit);
+            sum1 += digit * (10 - i);
+            sum2 += digit * (11 - i);
+        }
+        int dv1 = cpfCheckDigit(sum1);
+        int dv2 = cpfCheckDigit(sum2 + dv1 * 2);
+        digits[9] = (char) ('0' + dv1);
+        digits[10] = (char) ('0' + dv2);
+        return new String(digits);
+    }
+
+    private static int cpfCheckDigit(int sum) {
+        int digit = 11 - (sum % 11);
+        return digit >= 10 ? 0 : digit;
+    }
+
+    // ========= CNPJ =========
+    public static boolean isValidCnpj(CharSequence value, boolean allowFormatted) {
+        if (value == null) return false;
+
+        int count = 0, first = -1, sum1 = 0, sum2 = 0, dv1 = 0, dv2 = 0;
+        boolean allSame = true;
+
+        for (int i = 0, n = value.length(); i < n; i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (count == CNPJ_LENGTH) return false;
+                int digit = c - '0';
+                if (count == 0) first = digit;
+                else if (digit != first) allSame = false;
+
+                // weights 5..2,9..2 for the first check digit and 6..2,9..2 for the second
+                if (count < 12) sum1 += digit * (count < 4 ? 5 - count : 13 - count);
+                if (count < 13) sum2 += digit * (count < 5 ? 6 - count : 14 - count);
+                if (count == 12) dv1 = digit;
+                if (count == 13) dv2 = digit;
+                count++;
+            } else if (!allowFormatted || !isDocumentSeparator(c)) {
+                return false;
+            }
+        }
+
+        if (count != CNPJ_LENGTH || allSame) return false;
+        return dv1 == cnpjCheckDigit(sum1) && dv2 == cnpjCheckDigit(sum2);
+    }
+
+    private static int cnpjCheckDigit(int sum) {
+        int remainder = sum % 11;
+        return remainder < 2 ? 0 : 11 - remainder;
+    }
+
+    // ========= CEP =========
+    public static boolean isValidCep(CharSequence value, boolean allowFormatted) {
+        if (value == null) return false;
+
+        int count = 0;
+        boolean allZero = true;
+
+        for (int i = 0, n = value.length(); i < n; i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (count == CEP_LENGTH) return false;
+                if (c != '0') allZero = false;
+                count++;
+            } else if (!allowFormatted || !isDocumentSeparator(c)) {
+                return false;
+            }
+        }
+        return count == CEP_LENGTH && !allZero;
+    }
+
+    // ========= PHONE =========
+
+    /**
+     * Area code (DDD) plus number: 10 digits for landlines, 11 for mobiles.
+     * DDDs never contain a zero and mobile numbers always start with 9.
+     */
+    public static boolean isValidPhone(CharSequence value, boolean allowFormatted) {
+        if (value == null) return false;
+
+        int count = 0, thirdDigit = -1;
+
+        for (int i = 0, n = value.length(); i < n; i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (count == 11) return false;
+                if (count < 2 && c == '0') return false;
+                if (count == 2) thirdDigit = c - '0';
+                count++;
+            } else if (!allowFormatted || !isPhoneSeparator(c)) {
+                return false;
+            }
+        }
+        return count == 10 || (count == 11 && thirdDigit == 9);
+    }
+
+    // ========= UF =========
+    public static boolean isValidUf(CharSequence value) {
+        if (value == null || value.length() != 2) return false;
+
+        char first = value.charAt(0);
+        char second = value.charAt(1);
+        if (first < 'A' || first > 'Z' || second < 'A' || second > 'Z') return false;
+
+        int index = ufIndex(first, second);
+        return (UF_BITS[index >>> 6] & (1L << index)) != 0;
+    }
+
+    private static int ufIndex(char first, char second) {
+        return (first - 'A') * 26 + (second - 'A');
+    }
+
+    // ========= NORMALIZATION =========
+
+    /**
+     * Strips everything but digits, e.g. "123.456.789-09" becomes "12345678909".
+     * Returns the same instance when the input is already digits only.
+     */
+    public static String digitsOnly(String value) {
+        if (value == null) return null;
+
+        int n = value.length();
+        int i = 0;
+        while (i < n && isDigit(value.charAt(i))) i++;
+        if (i == n) return value;
+
+        StringBuilder digits = new StringBuilder(n);
+        digits.append(value, 0, i);
+        for (; i < n; i++) {
+            char c = value.charAt(i);
+            if (isDigit(c)) digits.append(c);
+        }
+        return digits.toString();
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isDocumentSeparator(char c) {
+        return c == '.' || c == '-' || c == '/' || c == ' ';
+    }
+
+    private static boolean isPhoneSeparator(char c) {
+        return c == '(' || c == ')' || c == '-' || c == ' ' || c == '.';
+    }
+}
@@ -0,0 +1,8 @@
+package com.diegobrsantosdev.user_registration_application.validators;
+
+/**
+ * Validation group for address fields the client must send itself.
+ * Left out when the address is filled from the ZIP code on the server.
+ */
+public interface ManualAddress {
+}
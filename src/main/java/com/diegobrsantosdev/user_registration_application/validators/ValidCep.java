@@ -0,0 +1,20 @@
+package com.diegobrsantosdev.user_registration_application.validators;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.*;
+
+@Documented
+@Constraint(validatedBy = ValidCepValidator.class)
+@Target({ ElementType.FIELD, ElementType.PARAMETER })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ValidCep {
+
+    String message() default "ZIP code must have 8 digits";
+    Class<?>[] groups() default {};
+    Class<? extends Payload>[] payload() default {};
+
+    // accept masked input such as 01001-000
+    boolean allowFormatted() default false;
+}
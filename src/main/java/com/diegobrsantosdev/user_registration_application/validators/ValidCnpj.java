@@ -0,0 +1,20 @@
+package com.diegobrsantosdev.user_registration_application.validators;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.*;
+
+@Documented
+@Constraint(validatedBy = ValidCnpjValidator.class)
+@Target({ ElementType.FIELD, ElementType.PARAMETER })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ValidCnpj {
+
+    String message() default "Invalid CNPJ";
+    Class<?>[] groups() default {};
+    Class<? extends Payload>[] payload() default {};
+
+    // accept masked input such as 11.222.333/0001-81
+    boolean allowFormatted() default false;
+}
@@ -0,0 +1,20 @@
+package com.diegobrsantosdev.user_registration_application.validators;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class ValidCnpjValidator implements ConstraintValidator<ValidCnpj, String> {
+
+    private boolean allowFormatted;
+
+    @Override
+    public void initialize(ValidCnpj constraint) {
+        this.allowFormatted = constraint.allowFormatted();
+    }
+
+    @Override
+    public boolean isValid(String value, ConstraintValidatorContext context) {
+        // null is left to @NotBlank/@NotNull
+        return value == null || BrazilianDocuments.isValidCnpj(value, allowFormatted);
+    }
+}
@@ -14,4 +14,7 @@ public @interface ValidCpf {
     String message() default "Invalid CPF";
     Class<?>[] groups() default {};
     Class<? extends Payload>[] payload() default {};
-}
\ No newline at end of file
+
+    // accept masked input such as 123.456.789-09
+    boolean allowFormatted() default false;
+}
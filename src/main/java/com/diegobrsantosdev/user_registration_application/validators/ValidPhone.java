@@ -0,0 +1,20 @@
+package com.diegobrsantosdev.user_registration_application.validators;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.*;
+
+@Documented
+@Constraint(validatedBy = ValidPhoneValidator.class)
+@Target({ ElementType.FIELD, ElementType.PARAMETER })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ValidPhone {
+
+    String message() default "Phone must have 10 or 11 digits (only numbers, including DDD)";
+    Class<?>[] groups() default {};
+    Class<? extends Payload>[] payload() default {};
+
+    // accept masked input such as (81) 98750-1006
+    boolean allowFormatted() default false;
+}
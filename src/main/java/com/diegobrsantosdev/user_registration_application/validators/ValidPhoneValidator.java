@@ -0,0 +1,20 @@
+package com.diegobrsantosdev.user_registration_application.validators;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class ValidPhoneValidator implements ConstraintValidator<ValidPhone, String> {
+
+    private boolean allowFormatted;
+
+    @Override
+    public void initialize(ValidPhone constraint) {
+        this.allowFormatted = constraint.allowFormatted();
+    }
+
+    @Override
+    public boolean isValid(String value, ConstraintValidatorContext context) {
+        // null is left to @NotBlank/@NotNull
+        return value == null || BrazilianDocuments.isValidPhone(value, allowFormatted);
+    }
+}
@@ -0,0 +1,17 @@
+package com.diegobrsantosdev.user_registration_application.validators;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.*;
+
+@Documented
+@Constraint(validatedBy = ValidUfValidator.class)
+@Target({ ElementType.FIELD, ElementType.PARAMETER })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ValidUf {
+
+    String message() default "State (UF) must be a valid Brazilian state abbreviation (e.g. SP)";
+    Class<?>[] groups() default {};
+    Class<? extends Payload>[] payload() default {};
+}
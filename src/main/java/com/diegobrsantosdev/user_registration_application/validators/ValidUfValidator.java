@@ -0,0 +1,13 @@
+package com.diegobrsantosdev.user_registration_application.validators;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class ValidUfValidator implements ConstraintValidator<ValidUf, String> {
+
+    @Override
+    public boolean isValid(String value, ConstraintValidatorContext context) {
+        // null is left to @NotBlank/@NotNull
+        return value == null || BrazilianDocuments.isValidUf(value);
+    }
+}
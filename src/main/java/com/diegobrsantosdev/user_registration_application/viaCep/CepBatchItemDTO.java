@@ -0,0 +1,17 @@
+package com.diegobrsantosdev.user_registration_application.viaCep;
+
+public record CepBatchItemDTO(
+    String cep,
+    CepLookupStatus status,
+    boolean cached,
+    CepResponseDTO address,
+    String error
+) {
+    public static CepBatchItemDTO found(String cep, CepResponseDTO address, boolean cached) {
+        return new CepBatchItemDTO(cep, CepLookupStatus.FOUND, cached, address, null);
+    }
+
+    public static CepBatchItemDTO failed(String cep, CepLookupStatus status, String error) {
+        return new CepBatchItemDTO(cep, status, false, null, error);
+    }
+}
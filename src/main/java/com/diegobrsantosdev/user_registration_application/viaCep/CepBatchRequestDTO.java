@@ -0,0 +1,7 @@
+package com.diegobrsantosdev.user_registration_application.viaCep;
+
+import java.util.List;
+
+public record CepBatchRequestDTO(
+    List<String> ceps
+) {}
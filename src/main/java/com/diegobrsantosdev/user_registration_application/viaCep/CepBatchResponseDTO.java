@@ -0,0 +1,9 @@
+package com.diegobrsantosdev.user_registration_application.viaCep;
+
+import java.util.List;
+
+public record CepBatchResponseDTO(
+    int requested,
+    int found,
+    List<CepBatchItemDTO> items
+) {}
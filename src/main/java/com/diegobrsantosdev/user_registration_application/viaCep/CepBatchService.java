@@ -0,0 +1,126 @@
+package com.diegobrsantosdev.user_registration_application.viaCep;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Service
+@Timed("app.service")
+public class CepBatchService {
+
+    private final CepService cepService;
+    private final CepCacheStore cepCacheStore;
+    private final CacheManager cacheManager;
+    private final int maxSize;
+    private final long timeoutMs;
+
+    // one virtual thread per upstream call, shared across batches so a slow call never blocks the caller past the deadline
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public CepBatchService(CepService cepService,
+                           CepCacheStore cepCacheStore,
+                           CacheManager cacheManager,
+                           @Value("${viacep.batch.max-size:20}") int maxSize,
+                           @Value("${viacep.batch.timeout-ms:5000}") long timeoutMs) {
+        this.cepService = cepService;
+        this.cepCacheStore = cepCacheStore;
+        this.cacheManager = cacheManager;
+        this.maxSize = maxSize;
+        this.timeoutMs = timeoutMs;
+    }
+
+    public CepBatchResponseDTO lookupBatch(List<String> ceps) {
+        validateBatch(ceps);
+
+        // duplicates are resolved once, order of first appearance is kept
+        Map<String, CepBatchItemDTO> results = new LinkedHashMap<>();
+        List<String> misses = new ArrayList<>();
+        Cache cache = cacheManager.getCache("ceps");
+
+        for (String cep : new LinkedHashSet<>(ceps)) {
+            CepResponseDTO cached = cache != null && cep != null ? cache.get(cep, CepResponseDTO.class) : null;
+            if (cached != null) {
+                cepCacheStore.touch(cep);
+                results.put(cep, CepBatchItemDTO.found(cep, cached, true));
+            } else {
+                results.put(cep, null);
+                misses.add(cep);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            fanOut(misses, results);
+        }
+
+        List<CepBatchItemDTO> items = new ArrayList<>(results.values());
+        int found = (int) items.stream().filter(item -> item.status() == CepLookupStatus.FOUND).count();
+        return new CepBatchResponseDTO(items.size(), found, items);
+    }
+
+    private void fanOut(List<String> misses, Map<String, CepBatchItemDTO> results) {
+        Map<String, Future<CepResponseDTO>> futures = new LinkedHashMap<>();
+        for (String cep : misses) {
+            // CepService puts successful lookups in the "ceps" cache
+            futures.put(cep, executor.submit(() -> cepService.lookupCep(cep)));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+
+        for (Map.Entry<String, Future<CepResponseDTO>> entry : futures.entrySet()) {
+            String cep = entry.getKey();
+            Future<CepResponseDTO> future = entry.getValue();
+            try {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                results.put(cep, CepBatchItemDTO.found(cep, future.get(remaining, TimeUnit.NANOSECONDS), false));
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                results.put(cep, CepBatchItemDTO.failed(cep, CepLookupStatus.TIMEOUT, "Lookup did not finish before the batch deadline."));
+            } catch (ExecutionException e) {
+                results.put(cep, toFailure(cep, e.getCause()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                results.put(cep, CepBatchItemDTO.failed(cep, CepLookupStatus.ERROR, "Lookup was interrupted."));
+            }
+        }
+    }
+
+    private CepBatchItemDTO toFailure(String cep, Throwable cause) {
+        if (cause instanceof CepNotFoundException) {
+            return CepBatchItemDTO.failed(cep, CepLookupStatus.NOT_FOUND, cause.getMessage());
+        }
+        if (cause instanceof IllegalArgumentException) {
+            return CepBatchItemDTO.failed(cep, CepLookupStatus.INVALID, cause.getMessage());
+        }
+        return CepBatchItemDTO.failed(cep, CepLookupStatus.ERROR, cause.getMessage());
+    }
+
+    private void validateBatch(List<String> ceps) {
+        if (ceps == null || ceps.isEmpty()) {
+            throw new IllegalArgumentException("At least one CEP is required.");
+        }
+        if (ceps.size() > maxSize) {
+            throw new IllegalArgumentException("A batch accepts at most " + maxSize + " CEPs.");
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
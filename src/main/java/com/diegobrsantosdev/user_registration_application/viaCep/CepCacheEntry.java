@@ -0,0 +1,48 @@
+package com.diegobrsantosdev.user_registration_application.viaCep;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Table(name = "cep_cache", indexes = @Index(name = "idx_cep_cache_hit_count", columnList = "hit_count"))
+@Entity
+public class CepCacheEntry {
+
+    @Id
+    @Column(name = "cep", length = 8)
+    private String cep;
+
+    @Column(name = "zip_code", nullable = false)
+    private String zipCode;
+
+    @Column(name = "address")
+    private String address;
+
+    @Column(name = "complement")
+    private String complement;
+
+    @Column(name = "neighborhood")
+    private String neighborhood;
+
+    @Column(name = "city")
+    private String city;
+
+    @Column(name = "state", length = 2)
+    private String state;
+
+    @Column(name = "hit_count", nullable = false)
+    private long hitCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    public CepResponseDTO toResponse() {
+        return new CepResponseDTO(zipCode, address, complement, neighborhood, city, state);
+    }
+}
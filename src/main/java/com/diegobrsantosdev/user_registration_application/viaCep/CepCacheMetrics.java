@@ -0,0 +1,47 @@
+package com.diegobrsantosdev.user_registration_application.viaCep;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Gauges for both CEP cache tiers: entries held in the in-memory "ceps" cache
+ * and lookups answered by (or missing) the cep_cache table.
+ * The simple cache provider keeps no hit statistics, so memory hits are read off http.server.requests.
+ */
+@Component
+@RequiredArgsConstructor
+public class CepCacheMetrics implements MeterBinder {
+
+    private final CacheManager cacheManager;
+    private final CepCacheStore cepCacheStore;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Cache cache = cacheManager.getCache("ceps");
+        if (cache != null && cache.getNativeCache() instanceof Map<?, ?> entries) {
+            Gauge.builder("cep.cache.entries", entries, Map::size)
+                    .description("Entries in the in-memory CEP cache")
+                    .register(registry);
+        }
+
+        FunctionCounter.builder("cep.cache.store.lookups", cepCacheStore, CepCacheStore::hitCount)
+                .description("CEP lookups answered by the persistent cache")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cep.cache.store.lookups", cepCacheStore, CepCacheStore::missCount)
+                .description("CEP lookups answered by the persistent cache")
+                .tag("result", "miss")
+                .register(registry);
+        Gauge.builder("cep.cache.store.pending", cepCacheStore, CepCacheStore::pendingCount)
+                .description("CEP entries waiting for the next write-behind flush")
+                .register(registry);
+    }
+}
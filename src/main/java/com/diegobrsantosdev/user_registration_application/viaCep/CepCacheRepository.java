@@ -0,0 +1,13 @@
+package com.diegobrsantosdev.user_registration_application.viaCep;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CepCacheRepository extends JpaRepository<CepCacheEntry, String> {
+
+    List<CepCacheEntry> findAllByOrderByHitCountDesc(Pageable pageable);
+}
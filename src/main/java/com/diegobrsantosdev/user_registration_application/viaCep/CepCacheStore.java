@@ -0,0 +1,186 @@
+package com.diegobrsantosdev.user_registration_application.viaCep;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Persistent tier behind the in-memory "ceps" cache.
+ * Lookups that miss memory are served from the cep_cache table before calling ViaCep,
+ * new entries and hit counts are buffered and written in batches (write-behind),
+ * and the most used entries are loaded back into memory when the application starts.
+ */
+@Slf4j
+@Component
+public class CepCacheStore {
+
+    private final CepCacheRepository repository;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int warmUpSize;
+
+    private final Map<String, CepResponseDTO> pendingEntries = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> pendingHits = new ConcurrentHashMap<>();
+    private final LongAdder storeHits = new LongAdder();
+    private final LongAdder storeMisses = new LongAdder();
+
+    public CepCacheStore(CepCacheRepository repository,
+                         CacheManager cacheManager,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${viacep.cache.warm-up-size:1000}") int warmUpSize) {
+        this.repository = repository;
+        this.cacheManager = cacheManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.warmUpSize = warmUpSize;
+    }
+
+    public Optional<CepResponseDTO> find(String cep) {
+        CepResponseDTO pending = pendingEntries.get(cep);
+        if (pending != null) {
+            storeHits.increment();
+            touch(cep);
+            return Optional.of(pending);
+        }
+
+        Optional<CepResponseDTO> persisted = repository.findById(cep).map(CepCacheEntry::toResponse);
+        if (persisted.isPresent()) {
+            storeHits.increment();
+            touch(cep);
+        } else {
+            storeMisses.increment();
+        }
+        return persisted;
+    }
+
+    public void record(String cep, CepResponseDTO response) {
+        pendingEntries.put(cep, response);
+        touch(cep);
+    }
+
+    public void touch(String cep) {
+        pendingHits.computeIfAbsent(cep, key -> new LongAdder()).increment();
+    }
+
+    public long hitCount() {
+        return storeHits.sum();
+    }
+
+    public long missCount() {
+        return storeMisses.sum();
+    }
+
+    public int pendingCount() {
+        return pendingEntries.size();
+    }
+
+    @Scheduled(fixedDelayString = "${viacep.cache.flush-interval-ms:5000}")
+    public void flush() {
+        if (pendingEntries.isEmpty() && pendingHits.isEmpty()) {
+            return;
+        }
+
+        Map<String, CepResponseDTO> entries = drainEntries();
+        // an increment racing with the drain may land on an adder that was already removed;
+        // hit counts only rank entries for the warm-up, so losing one is acceptable
+        Map<String, Long> hits = drainHits();
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(entries, hits));
+        } catch (RuntimeException e) {
+            log.warn("Could not flush {} CEP cache entries, they will be retried: {}", entries.size(), e.getMessage());
+            entries.forEach(pendingEntries::putIfAbsent);
+            hits.forEach((cep, count) -> pendingHits.computeIfAbsent(cep, key -> new LongAdder()).add(count));
+        }
+    }
+
+    private void write(Map<String, CepResponseDTO> entries, Map<String, Long> hits) {
+        Set<String> keys = new HashSet<>(entries.keySet());
+        keys.addAll(hits.keySet());
+
+        Map<String, CepCacheEntry> existing = repository.findAllById(keys).stream()
+                .collect(Collectors.toMap(CepCacheEntry::getCep, Function.identity()));
+
+        Instant now = Instant.now();
+        List<CepCacheEntry> toSave = new ArrayList<>();
+
+        for (String cep : keys) {
+            CepCacheEntry entry = existing.get(cep);
+            CepResponseDTO response = entries.get(cep);
+
+            if (entry == null && response == null) {
+                continue; // hit on an entry that was never persisted
+            }
+            if (entry == null) {
+                entry = CepCacheEntry.builder().cep(cep).build();
+            }
+            if (response != null) {
+                entry.setZipCode(response.zipCode());
+                entry.setAddress(response.address());
+                entry.setComplement(response.complement());
+                entry.setNeighborhood(response.neighborhood());
+                entry.setCity(response.city());
+                entry.setState(response.state());
+            }
+            entry.setHitCount(entry.getHitCount() + hits.getOrDefault(cep, 0L));
+            entry.setUpdatedAt(now);
+            toSave.add(entry);
+        }
+
+        repository.saveAll(toSave);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        Cache cache = cacheManager.getCache("ceps");
+        if (cache == null || warmUpSize <= 0) {
+            return;
+        }
+
+        List<CepCacheEntry> mostUsed = repository.findAllByOrderByHitCountDesc(PageRequest.of(0, warmUpSize));
+        mostUsed.forEach(entry -> cache.putIfAbsent(entry.getCep(), entry.toResponse()));
+        log.info("CEP cache warmed up with {} entries", mostUsed.size());
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    private Map<String, CepResponseDTO> drainEntries() {
+        Map<String, CepResponseDTO> drained = new HashMap<>();
+        for (String cep : pendingEntries.keySet()) {
+            CepResponseDTO response = pendingEntries.remove(cep);
+            if (response != null) {
+                drained.put(cep, response);
+            }
+        }
+        return drained;
+    }
+
+    private Map<String, Long> drainHits() {
+        Map<String, Long> drained = new HashMap<>();
+        for (String cep : pendingHits.keySet()) {
+            LongAdder adder = pendingHits.remove(cep);
+            if (adder != null) {
+                drained.put(cep, adder.sum());
+            }
+        }
+        return drained;
+    }
+}
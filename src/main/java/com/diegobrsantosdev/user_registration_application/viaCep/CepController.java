@@ -7,13 +7,20 @@ import org.springframework.web.bind.annotation.*;
 public class CepController {
 
     private final CepService cepService;
+    private final CepBatchService cepBatchService;
 
-    public CepController(CepService cepService) {
+    public CepController(CepService cepService, CepBatchService cepBatchService) {
         this.cepService = cepService;
+        this.cepBatchService = cepBatchService;
     }
 
     @GetMapping("/{cep}")
     public CepResponseDTO getAddressByCep(@PathVariable String cep) {
         return cepService.lookupCep(cep);
     }
-}
\ No newline at end of file
+
+    @PostMapping("/batch")
+    public CepBatchResponseDTO getAddressesByCep(@RequestBody CepBatchRequestDTO request) {
+        return cepBatchService.lookupBatch(request.ceps());
+    }
+}
@@ -0,0 +1,9 @@
+package com.diegobrsantosdev.user_registration_application.viaCep;
+
+public enum CepLookupStatus {
+    FOUND,
+    NOT_FOUND,
+    INVALID,
+    TIMEOUT,
+    ERROR
+}
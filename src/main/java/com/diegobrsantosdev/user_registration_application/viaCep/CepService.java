@@ -1,39 +1,77 @@
 package com.diegobrsantosdev.user_registration_application.viaCep;
-import org.springframework.cache.annotation.Cacheable;
+import com.diegobrsantosdev.user_registration_application.profiling.CepLookupEvent;
+import com.diegobrsantosdev.user_registration_application.validators.BrazilianDocuments;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.beans.factory.annotation.Value;
 
+import java.util.Optional;
+
 
 
 @Service
+@Timed("app.service")
 public class CepService {
 
     private final RestTemplate restTemplate;
     private final String baseUrl;
+    private final CepCacheStore cepCacheStore;
+    private final Cache cache;
 
 
-    public CepService(RestTemplate restTemplate, @Value("${viacep.base-url}") String baseUrl) {
+    public CepService(RestTemplate restTemplate, @Value("${viacep.base-url}") String baseUrl, CepCacheStore cepCacheStore,
+                      CacheManager cacheManager) {
         this.restTemplate = restTemplate;
         this.baseUrl = baseUrl;
+        this.cepCacheStore = cepCacheStore;
+        this.cache = cacheManager.getCache("ceps");
     }
 
 
-    @Cacheable(value = "ceps", key = "#cep")
+    // explicit "ceps" lookup rather than @Cacheable, so memory hits are counted for the warm-up ranking too
     public CepResponseDTO lookupCep(String cep) {
         validateCep(cep);
+
+        CepResponseDTO cached = cache != null ? cache.get(cep, CepResponseDTO.class) : null;
+        if (cached != null) {
+            cepCacheStore.touch(cep);
+            return cached;
+        }
+
+        CepResponseDTO response = load(cep);
+        if (cache != null) {
+            cache.put(cep, response);
+        }
+        return response;
+    }
+
+    private CepResponseDTO load(String cep) {
+        CepLookupEvent event = new CepLookupEvent();
+        event.cep = cep;
+        event.begin();
+
+        Optional<CepResponseDTO> persisted = cepCacheStore.find(cep);
+        if (persisted.isPresent()) {
+            event.commit("FOUND", true);
+            return persisted.get();
+        }
+
         String url = baseUrl + cep + "/json/";
 
         try {
             ViaCepResponse viaCep = restTemplate.getForObject(url, ViaCepResponse.class);
 
             if (viaCep == null || viaCep.zipCode() == null) {
+                event.commit("NOT_FOUND", false);
                 throw new CepNotFoundException(cep);
             }
 
-            return new CepResponseDTO(
+            CepResponseDTO response = new CepResponseDTO(
                     viaCep.zipCode(),
                     viaCep.address(),
                     viaCep.complement(),
@@ -41,16 +79,21 @@ public class CepService {
                     viaCep.city(),
                     viaCep.state()
             );
+            cepCacheStore.record(cep, response);
+            event.commit("FOUND", false);
+            return response;
 
         } catch (ResourceAccessException e) {
+            event.commit("TIMEOUT", false);
             throw new RuntimeException("ViaCep API is not responding. Please try again later.");
         } catch (RestClientException e) {
+            event.commit("ERROR", false);
             throw new RuntimeException("Error while calling ViaCep API: " + e.getMessage());
         }
     }
 
     private void validateCep(String cep) {
-        if (cep == null || !cep.matches("^[0-9]{8}$")) {
+        if (!BrazilianDocuments.isValidCep(cep, false)) {
             throw new IllegalArgumentException("Invalid CEP format. Use only 8 numeric digits.");
         }
     }
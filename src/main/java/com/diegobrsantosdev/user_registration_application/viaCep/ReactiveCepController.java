@@ -0,0 +1,21 @@
+package com.diegobrsantosdev.user_registration_application.viaCep;
+
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+// served by MVC as an async request: the servlet thread is released while ViaCep answers
+@RestController
+@RequestMapping("/api/v1/reactive/cep")
+public class ReactiveCepController {
+
+    private final ReactiveCepService reactiveCepService;
+
+    public ReactiveCepController(ReactiveCepService reactiveCepService) {
+        this.reactiveCepService = reactiveCepService;
+    }
+
+    @GetMapping("/{cep}")
+    public Mono<CepResponseDTO> getAddressByCep(@PathVariable String cep) {
+        return reactiveCepService.lookupCep(cep);
+    }
+}
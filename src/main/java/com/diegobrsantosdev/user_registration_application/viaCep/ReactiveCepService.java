@@ -0,0 +1,100 @@
+package com.diegobrsantosdev.user_registration_application.viaCep;
+
+import com.diegobrsantosdev.user_registration_application.validators.BrazilianDocuments;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.http.client.HttpClient;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Non-blocking counterpart of {@link CepService}, sharing its "ceps" cache and {@link CepCacheStore}.
+ * Concurrent misses for the same CEP share one upstream call; the cep_cache table lookup is JDBC,
+ * so it runs on the bounded-elastic scheduler instead of the calling thread.
+ */
+@Service
+public class ReactiveCepService {
+
+    private final WebClient webClient;
+    private final CepCacheStore cepCacheStore;
+    private final Cache cache;
+    private final Duration timeout;
+
+    private final Map<String, Mono<CepResponseDTO>> inFlight = new ConcurrentHashMap<>();
+
+    public ReactiveCepService(WebClient.Builder webClientBuilder,
+                              CepCacheStore cepCacheStore,
+                              CacheManager cacheManager,
+                              @Value("${viacep.base-url}") String baseUrl,
+                              @Value("${viacep.reactive.timeout-ms:3000}") long timeoutMs) {
+        this.timeout = Duration.ofMillis(timeoutMs);
+        this.webClient = webClientBuilder
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create()
+                        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) timeoutMs)
+                        .responseTimeout(timeout)))
+                .build();
+        this.cepCacheStore = cepCacheStore;
+        this.cache = cacheManager.getCache("ceps");
+    }
+
+    public Mono<CepResponseDTO> lookupCep(String cep) {
+        return Mono.defer(() -> {
+            if (!BrazilianDocuments.isValidCep(cep, false)) {
+                return Mono.error(new IllegalArgumentException("Invalid CEP format. Use only 8 numeric digits."));
+            }
+
+            CepResponseDTO cached = cache != null ? cache.get(cep, CepResponseDTO.class) : null;
+            if (cached != null) {
+                cepCacheStore.touch(cep);
+                return Mono.just(cached);
+            }
+
+            return inFlight.computeIfAbsent(cep, key -> load(key)
+                    .doFinally(signal -> inFlight.remove(key))
+                    .cache());
+        });
+    }
+
+    private Mono<CepResponseDTO> load(String cep) {
+        return Mono.fromCallable(() -> cepCacheStore.find(cep))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(persisted -> persisted.map(Mono::just).orElseGet(() -> fetch(cep)))
+                .doOnNext(response -> {
+                    if (cache != null) cache.put(cep, response);
+                });
+    }
+
+    private Mono<CepResponseDTO> fetch(String cep) {
+        return webClient.get()
+                .uri("{cep}/json/", cep)
+                .retrieve()
+                .bodyToMono(ViaCepResponse.class)
+                .timeout(timeout)
+                .filter(viaCep -> viaCep.zipCode() != null)
+                .switchIfEmpty(Mono.error(() -> new CepNotFoundException(cep)))
+                .map(viaCep -> new CepResponseDTO(
+                        viaCep.zipCode(),
+                        viaCep.address(),
+                        viaCep.complement(),
+                        viaCep.neighborhood(),
+                        viaCep.city(),
+                        viaCep.state()))
+                .doOnNext(response -> cepCacheStore.record(cep, response))
+                .onErrorMap(TimeoutException.class,
+                        e -> new RuntimeException("ViaCep API is not responding. Please try again later."))
+                .onErrorMap(WebClientException.class,
+                        e -> new RuntimeException("Error while calling ViaCep API: " + e.getMessage()));
+    }
+}
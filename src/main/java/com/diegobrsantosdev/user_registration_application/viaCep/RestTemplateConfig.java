@@ -1,18 +1,29 @@
 package com.diegobrsantosdev.user_registration_application.viaCep;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
 @Configuration
 public class RestTemplateConfig {
 
+    // the JDK client blocks by parking, so a virtual thread waiting on ViaCep unmounts instead of holding a carrier
     @Bean
-    public RestTemplate restTemplate() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(3000); // 3 seconds to establish connection
-        factory.setReadTimeout(3000);    // 3 seconds to read response
+    public RestTemplate restTemplate(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        HttpClient.Builder client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(3)); // 3 seconds to establish connection
+        if (virtualThreads) {
+            client.executor(Executors.newVirtualThreadPerTaskExecutor());
+        }
+
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(client.build());
+        factory.setReadTimeout(Duration.ofSeconds(3)); // 3 seconds to read response
         return new RestTemplate(factory);
     }
-}
\ No newline at end of file
+}
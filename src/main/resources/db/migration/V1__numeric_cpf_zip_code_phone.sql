@@ -0,0 +1,19 @@
+-- Stores users.cpf, users.zip_code and users.phone as BIGINT (MySQL 8).
+-- The entity keeps String attributes through CpfConverter, CepConverter and PhoneConverter,
+-- which strip masks on write and restore leading zeros on read.
+--
+-- 1. Values that collide once masks are removed must be fixed by hand before running the rest:
+--    SELECT REGEXP_REPLACE(cpf, '[^0-9]', '') AS normalized, COUNT(*)
+--    FROM users GROUP BY normalized HAVING COUNT(*) > 1;
+
+-- 2. Normalize to digits only
+UPDATE users
+SET cpf      = REGEXP_REPLACE(cpf, '[^0-9]', ''),
+    zip_code = REGEXP_REPLACE(zip_code, '[^0-9]', ''),
+    phone    = REGEXP_REPLACE(phone, '[^0-9]', '');
+
+-- 3. Change the column types; the unique index on cpf is rebuilt over the 8-byte keys
+ALTER TABLE users
+    MODIFY cpf      BIGINT NOT NULL,
+    MODIFY zip_code BIGINT NOT NULL,
+    MODIFY phone    BIGINT NOT NULL;
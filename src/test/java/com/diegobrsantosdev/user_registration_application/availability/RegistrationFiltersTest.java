@@ -0,0 +1,117 @@
+package com.diegobrsantosdev.user_registration_application.availability;
+
+import com.diegobrsantosdev.user_registration_application.dtos.UserResponseDTO;
+import com.diegobrsantosdev.user_registration_application.models.Role;
+import com.diegobrsantosdev.user_registration_application.outbox.UserChangeType;
+import com.diegobrsantosdev.user_registration_application.outbox.UserChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class RegistrationFiltersTest {
+
+    private final AvailabilityQueries queries = mock(AvailabilityQueries.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final RegistrationFilters filters = new RegistrationFilters(queries, transactionManager, 1000, 0.01, 0.03, 2);
+
+    @SuppressWarnings("unchecked")
+    private final Predicate<String> database = mock(Predicate.class);
+
+    @BeforeEach
+    void setup() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(queries.countUsers()).thenReturn(3L);
+        when(queries.findMinId()).thenReturn(1);
+        when(queries.findMaxId()).thenReturn(3);
+        when(queries.findKeys(1, 2)).thenReturn(List.of(
+                new Object[]{"joao@email.com", "05298224725", "12345678"},
+                new Object[]{"maria@email.com", "39053344705", "mg1234567"}));
+        when(queries.findKeys(3, 3)).thenReturn(List.<Object[]>of(
+                new Object[]{"ana@email.com", "29537955044", "87654321"}));
+    }
+
+    @Test
+    void shouldAskTheDatabaseUntilTheFiltersAreBuilt() {
+        when(database.test("novo@email.com")).thenReturn(false);
+
+        assertFalse(filters.exists(RegistrationKey.EMAIL, "novo@email.com", database));
+        verify(database).test("novo@email.com");
+    }
+
+    @Test
+    void shouldAnswerUnusedValuesWithoutTheDatabase() {
+        filters.rebuild();
+
+        assertFalse(filters.exists(RegistrationKey.EMAIL, "novo@email.com", database));
+        assertFalse(filters.exists(RegistrationKey.CPF, "529.982.247-25", database));
+        verifyNoInteractions(database);
+    }
+
+    @Test
+    void shouldSendPossibleHitsToTheDatabaseInTheirNormalizedForm() {
+        filters.rebuild();
+        when(database.test(any())).thenReturn(true);
+
+        assertTrue(filters.exists(RegistrationKey.EMAIL, " Joao@Email.com", database));
+        assertTrue(filters.exists(RegistrationKey.CPF, "052.982.247-25", database));
+        assertTrue(filters.exists(RegistrationKey.CPF, "5298224725", database));
+        assertTrue(filters.exists(RegistrationKey.RG, "MG1234567", database));
+        verify(database, times(4)).test(any());
+        assertEquals(0.0, filters.observedFalsePositiveRate(RegistrationKey.EMAIL));
+    }
+
+    @Test
+    void shouldScanInReadWriteTransactionsSoReplicasAreSkipped() {
+        filters.rebuild();
+
+        // min id, max id and two chunks
+        verify(transactionManager, times(4)).getTransaction(argThat(definition -> !definition.isReadOnly()));
+        verify(transactionManager, times(4)).commit(any());
+    }
+
+    @Test
+    void shouldLearnValuesFromCommittedChanges() {
+        filters.rebuild();
+        when(database.test("nova@email.com")).thenReturn(true);
+
+        filters.onUserChanged(new UserChangedEvent(1, UserChangeType.CREATED, 4, null,
+                user("nova@email.com"), List.of(), Instant.now()));
+
+        assertTrue(filters.exists(RegistrationKey.EMAIL, "nova@email.com", database));
+    }
+
+    @Test
+    void shouldStayNearTheTargetFalsePositiveRate() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i + "@email.com");
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("user" + i + "@email.com"));
+            if (filter.mightContain("other" + i + "@email.com")) {
+                falsePositives++;
+            }
+        }
+
+        assertTrue(falsePositives < 200, "false positives: " + falsePositives);
+        assertEquals(0.01, filter.expectedFalsePositiveRate(), 0.005);
+    }
+
+    private UserResponseDTO user(String email) {
+        return new UserResponseDTO(4, "Nova Usuária", email, "11144477735", "11223344", "11999998888",
+                "Rua Alpha", "100", null, "Centro", "Recife", "PE", "01001000", null, null,
+                null, true, null, null, Set.of(Role.USER), false);
+    }
+}
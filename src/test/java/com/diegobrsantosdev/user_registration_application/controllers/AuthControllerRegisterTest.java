@@ -1,13 +1,16 @@
 package com.diegobrsantosdev.user_registration_application.controllers;
 
 import com.diegobrsantosdev.user_registration_application.dtos.AuthResponseDTO;
+import com.diegobrsantosdev.user_registration_application.dtos.RegistrationStatusDTO;
 import com.diegobrsantosdev.user_registration_application.dtos.UserRegisterDTO;
 import com.diegobrsantosdev.user_registration_application.dtos.UserResponseDTO;
 import com.diegobrsantosdev.user_registration_application.exceptions.InvalidCredentialsException;
 import com.diegobrsantosdev.user_registration_application.models.Gender;
+import com.diegobrsantosdev.user_registration_application.models.RegistrationStatus;
 import com.diegobrsantosdev.user_registration_application.models.Role;
 import com.diegobrsantosdev.user_registration_application.models.User;
 import com.diegobrsantosdev.user_registration_application.security.JwtUtil;
+import com.diegobrsantosdev.user_registration_application.services.AsyncRegistrationService;
 import com.diegobrsantosdev.user_registration_application.services.AuthService;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -17,7 +20,9 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -78,6 +83,9 @@ class AuthControllerRegisterTest {
     @MockitoBean
     private AuthService authService;
 
+    @MockitoBean
+    private AsyncRegistrationService asyncRegistrationService;
+
     @MockitoBean
     private JwtUtil jwtUtil;
 
@@ -140,4 +148,80 @@ class AuthControllerRegisterTest {
                         .content(REGISTER_BODY))
                 .andExpect(status().isUnauthorized());
     }
+
+    @Test
+    void shouldRequireAddressUnlessLookupModeIsUsed() throws Exception {
+
+        String zipOnlyBody = REGISTER_BODY
+                .replace("\"address\":\"Rua Alpha\",", "")
+                .replace("\"neighborhood\":\"Centro\",", "")
+                .replace("\"city\":\"São Paulo\",", "")
+                .replace("\"state\":\"SP\",", "");
+
+        mockMvc.perform(post("/api/v1/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(zipOnlyBody))
+                .andExpect(status().isUnprocessableEntity());
+
+        Mockito.when(authService.registerWithAddressLookup(Mockito.any(UserRegisterDTO.class)))
+                .thenReturn(new AuthResponseDTO(JWT_TOKEN, false, false, null));
+
+        mockMvc.perform(post("/api/v1/auth/register")
+                        .param("addressLookup", "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(zipOnlyBody))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.token").value(JWT_TOKEN));
+    }
+
+    @Test
+    void shouldAcceptAsyncRegistrationAndExposeItsStatus() throws Exception {
+
+        String id = "3f1c2a4e-8b7d-4c55-9a0e-1d2b3c4d5e6f";
+        Mockito.when(asyncRegistrationService.submit(Mockito.any(UserRegisterDTO.class)))
+                .thenReturn(new RegistrationStatusDTO(id, RegistrationStatus.PENDING, null, "Registration is being processed."));
+        Mockito.when(asyncRegistrationService.status(id))
+                .thenReturn(new RegistrationStatusDTO(id, RegistrationStatus.COMPLETED, 1, "Registration completed. Log in to get a token."));
+
+        mockMvc.perform(post("/api/v1/auth/register")
+                        .param("async", "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(REGISTER_BODY))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/v1/auth/register/status/" + id))
+                .andExpect(jsonPath("$.status").value("PENDING"));
+
+        mockMvc.perform(get("/api/v1/auth/register/status/" + id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.userId").value(1))
+                .andExpect(jsonPath("$.token").doesNotExist());
+        Mockito.verifyNoInteractions(authService);
+    }
+
+    @Test
+    void shouldLookUpTheAddressBeforeAnAsyncRegistration() throws Exception {
+
+        String zipOnlyBody = REGISTER_BODY
+                .replace("\"address\":\"Rua Alpha\",", "")
+                .replace("\"neighborhood\":\"Centro\",", "")
+                .replace("\"city\":\"São Paulo\",", "")
+                .replace("\"state\":\"SP\",", "");
+        String id = "3f1c2a4e-8b7d-4c55-9a0e-1d2b3c4d5e6f";
+        Mockito.when(authService.enrichAddress(Mockito.any(UserRegisterDTO.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        Mockito.when(asyncRegistrationService.submit(Mockito.any(UserRegisterDTO.class)))
+                .thenReturn(new RegistrationStatusDTO(id, RegistrationStatus.PENDING, null, "Registration is being processed."));
+
+        mockMvc.perform(post("/api/v1/auth/register")
+                        .param("async", "true")
+                        .param("addressLookup", "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(zipOnlyBody))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/v1/auth/register/status/" + id));
+
+        Mockito.verify(authService).enrichAddress(Mockito.any(UserRegisterDTO.class));
+        Mockito.verify(authService, Mockito.never()).registerWithAddressLookup(Mockito.any());
+    }
 }
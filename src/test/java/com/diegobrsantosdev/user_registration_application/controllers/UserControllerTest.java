@@ -2,6 +2,7 @@ package com.diegobrsantosdev.user_registration_application.controllers;
 
 import com.diegobrsantosdev.user_registration_application.config.UserDetailsImpl;
 import com.diegobrsantosdev.user_registration_application.dtos.*;
+import com.diegobrsantosdev.user_registration_application.exceptions.PreconditionFailedException;
 import com.diegobrsantosdev.user_registration_application.exceptions.ResourceNotFoundException;
 import com.diegobrsantosdev.user_registration_application.models.Gender;
 import com.diegobrsantosdev.user_registration_application.models.Role;
@@ -29,6 +30,8 @@ import java.util.Set;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -105,6 +108,42 @@ class UserControllerTest {
         SecurityContextHolder.clearContext();
     }
 
+    @Test
+    @DisplayName("Should answer 304 from the version when the ETag still matches")
+    void shouldReturnNotModifiedWhenETagMatches() throws Exception {
+        authenticate(authenticatedUser());
+        when(userService.getUserVersion(USER_ID)).thenReturn(3L);
+
+        mockMvc.perform(get("/api/v1/users/me").header("If-None-Match", "W/\"1-3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "W/\"1-3\""));
+
+        verify(userService, never()).getUserById(USER_ID);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should return 412 when If-Match carries an outdated version")
+    void shouldReturnPreconditionFailedWhenIfMatchIsOutdated() throws Exception {
+        authenticate(authenticatedUser());
+
+        UserUpdateDTO request = new UserUpdateDTO(
+                USER_NAME, USER_EMAIL, USER_CPF, "12345678", "11999998888",
+                "Rua Alpha", "100", "Apto 12", "Centro", "São Paulo", "SP", "01001000",
+                Gender.MALE, LocalDate.of(1990, 5, 15), null, true
+        );
+        when(userService.updateUser(eq(USER_ID), any(UserUpdateDTO.class), eq(2L)))
+                .thenThrow(new PreconditionFailedException("User was modified since it was last read"));
+
+        mockMvc.perform(put("/api/v1/users/me")
+                        .header("If-Match", "W/\"1-2\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isPreconditionFailed());
+
+        SecurityContextHolder.clearContext();
+    }
+
     @Test
     @DisplayName("Should return 404 when current user is not found")
     void shouldReturn404WhenCurrentUserNotFound() throws Exception {
@@ -0,0 +1,33 @@
+package com.diegobrsantosdev.user_registration_application.converters;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NumericIdentifierConverterTest {
+
+    private final CpfConverter cpfConverter = new CpfConverter();
+    private final CepConverter cepConverter = new CepConverter();
+    private final PhoneConverter phoneConverter = new PhoneConverter();
+
+    @Test
+    void testFormattedAndUnformattedResolveToSameKey() {
+        assertEquals(12345678909L, cpfConverter.convertToDatabaseColumn("123.456.789-09"));
+        assertEquals(12345678909L, cpfConverter.convertToDatabaseColumn("12345678909"));
+        assertEquals(1001000L, cepConverter.convertToDatabaseColumn("01001-000"));
+        assertEquals(81987501006L, phoneConverter.convertToDatabaseColumn("(81) 98750-1006"));
+    }
+
+    @Test
+    void testLeadingZerosAreRestored() {
+        assertEquals("01234567890", cpfConverter.convertToEntityAttribute(1234567890L));
+        assertEquals("01001000", cepConverter.convertToEntityAttribute(1001000L));
+        assertEquals("81987501006", phoneConverter.convertToEntityAttribute(81987501006L));
+    }
+
+    @Test
+    void testNullsAndInvalidInput() {
+        assertNull(cpfConverter.convertToDatabaseColumn(null));
+        assertNull(cpfConverter.convertToEntityAttribute(null));
+        assertThrows(IllegalArgumentException.class, () -> cpfConverter.convertToDatabaseColumn("abc"));
+    }
+}
@@ -0,0 +1,107 @@
+package com.diegobrsantosdev.user_registration_application.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReplicaRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replica0;
+    private DataSource replica1;
+    private Connection primaryConnection;
+    private Connection replica0Connection;
+    private Connection replica1Connection;
+    private ReadYourWritesTracker tracker;
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setup() throws SQLException {
+        primary = mock(DataSource.class);
+        replica0 = mock(DataSource.class);
+        replica1 = mock(DataSource.class);
+        primaryConnection = mock(Connection.class);
+        replica0Connection = mock(Connection.class);
+        replica1Connection = mock(Connection.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica0.getConnection()).thenReturn(replica0Connection);
+        when(replica1.getConnection()).thenReturn(replica1Connection);
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", replica0);
+        replicas.put("replica-1", replica1);
+        tracker = new ReadYourWritesTracker(Duration.ofMinutes(1));
+        routing = new ReplicaRoutingDataSource(primary, replicas, tracker, Duration.ofMinutes(1));
+
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void cleanup() {
+        TransactionSynchronizationManager.clear();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldSendWritesToThePrimary() throws SQLException {
+        assertSame(primaryConnection, routing.getConnection());
+        assertEquals(1L, routing.routedConnections().get("primary"));
+    }
+
+    @Test
+    void shouldRoundRobinReadOnlyTransactionsAcrossReplicas() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertSame(replica0Connection, routing.getConnection());
+        assertSame(replica1Connection, routing.getConnection());
+        assertSame(replica0Connection, routing.getConnection());
+        verifyNoInteractions(primary);
+    }
+
+    @Test
+    void shouldFallBackToThePrimaryAndSkipAFailedReplica() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replica0.getConnection()).thenThrow(new SQLException("connection refused"));
+
+        assertSame(primaryConnection, routing.getConnection());
+        assertEquals(1, routing.fallbackCount());
+
+        // replica-0 is parked for the retry period, so both following reads land on replica-1
+        assertSame(replica1Connection, routing.getConnection());
+        assertSame(replica1Connection, routing.getConnection());
+        verify(replica0, times(1)).getConnection();
+    }
+
+    @Test
+    void shouldKeepReadsOnThePrimaryAfterTheUsersOwnWriteCommits() throws SQLException {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("joao@email.com", null, List.of()));
+
+        routing.getConnection();
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertEquals(1, synchronizations.size());
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertSame(primaryConnection, routing.getConnection());
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("maria@email.com", null, List.of()));
+        assertSame(replica0Connection, routing.getConnection());
+    }
+}
@@ -0,0 +1,165 @@
+package com.diegobrsantosdev.user_registration_application.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyFilterTest {
+
+    private static final String BODY = "{\"email\":\"joao@email.com\"}";
+
+    private final IdempotencyStore store = new IdempotencyStore(60, 100);
+    private final IdempotencyFilter filter = new IdempotencyFilter(store,
+            new ObjectMapper().registerModule(new JavaTimeModule()), 5000, 1024);
+    private final AtomicInteger executions = new AtomicInteger();
+
+    private final FilterChain created = (request, response) -> {
+        executions.incrementAndGet();
+        String body = new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        HttpServletResponse http = (HttpServletResponse) response;
+        http.setStatus(201);
+        http.setHeader(HttpHeaders.LOCATION, "/api/v1/users/7");
+        http.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        http.getOutputStream().write(("{\"echo\":" + body + ",\"run\":" + executions.get() + "}").getBytes(StandardCharsets.UTF_8));
+    };
+
+    @Test
+    void shouldRunOnceAndReplayTheStoredResponse() throws Exception {
+        MockHttpServletResponse first = perform("key-1", BODY, created);
+        MockHttpServletResponse retry = perform("key-1", BODY, created);
+
+        assertEquals(1, executions.get());
+        assertEquals(201, retry.getStatus());
+        assertEquals(first.getContentAsString(), retry.getContentAsString());
+        assertEquals("/api/v1/users/7", retry.getHeader(HttpHeaders.LOCATION));
+        assertEquals("true", retry.getHeader(IdempotencyFilter.REPLAYED));
+        assertNull(first.getHeader(IdempotencyFilter.REPLAYED));
+    }
+
+    @Test
+    void shouldRejectTheSameKeyWithADifferentBody() throws Exception {
+        perform("key-1", BODY, created);
+
+        MockHttpServletResponse other = perform("key-1", "{\"email\":\"maria@email.com\"}", created);
+
+        assertEquals(422, other.getStatus());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void shouldNotStoreServerErrors() throws Exception {
+        FilterChain failing = (request, response) -> {
+            executions.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(503);
+        };
+
+        perform("key-1", BODY, failing);
+        MockHttpServletResponse retry = perform("key-1", BODY, created);
+
+        assertEquals(2, executions.get());
+        assertEquals(201, retry.getStatus());
+    }
+
+    @Test
+    void shouldMakeAConcurrentRetryWaitForTheFirstAttempt() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain slow = (request, response) -> {
+            running.countDown();
+            try {
+                assertTrue(release.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            created.doFilter(request, response);
+        };
+
+        CompletableFuture<MockHttpServletResponse> first = CompletableFuture.supplyAsync(() -> performUnchecked(slow));
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        CompletableFuture<MockHttpServletResponse> retry = CompletableFuture.supplyAsync(() -> performUnchecked(created));
+        Thread.sleep(100);
+        assertFalse(retry.isDone());
+
+        release.countDown();
+
+        assertEquals(first.get(5, TimeUnit.SECONDS).getContentAsString(), retry.get(5, TimeUnit.SECONDS).getContentAsString());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void shouldHandTheCachedBodyToANonBlockingReader() throws Exception {
+        List<String> calls = new ArrayList<>();
+        FilterChain nonBlocking = (request, response) -> {
+            ServletInputStream input = request.getInputStream();
+            input.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    calls.add("data:" + new String(input.readAllBytes(), StandardCharsets.UTF_8));
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    calls.add("done");
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    calls.add("error");
+                }
+            });
+            ((HttpServletResponse) response).setStatus(204);
+        };
+
+        perform("key-1", BODY, nonBlocking);
+
+        assertEquals(List.of("data:" + BODY, "done"), calls);
+    }
+
+    @Test
+    void shouldLeaveRequestsWithoutAKeyAlone() throws Exception {
+        perform(null, BODY, created);
+        perform(null, BODY, created);
+
+        assertEquals(2, executions.get());
+        assertEquals(0, store.size());
+    }
+
+    private MockHttpServletResponse performUnchecked(FilterChain chain) {
+        try {
+            return perform("key-1", BODY, chain);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private MockHttpServletResponse perform(String key, String body, FilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/register");
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        if (key != null) {
+            request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY, key);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
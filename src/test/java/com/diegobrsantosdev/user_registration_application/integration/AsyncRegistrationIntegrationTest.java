@@ -0,0 +1,159 @@
+package com.diegobrsantosdev.user_registration_application.integration;
+
+import com.diegobrsantosdev.user_registration_application.dtos.RegistrationStatusDTO;
+import com.diegobrsantosdev.user_registration_application.dtos.UserRegisterDTO;
+import com.diegobrsantosdev.user_registration_application.models.Gender;
+import com.diegobrsantosdev.user_registration_application.models.RegistrationStatus;
+import com.diegobrsantosdev.user_registration_application.models.Role;
+import com.diegobrsantosdev.user_registration_application.models.User;
+import com.diegobrsantosdev.user_registration_application.repositories.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs the 202 registration through the real pipeline: two registrations hashed together land in one batch,
+ * and a user committed meanwhile with the same email fails only the registration that collides with it.
+ */
+@SpringBootTest(properties = {
+        "app.registration.async.batch-size=2",
+        "app.registration.async.batch-max-wait-ms=5000"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AsyncRegistrationIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoSpyBean
+    private PasswordEncoder passwordEncoder;
+
+    // holds BCrypt in the hash workers, so both registrations are in flight before either reaches the writer
+    private final CountDownLatch hashing = new CountDownLatch(1);
+
+    @BeforeEach
+    void setup() {
+        jdbcTemplate.update("delete from registration_reservations");
+        jdbcTemplate.update("delete from user_roles");
+        jdbcTemplate.update("delete from users");
+
+        doAnswer(invocation -> {
+            assertTrue(hashing.await(10, TimeUnit.SECONDS));
+            return invocation.callRealMethod();
+        }).when(passwordEncoder).encode(any());
+    }
+
+    @AfterEach
+    void release() {
+        hashing.countDown();
+    }
+
+    @Test
+    @DisplayName("a duplicate in a batch fails alone, the other registration completes")
+    void shouldFailOnlyTheConflictingRegistrationOfABatch() throws Exception {
+        String joao = submit(request("joao@email.com", "39053344705", "11223344"));
+        String maria = submit(request("maria@email.com", "52998224725", "55667788"));
+
+        // a synchronous registration wins maria's email after her checks and reservation passed
+        userRepository.save(existingUser("maria@email.com"));
+        hashing.countDown();
+
+        RegistrationStatusDTO completed = awaitFinished(joao);
+        RegistrationStatusDTO failed = awaitFinished(maria);
+
+        assertEquals(RegistrationStatus.COMPLETED, completed.status());
+        assertEquals(userRepository.findByEmail("joao@email.com").orElseThrow().getId(), completed.userId());
+        assertEquals(RegistrationStatus.FAILED, failed.status());
+        assertEquals("Email already in use.", failed.message());
+        assertNull(failed.userId());
+        assertEquals(2, userRepository.count());
+    }
+
+    private String submit(UserRegisterDTO request) throws Exception {
+        String location = mockMvc.perform(post("/api/v1/auth/register")
+                        .param("async", "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getHeader(HttpHeaders.LOCATION);
+        assertNotNull(location);
+        return location;
+    }
+
+    private RegistrationStatusDTO awaitFinished(String location) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(15);
+        while (true) {
+            String body = mockMvc.perform(get(location))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            RegistrationStatusDTO registration = objectMapper.readValue(body, RegistrationStatusDTO.class);
+            if (registration.status() != RegistrationStatus.PENDING || System.nanoTime() > deadline) {
+                return registration;
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    private UserRegisterDTO request(String email, String cpf, String rg) {
+        return new UserRegisterDTO(
+                "Usuario Novo", email, "senha1234", cpf, rg, "81987501006",
+                "Rua Teste 123", "123", null, "Centro", "Recife", "PE", "50000000",
+                Gender.FEMALE, LocalDate.of(1995, 3, 10), null, true);
+    }
+
+    private User existingUser(String email) {
+        return User.builder()
+                .name("Usuario Existente")
+                .email(email)
+                .password("{bcrypt}not-used")
+                .cpf("29537955044")
+                .rg("99887766")
+                .phone("81990000000")
+                .address("Rua Teste")
+                .number("100")
+                .neighborhood("Centro")
+                .city("Recife")
+                .state("PE")
+                .zipCode("50000000")
+                .gender(Gender.MALE)
+                .dateOfBirth(LocalDate.of(1990, 1, 1))
+                .termsAccepted(true)
+                .roles(Set.of(Role.USER))
+                .twoFactorEnabled(false)
+                .build();
+    }
+}
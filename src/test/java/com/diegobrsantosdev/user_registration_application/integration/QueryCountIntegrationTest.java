@@ -0,0 +1,184 @@
+package com.diegobrsantosdev.user_registration_application.integration;
+
+import com.diegobrsantosdev.user_registration_application.dtos.UserRegisterDTO;
+import com.diegobrsantosdev.user_registration_application.models.Gender;
+import com.diegobrsantosdev.user_registration_application.models.Role;
+import com.diegobrsantosdev.user_registration_application.models.User;
+import com.diegobrsantosdev.user_registration_application.repositories.UserRepository;
+import com.diegobrsantosdev.user_registration_application.security.JwtUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static com.diegobrsantosdev.user_registration_application.integration.SqlStatementCounter.assertStatements;
+import static com.diegobrsantosdev.user_registration_application.integration.SqlStatementCounter.record;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Pins the number of SQL statements per endpoint, so a new N+1 or an extra probe fails the build.
+ * Counts include the user lookup done by the JWT filter (one select for the user, one for the roles).
+ * When a change lowers a count on purpose, update the expectation in the same commit.
+ * Every user write also locks the outbox counter, bumps it and inserts one user_outbox row (select, update, insert).
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(SqlStatementCounter.Config.class)
+class QueryCountIntegrationTest {
+
+    private static final String PASSWORD = "senha1234";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String encodedPassword;
+    private User admin;
+    private User user;
+
+    @BeforeEach
+    void setup() {
+        jdbcTemplate.update("delete from user_roles");
+        jdbcTemplate.update("delete from users");
+
+        encodedPassword = passwordEncoder.encode(PASSWORD);
+        admin = userRepository.save(user(0, Role.ADMIN));
+        user = userRepository.save(user(1, Role.USER));
+    }
+
+    @Test
+    @DisplayName("login: user and roles")
+    void login() throws Exception {
+        String body = "{\"email\":\"" + user.getEmail() + "\",\"password\":\"" + PASSWORD + "\"}";
+
+        List<String> statements = record(() -> mockMvc.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk()));
+
+        assertStatements(statements, 2, 0, 0, 0);
+    }
+
+    @Test
+    @DisplayName("register: uniqueness answered by the registration filters, user and roles inserts, outbox")
+    void register() throws Exception {
+        UserRegisterDTO dto = new UserRegisterDTO(
+                "Usuario Novo", "novo@example.com", PASSWORD, "39053344705", "11223344", "81987501006",
+                "Rua Teste 123", "123", null, "Centro", "Recife", "PE", "50000000",
+                Gender.FEMALE, LocalDate.of(1995, 3, 10), null, true);
+
+        List<String> statements = record(() -> mockMvc.perform(post("/api/v1/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isCreated()));
+
+        assertStatements(statements, 1, 3, 1, 0);
+    }
+
+    @Test
+    @DisplayName("GET /me: JWT lookup plus one joined select")
+    void currentUser() throws Exception {
+        List<String> statements = record(() -> mockMvc.perform(get("/api/v1/users/me")
+                        .header(HttpHeaders.AUTHORIZATION, bearer(user)))
+                .andExpect(status().isOk()));
+
+        assertStatements(statements, 3, 0, 0, 0);
+    }
+
+    @Test
+    @DisplayName("admin list of 1,000 users: one select plus one roles select per user")
+    void listAllUsers() throws Exception {
+        List<User> others = new ArrayList<>();
+        for (int i = 2; i < 1000; i++) {
+            others.add(user(i, Role.USER));
+        }
+        userRepository.saveAll(others);
+
+        // the EAGER roles collection is not joined by the list query: 1 + N
+        List<String> statements = record(() -> mockMvc.perform(get("/api/v1/admin/users")
+                        .header(HttpHeaders.AUTHORIZATION, bearer(admin)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1000)));
+
+        assertStatements(statements, 2 + 1 + 1000, 0, 0, 0);
+    }
+
+    @Test
+    @DisplayName("promote: version bump and roles rewrite, outbox")
+    void promote() throws Exception {
+        List<String> statements = record(() -> mockMvc.perform(put("/api/v1/admin/users/{id}/promote", user.getId())
+                        .header(HttpHeaders.AUTHORIZATION, bearer(admin)))
+                .andExpect(status().isOk()));
+
+        // the new roles set replaces the collection: delete all rows, insert them back in one batch
+        assertStatements(statements, 4, 2, 2, 1);
+    }
+
+    @Test
+    @DisplayName("delete: roles rows and user row, outbox")
+    void deleteUser() throws Exception {
+        List<String> statements = record(() -> mockMvc.perform(delete("/api/v1/admin/users/{id}", user.getId())
+                        .header(HttpHeaders.AUTHORIZATION, bearer(admin)))
+                .andExpect(status().isOk()));
+
+        assertStatements(statements, 4, 1, 1, 2);
+    }
+
+    private String bearer(User owner) {
+        List<String> roles = owner.getRoles().stream().map(role -> "ROLE_" + role.name()).toList();
+        return "Bearer " + jwtUtil.generateToken(owner.getEmail(), roles);
+    }
+
+    private User user(int sequence, Role role) {
+        return User.builder()
+                .name("Usuario " + sequence)
+                .email("usuario" + sequence + "@example.com")
+                .password(encodedPassword)
+                .cpf(String.valueOf(10_000_000_000L + sequence))
+                .rg(String.valueOf(10_000_000 + sequence))
+                .phone("81990000000")
+                .address("Rua Teste")
+                .number("100")
+                .neighborhood("Centro")
+                .city("Recife")
+                .state("PE")
+                .zipCode("50000000")
+                .gender(Gender.MALE)
+                .dateOfBirth(LocalDate.of(1990, 1, 1))
+                .termsAccepted(true)
+                .roles(Set.of(role))
+                .twoFactorEnabled(false)
+                .build();
+    }
+}
@@ -0,0 +1,98 @@
+package com.diegobrsantosdev.user_registration_application.integration;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Records the JDBC statements executed on the test thread while {@link #record} runs.
+ * A JDBC batch counts as one statement. Sequence calls are left out because pooled id allocation
+ * hits the sequence once every 50 inserts, depending on what ran earlier in the context.
+ */
+public class SqlStatementCounter implements QueryExecutionListener {
+
+    private static final ThreadLocal<List<String>> RECORDING = new ThreadLocal<>();
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    public static List<String> record(Action action) throws Exception {
+        List<String> statements = new ArrayList<>();
+        RECORDING.set(statements);
+        try {
+            action.run();
+        } finally {
+            RECORDING.remove();
+        }
+        return statements;
+    }
+
+    public static void assertStatements(List<String> statements, int selects, int inserts, int updates, int deletes) {
+        int[] actual = new int[4];
+        for (String sql : statements) {
+            switch (sql.stripLeading().toLowerCase(Locale.ROOT).split("\\s", 2)[0]) {
+                case "select" -> actual[0]++;
+                case "insert" -> actual[1]++;
+                case "update" -> actual[2]++;
+                case "delete" -> actual[3]++;
+                default -> fail("Unexpected statement: " + sql);
+            }
+        }
+
+        if (actual[0] != selects || actual[1] != inserts || actual[2] != updates || actual[3] != deletes) {
+            fail(String.format("Expected %d select, %d insert, %d update, %d delete but got %d, %d, %d, %d:%n%s",
+                    selects, inserts, updates, deletes, actual[0], actual[1], actual[2], actual[3],
+                    String.join(System.lineSeparator(), statements)));
+        }
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        List<String> statements = RECORDING.get();
+        if (statements == null || queryInfoList.isEmpty()) {
+            return;
+        }
+
+        String sql = queryInfoList.get(0).getQuery();
+        if (!sql.toLowerCase(Locale.ROOT).contains("next value for")) {
+            statements.add(sql);
+        }
+    }
+
+    @TestConfiguration
+    public static class Config {
+
+        @Bean
+        public static BeanPostProcessor statementCountingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource) {
+                        return ProxyDataSourceBuilder.create(dataSource)
+                                .name("counted")
+                                .listener(new SqlStatementCounter())
+                                .build();
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+}
@@ -124,4 +124,15 @@ class UserIntegrationTest {
                 .andExpect(jsonPath("$.email").value(TEST_EMAIL))
                 .andExpect(jsonPath("$.name").value(TEST_NAME));
     }
-}
\ No newline at end of file
+
+    @Test
+    @WithMockUser(username = "admin@example.com", roles = "ADMIN")
+    @DisplayName("Should answer 404 for a CPF that cannot be stored")
+    void shouldReturnNotFoundForMalformedCpf() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/users/cpf/{cpf}", "abc"))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/api/v1/admin/users/cpf/{cpf}", "1234567890123456789"))
+                .andExpect(status().isNotFound());
+    }
+}
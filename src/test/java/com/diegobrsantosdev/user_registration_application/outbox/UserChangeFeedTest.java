@@ -0,0 +1,95 @@
+package com.diegobrsantosdev.user_registration_application.outbox;
+
+import com.diegobrsantosdev.user_registration_application.datasource.ReadYourWritesTracker;
+import com.diegobrsantosdev.user_registration_application.datasource.ReplicaRoutingDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class UserChangeFeedTest {
+
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replica = mock(DataSource.class);
+    private final UserOutboxRepository outboxRepository = mock(UserOutboxRepository.class);
+    private ReplicaRoutingDataSource routing;
+    private DataSource dataSource;
+    private UserChangeFeed feed;
+
+    @BeforeEach
+    void setup() throws SQLException {
+        when(primary.getConnection()).thenReturn(mock(Connection.class));
+        when(replica.getConnection()).thenReturn(mock(Connection.class));
+        routing = new ReplicaRoutingDataSource(primary, Map.of("replica-0", replica),
+                new ReadYourWritesTracker(Duration.ofMinutes(1)), Duration.ofMinutes(1));
+
+        // wired as in RoutingDataSourceConfig: the connection is fetched at the first statement
+        LazyConnectionDataSourceProxy lazy = new LazyConnectionDataSourceProxy();
+        lazy.setDefaultAutoCommit(true);
+        lazy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        lazy.setTargetDataSource(routing);
+        lazy.afterPropertiesSet();
+        dataSource = lazy;
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        // the repository methods run in SimpleJpaRepository's read-only transaction
+        TransactionTemplate repositoryTransaction = new TransactionTemplate(transactionManager);
+        repositoryTransaction.setReadOnly(true);
+        when(outboxRepository.findLastSequence()).thenAnswer(invocation ->
+                repositoryTransaction.execute(status -> {
+                    query();
+                    return 5L;
+                }));
+        when(outboxRepository.findBySequenceGreaterThanOrderBySequenceAsc(eq(5L), any(Limit.class))).thenAnswer(invocation ->
+                repositoryTransaction.execute(status -> {
+                    query();
+                    return List.of();
+                }));
+
+        feed = new UserChangeFeed(outboxRepository, transactionManager, 100, 500, 30_000, 60_000);
+    }
+
+    @Test
+    void shouldReadPagesFromThePrimaryWhenRoutingIsEnabled() {
+        UserChangesDTO page = feed.read(5, null);
+
+        assertTrue(page.changes().isEmpty());
+        assertEquals(1L, routing.routedConnections().get(ReplicaRoutingDataSource.PRIMARY));
+        verifyNoInteractions(replica);
+    }
+
+    @Test
+    void shouldProbeTheLastSequenceOnThePrimaryWhenRoutingIsEnabled() {
+        feed.init();
+        feed.poll(5, null, 10_000);
+
+        feed.checkForChanges();
+
+        verify(outboxRepository, times(2)).findLastSequence();
+        assertEquals(3L, routing.routedConnections().get(ReplicaRoutingDataSource.PRIMARY));
+        verifyNoInteractions(replica);
+    }
+
+    private void query() {
+        try {
+            DataSourceUtils.getConnection(dataSource).createStatement();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
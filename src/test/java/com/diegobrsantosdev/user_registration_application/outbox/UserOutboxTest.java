@@ -0,0 +1,84 @@
+package com.diegobrsantosdev.user_registration_application.outbox;
+
+import com.diegobrsantosdev.user_registration_application.dtos.UserResponseDTO;
+import com.diegobrsantosdev.user_registration_application.models.Role;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class UserOutboxTest {
+
+    private final UserOutboxRepository outboxRepository = mock(UserOutboxRepository.class);
+    private final UserOutboxSequenceRepository sequenceRepository = mock(UserOutboxSequenceRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final UserOutbox outbox = new UserOutbox(outboxRepository, sequenceRepository,
+            new ObjectMapper().registerModule(new JavaTimeModule()), eventPublisher,
+            mock(PlatformTransactionManager.class), 7);
+
+    private final UserOutboxSequence counter = new UserOutboxSequence(UserOutboxSequence.ID, 41);
+
+    @BeforeEach
+    void setup() {
+        TransactionSynchronizationManager.initSynchronization();
+        when(sequenceRepository.lockCounter()).thenReturn(Optional.of(counter));
+    }
+
+    @AfterEach
+    void cleanup() {
+        TransactionSynchronizationManager.clear();
+    }
+
+    @Test
+    void shouldTakeTheNextSequenceAndPublishOnlyAfterCommit() {
+        UserResponseDTO before = user("joao@email.com", Set.of(Role.USER), LocalDateTime.of(2024, 1, 1, 10, 0));
+        UserResponseDTO after = user("joao@email.com", Set.of(Role.USER, Role.ADMIN), LocalDateTime.of(2024, 1, 2, 10, 0));
+
+        long sequence = outbox.record(UserChangeType.PROMOTED, before, after);
+
+        assertEquals(42, sequence);
+        assertEquals(42, counter.getLastValue());
+        ArgumentCaptor<UserOutboxEvent> saved = ArgumentCaptor.forClass(UserOutboxEvent.class);
+        verify(outboxRepository).save(saved.capture());
+        assertEquals(42L, saved.getValue().getSequence());
+        assertEquals("roles", saved.getValue().getChangedFields());
+        assertTrue(saved.getValue().getPayload().contains("\"email\":\"joao@email.com\""));
+        verifyNoInteractions(eventPublisher);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        ArgumentCaptor<UserChangedEvent> published = ArgumentCaptor.forClass(UserChangedEvent.class);
+        verify(eventPublisher).publishEvent(published.capture());
+        assertEquals(42, published.getValue().sequence());
+        assertEquals(List.of("roles"), published.getValue().changedFields());
+    }
+
+    @Test
+    void shouldIgnoreUpdatedAtWhenComparingSnapshots() {
+        UserResponseDTO before = user("joao@email.com", Set.of(Role.USER), LocalDateTime.of(2024, 1, 1, 10, 0));
+        UserResponseDTO after = user("novo@email.com", Set.of(Role.USER), LocalDateTime.of(2024, 1, 2, 10, 0));
+
+        assertEquals(List.of("email"), UserSnapshots.changedFields(before, after));
+        assertEquals(List.of(), UserSnapshots.changedFields(before, null));
+    }
+
+    private UserResponseDTO user(String email, Set<Role> roles, LocalDateTime updatedAt) {
+        return new UserResponseDTO(1, "João Silva", email, "98765432100", "12345678", "11999998888",
+                "Rua Alpha", "100", null, "Centro", "São Paulo", "SP", "01001000", null, null,
+                null, true, null, updatedAt, roles, false);
+    }
+}
@@ -0,0 +1,54 @@
+package com.diegobrsantosdev.user_registration_application.outbox;
+
+import com.diegobrsantosdev.user_registration_application.dtos.UserResponseDTO;
+import com.diegobrsantosdev.user_registration_application.models.Role;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserStreamHubTest {
+
+    @Test
+    void shouldCarryOnlyTheChangedFields() {
+        UserResponseDTO before = user(Set.of(Role.USER));
+        UserResponseDTO after = user(Set.of(Role.USER, Role.ADMIN));
+        UserChangedEvent event = new UserChangedEvent(7, UserChangeType.PROMOTED, 1, before, after,
+                List.of("roles"), Instant.now());
+
+        UserStreamEventDTO compact = UserStreamHub.compact(event);
+
+        assertEquals(7, compact.sequence());
+        assertEquals(Map.of("roles", Set.of(Role.USER, Role.ADMIN)), compact.fields());
+    }
+
+    @Test
+    void shouldSendNoFieldsForADeletion() {
+        UserChangedEvent event = new UserChangedEvent(8, UserChangeType.DELETED, 1, user(Set.of(Role.USER)), null,
+                List.of(), Instant.now());
+
+        assertTrue(UserStreamHub.compact(event).fields().isEmpty());
+    }
+
+    @Test
+    void shouldRejectSubscribersPastTheLimit() {
+        UserStreamHub hub = new UserStreamHub(new ObjectMapper(), 16, 1, 60_000);
+
+        hub.subscribe();
+
+        assertThrows(RejectedExecutionException.class, hub::subscribe);
+        assertEquals(1, hub.subscriberCount());
+    }
+
+    private UserResponseDTO user(Set<Role> roles) {
+        return new UserResponseDTO(1, "João Silva", "joao@email.com", "98765432100", "12345678", "11999998888",
+                "Rua Alpha", "100", null, "Centro", "São Paulo", "SP", "01001000", null, null,
+                null, true, null, null, roles, false);
+    }
+}
@@ -0,0 +1,83 @@
+package com.diegobrsantosdev.user_registration_application.profiling;
+
+import com.diegobrsantosdev.user_registration_application.exceptions.IllegalActionException;
+import com.diegobrsantosdev.user_registration_application.exceptions.ResourceNotFoundException;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlightRecordingServiceTest {
+
+    private final FlightRecordingService service = new FlightRecordingService(5, 10);
+
+    @AfterEach
+    void cleanup() {
+        service.shutdown();
+    }
+
+    @Test
+    void shouldRecordApplicationEventsAndDownloadThemAfterStop() throws Exception {
+        service.start("default");
+
+        CepLookupEvent event = new CepLookupEvent();
+        event.cep = "01001000";
+        event.begin();
+        event.commit("FOUND", true);
+
+        FlightRecordingDTO stopped = service.stop();
+        assertEquals("STOPPED", stopped.state());
+
+        Path file = service.download();
+        List<RecordedEvent> lookups = RecordingFile.readAllEvents(file).stream()
+                .filter(recorded -> recorded.getEventType().getName().equals("com.diegobrsantosdev.userreg.CepLookup"))
+                .toList();
+
+        assertEquals(1, lookups.size());
+        assertEquals("01001000", lookups.get(0).getString("cep"));
+        assertEquals("FOUND", lookups.get(0).getString("outcome"));
+        assertTrue(lookups.get(0).getBoolean("cacheHit"));
+        Files.delete(file);
+    }
+
+    @Test
+    void shouldGiveEveryDownloadItsOwnFile() throws Exception {
+        service.start("default");
+
+        Path snapshot = service.download();
+        service.stop();
+        Path first = service.download();
+        Path second = service.download();
+        // a download still being streamed is never deleted by a later one, stop() or the next start()
+        service.start("default");
+
+        assertNotEquals(first, second);
+        assertTrue(Files.exists(snapshot));
+        assertTrue(Files.exists(first));
+        assertTrue(Files.exists(second));
+
+        for (Path file : List.of(snapshot, first, second)) {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void shouldRejectASecondRecordingWhileOneIsRunning() {
+        service.start("default");
+
+        assertThrows(IllegalActionException.class, () -> service.start("profile"));
+    }
+
+    @Test
+    void shouldRejectUnknownSettingsAndMissingRecordings() {
+        assertThrows(IllegalArgumentException.class, () -> service.start("does-not-exist"));
+        assertThrows(ResourceNotFoundException.class, service::download);
+        assertThrows(IllegalActionException.class, service::stop);
+    }
+}
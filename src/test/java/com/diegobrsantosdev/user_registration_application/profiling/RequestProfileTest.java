@@ -0,0 +1,47 @@
+package com.diegobrsantosdev.user_registration_application.profiling;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestProfileTest {
+
+    @Test
+    void shouldCountEveryStatementButKeepOnlyTheFirstOnes() {
+        RequestProfile profile = new RequestProfile(2);
+
+        profile.recordStatement("select 1", 1_000_000);
+        profile.recordStatement("select 2", 2_000_000);
+        profile.recordStatement("select 3", 3_000_000);
+
+        assertEquals(3, profile.statementCount());
+        assertEquals(6.0, profile.dbMs(), 0.001);
+        assertEquals(2, profile.statements().size());
+        assertEquals("select 1", profile.statements().get(0).sql());
+    }
+
+    @Test
+    void shouldTimeOnlyTheOutermostServiceCall() throws InterruptedException {
+        RequestProfile profile = new RequestProfile(10);
+
+        profile.enterService();
+        profile.enterService();
+        Thread.sleep(5);
+        profile.exitService();
+        assertEquals(0.0, profile.serviceMs());
+        profile.exitService();
+
+        assertTrue(profile.serviceMs() >= 5.0);
+    }
+
+    @Test
+    void shouldWriteTheHeaderOnlyOnce() {
+        RequestProfile profile = new RequestProfile(10);
+        profile.recordStatement("select 1", 1_500_000);
+
+        assertTrue(profile.markHeaderWritten());
+        assertFalse(profile.markHeaderWritten());
+        assertTrue(profile.serverTiming().matches(
+                "auth;dur=[\\d.]+, db;dur=1\\.50;desc=\"1 statements\", service;dur=0\\.00, ser;dur=0\\.00, total;dur=[\\d.]+"));
+    }
+}
@@ -0,0 +1,38 @@
+package com.diegobrsantosdev.user_registration_application.profiling;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationContext;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class VirtualThreadPinningMonitorTest {
+
+    private final ApplicationContext applicationContext = mock(ApplicationContext.class);
+    private final VirtualThreadPinningMonitor monitor =
+            new VirtualThreadPinningMonitor(applicationContext, new SimpleMeterRegistry(), true, 20);
+
+    @AfterEach
+    void cleanup() {
+        monitor.close();
+    }
+
+    @Test
+    void shouldListSynchronizedMethodsOfApplicationBeansOnly() {
+        when(applicationContext.getBeanDefinitionNames()).thenReturn(new String[]{"slowRequestLog", "objectMapper"});
+        doReturn(SlowRequestLog.class).when(applicationContext).getType("slowRequestLog");
+        doReturn(StringBuffer.class).when(applicationContext).getType("objectMapper");
+
+        monitor.start();
+        VirtualThreadPinningMonitor.PinningReport report = monitor.report();
+
+        assertEquals(List.of("SlowRequestLog.add", "SlowRequestLog.recent"), report.synchronizedMethods());
+        assertEquals(Runtime.version().feature() < 24, report.synchronizedPins());
+        assertTrue(report.virtualThreads());
+        assertEquals(0, report.pinnedEvents());
+    }
+}
@@ -0,0 +1,131 @@
+package com.diegobrsantosdev.user_registration_application.search;
+
+import com.diegobrsantosdev.user_registration_application.dtos.UserResponseDTO;
+import com.diegobrsantosdev.user_registration_application.models.Role;
+import com.diegobrsantosdev.user_registration_application.outbox.UserChangeType;
+import com.diegobrsantosdev.user_registration_application.outbox.UserChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+class UserSearchIndexTest {
+
+    private final UserSearchQueries queries = mock(UserSearchQueries.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final UserSearchIndex searchIndex = new UserSearchIndex(queries, transactionManager, 2, 1000, 0.5);
+
+    @BeforeEach
+    void setup() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(queries.findMinId()).thenReturn(1);
+        when(queries.findMaxId()).thenReturn(3);
+        when(queries.findRows(1, 2)).thenReturn(List.of(
+                new UserSearchRow(1, "João Silva", "joao.silva@email.com", "São Paulo", "SP", LocalDateTime.of(2024, 1, 10, 9, 0)),
+                new UserSearchRow(2, "Maria Souza", "maria@email.com", "Recife", "PE", LocalDateTime.of(2024, 3, 5, 9, 0))));
+        when(queries.findRows(3, 3)).thenReturn(List.of(
+                new UserSearchRow(3, "Joana Lima", "jlima@email.com", "Sao Paulo", "SP", LocalDateTime.of(2024, 6, 1, 9, 0))));
+        when(queries.findRoles(anyInt(), anyInt())).thenReturn(List.of());
+        when(queries.findRoles(1, 2)).thenReturn(List.<Object[]>of(
+                new Object[]{1, Role.USER}, new Object[]{1, Role.ADMIN}, new Object[]{2, Role.USER}));
+    }
+
+    @Test
+    void shouldRejectSearchesUntilTheFirstRebuild() {
+        assertThrows(RejectedExecutionException.class, () -> searchIndex.search(criteria("jo"), 0, 20));
+    }
+
+    @Test
+    void shouldLoadInReadWriteTransactionsSoReplicasAreSkipped() {
+        searchIndex.rebuild();
+
+        // min id, max id and two chunks
+        verify(transactionManager, times(4)).getTransaction(argThat(definition -> !definition.isReadOnly()));
+        verify(transactionManager, times(4)).commit(any());
+    }
+
+    @Test
+    void shouldMatchWordPrefixesIgnoringAccentsAndRankThemFirst() {
+        searchIndex.rebuild();
+
+        UserSearchPageDTO page = searchIndex.search(criteria("jo"), 0, 20);
+
+        assertEquals(2, page.totalElements());
+        assertEquals(List.of(3, 1), ids(page));
+        assertEquals(Set.of(Role.USER, Role.ADMIN), page.content().get(1).roles());
+    }
+
+    @Test
+    void shouldToleratePartialTypos() {
+        searchIndex.rebuild();
+
+        UserSearchPageDTO page = searchIndex.search(criteria("joao silvq"), 0, 20);
+
+        assertEquals(List.of(1), ids(page));
+        assertTrue(page.content().getFirst().score() < 1);
+    }
+
+    @Test
+    void shouldApplyFiltersWithoutAQuery() {
+        searchIndex.rebuild();
+
+        UserSearchCriteria saoPaulo = new UserSearchCriteria(null, "sao paulo", "sp", null, LocalDate.of(2024, 1, 1), null);
+        UserSearchCriteria admins = new UserSearchCriteria(null, null, null, Role.ADMIN, null, LocalDate.of(2024, 1, 10));
+
+        assertEquals(List.of(3, 1), ids(searchIndex.search(saoPaulo, 0, 20)));
+        assertEquals(List.of(1), ids(searchIndex.search(admins, 0, 20)));
+    }
+
+    @Test
+    void shouldPageTheRankedMatches() {
+        searchIndex.rebuild();
+
+        UserSearchPageDTO second = searchIndex.search(criteria(null), 1, 2);
+
+        assertEquals(3, second.totalElements());
+        assertEquals(List.of(1), ids(second));
+    }
+
+    @Test
+    void shouldFollowCommittedChanges() {
+        searchIndex.rebuild();
+
+        searchIndex.onUserChanged(event(5, UserChangeType.UPDATED, user(2, "Maria Joaquina")));
+        searchIndex.onUserChanged(event(4, UserChangeType.UPDATED, user(2, "Maria Antiga")));
+        searchIndex.onUserChanged(new UserChangedEvent(6, UserChangeType.DELETED, 3, user(3, "Joana Lima"), null,
+                List.of(), Instant.now()));
+
+        assertEquals(List.of(1, 2), ids(searchIndex.search(criteria("jo"), 0, 20)));
+        assertEquals(0, searchIndex.search(criteria("antiga"), 0, 20).totalElements());
+    }
+
+    private UserSearchCriteria criteria(String q) {
+        return new UserSearchCriteria(q, null, null, null, null, null);
+    }
+
+    private List<Integer> ids(UserSearchPageDTO page) {
+        return page.content().stream().map(UserSearchResultDTO::id).toList();
+    }
+
+    private UserChangedEvent event(long sequence, UserChangeType type, UserResponseDTO user) {
+        return new UserChangedEvent(sequence, type, user.id(), null, user, List.of("name"), Instant.now());
+    }
+
+    private UserResponseDTO user(int id, String name) {
+        return new UserResponseDTO(id, name, "user" + id + "@email.com", "98765432100", "12345678", "11999998888",
+                "Rua Alpha", "100", null, "Centro", "Recife", "PE", "01001000", null, null,
+                null, true, LocalDateTime.of(2024, 3, 5, 9, 0), null, Set.of(Role.USER), false);
+    }
+}
@@ -0,0 +1,53 @@
+package com.diegobrsantosdev.user_registration_application.seed;
+
+import com.diegobrsantosdev.user_registration_application.seed.SyntheticUserGenerator.SyntheticUser;
+import com.diegobrsantosdev.user_registration_application.validators.BrazilianDocuments;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SyntheticUserGeneratorTest {
+
+    private final SyntheticUserGenerator generator = new SyntheticUserGenerator(42);
+
+    @Test
+    void shouldGenerateRowsThatPassTheRegistrationValidators() {
+        for (int sequence = 0; sequence < 10_000; sequence++) {
+            SyntheticUser user = generator.generate(sequence);
+            assertTrue(BrazilianDocuments.isValidCpf(user.cpf(), false), user.cpf());
+            assertTrue(BrazilianDocuments.isValidPhone(user.phone(), false), user.phone());
+            assertTrue(BrazilianDocuments.isValidCep(user.zipCode(), false), user.zipCode());
+            assertTrue(BrazilianDocuments.isValidUf(user.state()), user.state());
+        }
+    }
+
+    @Test
+    void shouldKeepCpfRgAndEmailUnique() {
+        Set<String> cpfs = new HashSet<>();
+        Set<String> rgs = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        for (int sequence = 0; sequence < 100_000; sequence++) {
+            SyntheticUser user = generator.generate(sequence);
+            assertTrue(cpfs.add(user.cpf()));
+            assertTrue(rgs.add(user.rg()));
+            assertTrue(emails.add(user.email()));
+        }
+        assertTrue(cpfs.add(SyntheticUserGenerator.cpf(SyntheticUserGenerator.MAX_SEQUENCE)));
+    }
+
+    @Test
+    void shouldBeDeterministicForTheSameSeed() {
+        assertEquals(generator.generate(1234), new SyntheticUserGenerator(42).generate(1234));
+        assertNotEquals(generator.generate(1234), new SyntheticUserGenerator(7).generate(1234));
+        assertEquals(SyntheticUserGenerator.cpf(1234), generator.generate(1234).cpf());
+    }
+
+    @Test
+    void shouldRejectSequencesOutsideTheCpfRange() {
+        assertThrows(IllegalArgumentException.class, () -> generator.generate(-1));
+        assertThrows(IllegalArgumentException.class, () -> generator.generate(SyntheticUserGenerator.MAX_SEQUENCE + 1));
+    }
+}
@@ -0,0 +1,82 @@
+package com.diegobrsantosdev.user_registration_application.service;
+
+import com.diegobrsantosdev.user_registration_application.dtos.RegistrationStatusDTO;
+import com.diegobrsantosdev.user_registration_application.dtos.UserRegisterDTO;
+import com.diegobrsantosdev.user_registration_application.exceptions.InvalidCredentialsException;
+import com.diegobrsantosdev.user_registration_application.exceptions.ResourceAlreadyExistsException;
+import com.diegobrsantosdev.user_registration_application.exceptions.ResourceNotFoundException;
+import com.diegobrsantosdev.user_registration_application.models.Gender;
+import com.diegobrsantosdev.user_registration_application.models.RegistrationReservation;
+import com.diegobrsantosdev.user_registration_application.models.RegistrationStatus;
+import com.diegobrsantosdev.user_registration_application.repositories.RegistrationReservationRepository;
+import com.diegobrsantosdev.user_registration_application.services.AsyncRegistrationService;
+import com.diegobrsantosdev.user_registration_application.services.AuthService;
+import com.diegobrsantosdev.user_registration_application.services.RegistrationPipeline;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class AsyncRegistrationServiceTest {
+
+    private final AuthService authService = mock(AuthService.class);
+    private final RegistrationReservationRepository reservationRepository = mock(RegistrationReservationRepository.class);
+    private final RegistrationPipeline pipeline = mock(RegistrationPipeline.class);
+    private final AsyncRegistrationService asyncRegistrationService =
+            new AsyncRegistrationService(authService, reservationRepository, pipeline, 5, 15);
+
+    private final UserRegisterDTO request = new UserRegisterDTO(
+            "João Silva", "joao@email.com", "senha1234", "529.982.247-25", "12345678", "11999998888",
+            "Rua Alpha", "100", null, "Centro", "São Paulo", "SP", "01001000",
+            Gender.MALE, LocalDate.of(1990, 5, 15), null, true);
+
+    @Test
+    void shouldReserveTheKeysAndHandTheJobToThePipeline() {
+        RegistrationStatusDTO status = asyncRegistrationService.submit(request);
+
+        ArgumentCaptor<RegistrationReservation> reservation = ArgumentCaptor.forClass(RegistrationReservation.class);
+        verify(reservationRepository).saveAndFlush(reservation.capture());
+        assertEquals("52998224725", reservation.getValue().getCpf());
+        assertEquals(RegistrationStatus.PENDING, status.status());
+        verify(pipeline).submit(status.id(), request);
+    }
+
+    @Test
+    void shouldNotReserveWhenTheRulesFail() {
+        doThrow(new InvalidCredentialsException("Email already in use.")).when(authService).checkRegistrationRules(request);
+
+        assertThrows(InvalidCredentialsException.class, () -> asyncRegistrationService.submit(request));
+        verifyNoInteractions(reservationRepository, pipeline);
+    }
+
+    @Test
+    void shouldConflictWhenTheSameKeysAreAlreadyReserved() {
+        when(reservationRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        assertThrows(ResourceAlreadyExistsException.class, () -> asyncRegistrationService.submit(request));
+        verifyNoInteractions(pipeline);
+    }
+
+    @Test
+    void shouldReleaseTheReservationWhenThePipelineIsFull() {
+        doThrow(new RejectedExecutionException()).when(pipeline).submit(anyString(), any());
+
+        assertThrows(RejectedExecutionException.class, () -> asyncRegistrationService.submit(request));
+        verify(reservationRepository).deleteById(anyString());
+    }
+
+    @Test
+    void shouldThrowWhenTheStatusIsUnknown() {
+        when(reservationRepository.findById("missing")).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> asyncRegistrationService.status("missing"));
+    }
+}
@@ -11,17 +11,21 @@ import com.diegobrsantosdev.user_registration_application.models.User;
 import com.diegobrsantosdev.user_registration_application.security.JwtUtil;
 import com.diegobrsantosdev.user_registration_application.services.AuthService;
 import com.diegobrsantosdev.user_registration_application.services.UserService;
+import com.diegobrsantosdev.user_registration_application.viaCep.CepResponseDTO;
+import com.diegobrsantosdev.user_registration_application.viaCep.CepService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 
 import java.time.LocalDate;
+import java.util.Optional;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -50,6 +54,9 @@ class AuthServiceTest {
     @Mock
     private JwtUtil jwtUtil;
 
+    @Mock
+    private CepService cepService;
+
     private User user;
 
     @BeforeEach
@@ -152,7 +159,7 @@ class AuthServiceTest {
         when(userService.existsByCpf(dto.cpf())).thenReturn(false);
         when(userService.existsByRg(dto.rg())).thenReturn(false);
         when(passwordEncoder.encode(PASSWORD)).thenReturn(ENCODED_PASSWORD);
-        when(userService.save(any(User.class))).thenReturn(user);
+        when(userService.create(any(User.class))).thenReturn(user);
         when(jwtUtil.generateToken(
                 eq(EMAIL),
                 anyList()
@@ -196,4 +203,94 @@ class AuthServiceTest {
 
         assertEquals("Terms must be accepted.", ex.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    void register_ShouldReportTheTakenField_WhenTheUniqueIndexCatchesAConcurrentRegistration() {
+
+        UserRegisterDTO dto = new UserRegisterDTO(
+                NAME,
+                EMAIL,
+                PASSWORD,
+                "12345678900",
+                "1234567",
+                "81999999999",
+                "Rua A",
+                "10",
+                null,
+                "Centro",
+                "Recife",
+                "PE",
+                "50000000",
+                Gender.MALE,
+                LocalDate.of(1990, 5, 20),
+                null,
+                true
+        );
+
+        when(passwordEncoder.encode(PASSWORD)).thenReturn(ENCODED_PASSWORD);
+        when(userService.create(any(User.class))).thenThrow(new DataIntegrityViolationException("unique index"));
+        when(userService.findTakenRegistrationField(EMAIL, dto.cpf(), dto.rg())).thenReturn(Optional.of("Email"));
+
+        InvalidCredentialsException ex =
+                assertThrows(InvalidCredentialsException.class,
+                        () -> authService.register(dto));
+
+        assertEquals("Email already in use.", ex.getMessage());
+    }
+
+    // =======================REGISTER WITH ADDRESS LOOKUP==============================
+
+    private UserRegisterDTO zipOnlyRegisterDTO(String city) {
+        return new UserRegisterDTO(
+                NAME,
+                EMAIL,
+                PASSWORD,
+                "12345678900",
+                "1234567",
+                "81999999999",
+                null,
+                "10",
+                "Apto 1",
+                null,
+                city,
+                null,
+                "50070000",
+                Gender.MALE,
+                LocalDate.of(1990, 5, 20),
+                null,
+                true
+        );
+    }
+
+    @Test
+    void registerWithAddressLookup_ShouldFillAddressFromZipCode() {
+
+        when(cepService.lookupCep("50070000")).thenReturn(new CepResponseDTO(
+                "50070-000", "Rua Padre Alencar", "", "Santo Amaro", "Recife", "PE"));
+        when(passwordEncoder.encode(PASSWORD)).thenReturn(ENCODED_PASSWORD);
+        when(userService.create(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        authService.registerWithAddressLookup(zipOnlyRegisterDTO("recife"));
+
+        verify(userService).create(argThat(saved ->
+                "Rua Padre Alencar".equals(saved.getAddress())
+                        && "Santo Amaro".equals(saved.getNeighborhood())
+                        && "recife".equals(saved.getCity())
+                        && "PE".equals(saved.getState())
+                        && "10".equals(saved.getNumber())));
+    }
+
+    @Test
+    void registerWithAddressLookup_ShouldRejectValuesThatDisagreeWithZipCode() {
+
+        when(cepService.lookupCep("50070000")).thenReturn(new CepResponseDTO(
+                "50070-000", "Rua Padre Alencar", "", "Santo Amaro", "Recife", "PE"));
+
+        InvalidDataException ex =
+                assertThrows(InvalidDataException.class,
+                        () -> authService.registerWithAddressLookup(zipOnlyRegisterDTO("Olinda")));
+
+        assertEquals("City does not match the ZIP code.", ex.getMessage());
+        verify(userService, never()).create(any());
+    }
+}
@@ -0,0 +1,72 @@
+package com.diegobrsantosdev.user_registration_application.service;
+
+import com.diegobrsantosdev.user_registration_application.dtos.AuthResponseDTO;
+import com.diegobrsantosdev.user_registration_application.dtos.LoginRequestDTO;
+import com.diegobrsantosdev.user_registration_application.exceptions.InvalidCredentialsException;
+import com.diegobrsantosdev.user_registration_application.models.User;
+import com.diegobrsantosdev.user_registration_application.services.AuthService;
+import com.diegobrsantosdev.user_registration_application.services.ReactiveAuthService;
+import com.diegobrsantosdev.user_registration_application.services.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReactiveAuthServiceTest {
+
+    private static final String EMAIL = "joao@email.com";
+    private static final String PASSWORD = "senha123";
+    private static final String ENCODED_PASSWORD = "encoded";
+
+    private final UserService userService = mock(UserService.class);
+    private final AuthService authService = mock(AuthService.class);
+    private final Scheduler passwordHashScheduler = Schedulers.newSingle("password-hash-test");
+    private final ReactiveAuthService reactiveAuthService =
+            new ReactiveAuthService(userService, authService, passwordHashScheduler);
+
+    private User user;
+
+    @BeforeEach
+    void setup() {
+        user = new User();
+        user.setEmail(EMAIL);
+        user.setPassword(ENCODED_PASSWORD);
+        when(userService.findByEmail(EMAIL)).thenReturn(user);
+    }
+
+    @AfterEach
+    void cleanup() {
+        passwordHashScheduler.dispose();
+    }
+
+    @Test
+    void shouldCheckThePasswordOnTheHashScheduler() {
+        AtomicReference<String> hashThread = new AtomicReference<>();
+        AuthResponseDTO expected = new AuthResponseDTO("jwt-token", false, false, null);
+        when(authService.matchesPassword(PASSWORD, ENCODED_PASSWORD)).thenAnswer(invocation -> {
+            hashThread.set(Thread.currentThread().getName());
+            return true;
+        });
+        when(authService.loginResponse(user)).thenReturn(expected);
+
+        AuthResponseDTO response = reactiveAuthService.login(new LoginRequestDTO(EMAIL, PASSWORD)).block();
+
+        assertSame(expected, response);
+        assertTrue(hashThread.get().startsWith("password-hash-test"));
+    }
+
+    @Test
+    void shouldRejectAWrongPassword() {
+        when(authService.matchesPassword("senhaErrada", ENCODED_PASSWORD)).thenReturn(false);
+
+        assertThrows(InvalidCredentialsException.class,
+                () -> reactiveAuthService.login(new LoginRequestDTO(EMAIL, "senhaErrada")).block());
+        verify(authService, never()).loginResponse(any());
+    }
+}
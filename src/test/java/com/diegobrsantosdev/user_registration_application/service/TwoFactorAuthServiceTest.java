@@ -5,6 +5,7 @@ import com.diegobrsantosdev.user_registration_application.exceptions.InvalidData
 import com.diegobrsantosdev.user_registration_application.exceptions.UsernameNotFoundException;
 import com.diegobrsantosdev.user_registration_application.models.Role;
 import com.diegobrsantosdev.user_registration_application.models.User;
+import com.diegobrsantosdev.user_registration_application.outbox.UserOutbox;
 import com.diegobrsantosdev.user_registration_application.repositories.UserRepository;
 import com.diegobrsantosdev.user_registration_application.security.JwtUtil;
 import com.diegobrsantosdev.user_registration_application.services.TwoFactorAuthService;
@@ -46,6 +47,9 @@ public class TwoFactorAuthServiceTest {
     @Mock
     private JwtUtil jwtUtil;
 
+    @Mock
+    private UserOutbox userOutbox;
+
     @Mock
     private Authentication authentication;
 
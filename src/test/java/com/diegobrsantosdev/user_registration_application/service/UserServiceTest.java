@@ -1,14 +1,19 @@
 package com.diegobrsantosdev.user_registration_application.service;
 
+import com.diegobrsantosdev.user_registration_application.availability.RegistrationFilters;
 import com.diegobrsantosdev.user_registration_application.dtos.*;
 import com.diegobrsantosdev.user_registration_application.models.Gender;
 import com.diegobrsantosdev.user_registration_application.models.Role;
 import com.diegobrsantosdev.user_registration_application.models.User;
 import com.diegobrsantosdev.user_registration_application.exceptions.*;
 import com.diegobrsantosdev.user_registration_application.mappers.UserMapper;
+import com.diegobrsantosdev.user_registration_application.outbox.UserChangeType;
+import com.diegobrsantosdev.user_registration_application.outbox.UserOutbox;
 import com.diegobrsantosdev.user_registration_application.repositories.UserRepository;
 import com.diegobrsantosdev.user_registration_application.services.UserService;
 import com.diegobrsantosdev.user_registration_application.shared.ApiMessages;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -47,6 +52,12 @@ public class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private UserOutbox userOutbox;
+
+    @Mock
+    private RegistrationFilters registrationFilters;
+
     // ======= HELPERS =======
     private UserRegisterDTO createDefaultUserRegisterDTO() {
         return new UserRegisterDTO(
@@ -179,6 +190,14 @@ public class UserServiceTest {
         assertTrue(result.isEmpty());
     }
 
+    @Test
+    void getUserByCpf_ShouldReturnEmptyWithoutQuerying_WhenCpfIsMalformed() {
+        assertTrue(userService.getUserByCpf("abc").isEmpty());
+        assertTrue(userService.getUserByCpf("1234567890123456789").isEmpty());
+        assertFalse(userService.existsByCpf("98765432101"));
+        verifyNoInteractions(userRepository, registrationFilters);
+    }
+
     // ========= UPDATE =========
     @Test
     void updateUser_ShouldReturnUpdatedUser_WhenDataIsValid() {
@@ -228,6 +247,48 @@ public class UserServiceTest {
         assertThrows(ResourceAlreadyExistsException.class, () -> userService.updateUser(EXISTING_ID, dto));
     }
 
+    @Test
+    void patchUser_ShouldOnlyProbeChangedIdentifiers() {
+        UserUpdateDTO current = createDefaultUserUpdateDTO();
+        UserUpdateDTO patched = new UserUpdateDTO(current.name(), "novo@gmail.com", current.cpf(), current.rg(),
+                current.phone(), current.address(), current.number(), current.complement(), current.neighborhood(),
+                current.city(), current.state(), current.zipCode(), current.gender(), current.dateOfBirth(),
+                current.profilePictureUrl(), current.termsAccepted());
+        User existingUser = new User(); existingUser.setId(EXISTING_ID);
+        existingUser.setEmail(current.email()); existingUser.setCpf(current.cpf()); existingUser.setRg(current.rg());
+        ObjectNode patch = new ObjectMapper().createObjectNode().put("email", "novo@gmail.com");
+
+        when(userRepository.findById(EXISTING_ID)).thenReturn(Optional.of(existingUser));
+        when(userMapper.mergePatch(existingUser, patch)).thenReturn(patched);
+        when(userRepository.existsByEmail("novo@gmail.com")).thenReturn(false);
+        when(userMapper.applyChanges(existingUser, patched)).thenReturn(Set.of("email"));
+        when(userRepository.saveAndFlush(existingUser)).thenReturn(existingUser);
+
+        userService.patchUser(EXISTING_ID, patch, null);
+
+        verify(userRepository).existsByEmail("novo@gmail.com");
+        verify(userRepository, never()).existsByCpf(any());
+        verify(userRepository, never()).existsByRg(any());
+        verify(userRepository).saveAndFlush(existingUser);
+    }
+
+    @Test
+    void patchUser_ShouldSkipSave_WhenNothingChanged() {
+        UserUpdateDTO current = createDefaultUserUpdateDTO();
+        User existingUser = new User(); existingUser.setId(EXISTING_ID);
+        existingUser.setEmail(current.email()); existingUser.setCpf(current.cpf()); existingUser.setRg(current.rg());
+        ObjectNode patch = new ObjectMapper().createObjectNode().put("name", current.name());
+
+        when(userRepository.findById(EXISTING_ID)).thenReturn(Optional.of(existingUser));
+        when(userMapper.mergePatch(existingUser, patch)).thenReturn(current);
+        when(userMapper.applyChanges(existingUser, current)).thenReturn(Set.of());
+
+        userService.patchUser(EXISTING_ID, patch, null);
+
+        verify(userRepository, never()).saveAndFlush(any());
+        verify(userRepository, never()).existsByEmail(any());
+    }
+
     // ========= UPDATE PASSWORD =========
     @Test
     void updatePassword_ShouldUpdate_WhenCurrentPasswordIsCorrect() {
@@ -276,6 +337,21 @@ public class UserServiceTest {
         verify(userRepository).delete(mockUser);
     }
 
+    @Test
+    void deleteOwnUser_ShouldRecordTheLastStateInTheOutbox() {
+        User mockUser = new User();
+        mockUser.setId(EXISTING_ID);
+        mockUser.setEmail(DEFAULT_EMAIL);
+
+        when(userRepository.findById(EXISTING_ID)).thenReturn(Optional.of(mockUser));
+
+        userService.deleteOwnUser(EXISTING_ID);
+
+        verify(userRepository).delete(mockUser);
+        verify(userOutbox).record(eq(UserChangeType.DELETED),
+                argThat(before -> before.id() == EXISTING_ID && DEFAULT_EMAIL.equals(before.email())), isNull());
+    }
+
 
 
 
@@ -0,0 +1,119 @@
+package com.diegobrsantosdev.user_registration_application.statistics;
+
+import com.diegobrsantosdev.user_registration_application.exceptions.InvalidDataException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class RegistrationRollupsTest {
+
+    private final RegistrationRollupRepository rollupRepository = mock(RegistrationRollupRepository.class);
+    private final UserStatisticsQueries queries = mock(UserStatisticsQueries.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final RegistrationRollups rollups =
+            new RegistrationRollups(rollupRepository, queries, transactionManager, 5000, 7, 90);
+
+    @BeforeEach
+    void setup() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    }
+
+    @Test
+    void shouldAnswerRecentBucketsFromMemory() {
+        Instant now = Instant.now();
+        rollups.record(now);
+        rollups.record(now);
+        rollups.record(now.minus(1, ChronoUnit.HOURS));
+
+        RegistrationSeriesDTO series = rollups.series(RollupResolution.HOUR, now.minus(2, ChronoUnit.HOURS), now);
+
+        assertEquals(3, series.points().size());
+        assertEquals(List.of(0L, 1L, 2L), series.points().stream().map(RegistrationSeriesDTO.Point::count).toList());
+        assertEquals(3, series.total());
+        verify(rollupRepository, never()).findRange(any(), anyLong(), anyLong());
+    }
+
+    @Test
+    void shouldReadBucketsOlderThanTheRingFromTheTable() {
+        Instant now = Instant.now();
+        Instant old = now.minus(RollupResolution.HOUR.ringSize() + 10L, ChronoUnit.HOURS);
+        long oldBucket = RollupResolution.HOUR.bucketOf(old);
+        when(rollupRepository.findRange(eq(RollupResolution.HOUR), eq(oldBucket), anyLong())).thenReturn(List.of(
+                new RegistrationRollup(new RegistrationRollupId(RollupResolution.HOUR, oldBucket), 12)));
+
+        RegistrationSeriesDTO series = rollups.series(RollupResolution.HOUR, old, now);
+
+        assertEquals(12, series.points().getFirst().count());
+        assertEquals(12, series.total());
+    }
+
+    @Test
+    void shouldFlushOnlyTheIncrementsSinceTheLastFlush() {
+        Instant now = Instant.now();
+        long minute = RollupResolution.MINUTE.bucketOf(now);
+        when(rollupRepository.addToBucket(any(), anyLong(), anyLong())).thenReturn(1);
+
+        rollups.record(now);
+        rollups.record(now);
+        rollups.flush();
+        rollups.record(now);
+        rollups.flush();
+        rollups.flush();
+
+        verify(rollupRepository).addToBucket(RollupResolution.MINUTE, minute, 2);
+        verify(rollupRepository).addToBucket(RollupResolution.MINUTE, minute, 1);
+        verify(rollupRepository, times(6)).addToBucket(any(), anyLong(), anyLong());
+    }
+
+    @Test
+    void shouldKeepTheDeltasWhenTheFlushFails() {
+        Instant now = Instant.now();
+        long day = RollupResolution.DAY.bucketOf(now);
+        when(rollupRepository.addToBucket(any(), anyLong(), anyLong()))
+                .thenThrow(new RuntimeException("database down"))
+                .thenReturn(1);
+
+        rollups.record(now);
+        rollups.flush();
+        rollups.flush();
+
+        verify(rollupRepository, times(1 + 3)).addToBucket(any(), anyLong(), anyLong());
+        verify(rollupRepository).addToBucket(RollupResolution.DAY, day, 1);
+    }
+
+    @Test
+    void shouldKeepTheUnflushedCountOfAReplacedSlot() {
+        RegistrationRollups.Ring ring = new RegistrationRollups.Ring(4);
+        ring.increment(1);
+        ring.increment(5);
+
+        List<RegistrationRollups.Delta> deltas = new ArrayList<>();
+        ring.collect(RollupResolution.MINUTE, deltas);
+
+        assertEquals(0, ring.count(1));
+        assertEquals(1, ring.count(5));
+        assertEquals(2, deltas.size());
+    }
+
+    @Test
+    void shouldRejectRangesWithTooManyBuckets() {
+        Instant now = Instant.now();
+
+        assertThrows(InvalidDataException.class,
+                () -> rollups.series(RollupResolution.MINUTE, now.minus(30, ChronoUnit.DAYS), now));
+        assertThrows(InvalidDataException.class,
+                () -> rollups.series(RollupResolution.MINUTE, now, now.minus(1, ChronoUnit.HOURS)));
+    }
+}
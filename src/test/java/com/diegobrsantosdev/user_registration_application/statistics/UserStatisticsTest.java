@@ -0,0 +1,97 @@
+package com.diegobrsantosdev.user_registration_application.statistics;
+
+import com.diegobrsantosdev.user_registration_application.dtos.UserResponseDTO;
+import com.diegobrsantosdev.user_registration_application.models.Gender;
+import com.diegobrsantosdev.user_registration_application.models.Role;
+import com.diegobrsantosdev.user_registration_application.outbox.UserChangeType;
+import com.diegobrsantosdev.user_registration_application.outbox.UserChangedEvent;
+import com.diegobrsantosdev.user_registration_application.outbox.UserOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class UserStatisticsTest {
+
+    private final UserStatisticsQueries queries = mock(UserStatisticsQueries.class);
+    private final UserOutboxRepository outboxRepository = mock(UserOutboxRepository.class);
+    private final UserStatisticsCheckpointRepository checkpointRepository = mock(UserStatisticsCheckpointRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final UserStatistics statistics =
+            new UserStatistics(queries, outboxRepository, checkpointRepository, transactionManager);
+
+    @BeforeEach
+    void setup() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    }
+
+    @Test
+    void shouldMoveOnlyTheBucketsThatChanged() {
+        UserResponseDTO created = user("PE", false, Set.of(Role.USER));
+        UserResponseDTO moved = user("SP", true, Set.of(Role.USER));
+        UserResponseDTO promoted = user("SP", true, Set.of(Role.USER, Role.ADMIN));
+
+        statistics.onUserChanged(event(1, UserChangeType.CREATED, null, created));
+        statistics.onUserChanged(event(2, UserChangeType.UPDATED, created, moved));
+        statistics.onUserChanged(event(3, UserChangeType.PROMOTED, moved, promoted));
+
+        UserStatisticsDTO result = statistics.statistics();
+        assertEquals(1, result.total());
+        assertEquals(1, result.admins());
+        assertEquals(1.0, result.twoFactorAdoption());
+        assertEquals(Map.of("SP", 1L), result.byState());
+
+        statistics.onUserChanged(event(4, UserChangeType.DELETED, promoted, null));
+
+        assertEquals(0, statistics.statistics().total());
+        assertEquals(Map.of(), statistics.statistics().byState());
+    }
+
+    @Test
+    void shouldReplaceTheCountersWithTheDatabaseOnReconcile() {
+        statistics.onUserChanged(event(1, UserChangeType.CREATED, null, user("PE", false, Set.of(Role.USER))));
+        when(outboxRepository.findLastSequence()).thenReturn(1L);
+        when(queries.countByDimensions()).thenReturn(List.<Object[]>of(
+                new Object[]{"PE", Gender.MALE, 1990, false, 3L},
+                new Object[]{"SP", Gender.FEMALE, 2010, true, 1L}));
+        when(queries.countWithRole(Role.ADMIN)).thenReturn(1L);
+
+        statistics.reconcile();
+
+        UserStatisticsDTO result = statistics.statistics();
+        assertEquals(4, result.total());
+        assertEquals(Map.of("PE", 3L, "SP", 1L), result.byState());
+        assertEquals(Map.of("FEMALE", 1L, "MALE", 3L), result.byGender());
+        assertNotNull(result.reconciledAt());
+    }
+
+    @Test
+    void shouldGroupBirthYearsIntoAgeBuckets() {
+        Map<String, Long> ages = UserStatistics.ageBuckets(Map.of("2010", 2L, "2000", 1L, "1950", 4L), 2025);
+
+        assertEquals(2L, ages.get("0-17"));
+        assertEquals(1L, ages.get("25-34"));
+        assertEquals(4L, ages.get("65+"));
+        assertEquals(0L, ages.get("45-54"));
+    }
+
+    private UserChangedEvent event(long sequence, UserChangeType type, UserResponseDTO before, UserResponseDTO after) {
+        return new UserChangedEvent(sequence, type, 1, before, after, List.of(), Instant.now());
+    }
+
+    private UserResponseDTO user(String state, boolean twoFactor, Set<Role> roles) {
+        return new UserResponseDTO(1, "João Silva", "joao@email.com", "98765432100", "12345678", "11999998888",
+                "Rua Alpha", "100", null, "Centro", "São Paulo", state, "01001000", Gender.MALE,
+                LocalDate.of(1990, 5, 15), null, true, null, null, roles, twoFactor);
+    }
+}
@@ -0,0 +1,69 @@
+package com.diegobrsantosdev.user_registration_application.validators;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BrazilianDocumentsTest {
+
+    @Test
+    void testCpfFormattedInput() {
+        assertTrue(BrazilianDocuments.isValidCpf("529.982.247-25", true));
+        assertFalse(BrazilianDocuments.isValidCpf("529.982.247-25", false));
+        assertFalse(BrazilianDocuments.isValidCpf("111.111.111-11", true));
+        assertFalse(BrazilianDocuments.isValidCpf("529.982.247-2x", true));
+    }
+
+    @Test
+    void testCpfFromBase() {
+        assertEquals("52998224725", BrazilianDocuments.cpfFromBase(529982247));
+        assertEquals("00000000191", BrazilianDocuments.cpfFromBase(1));
+        for (int base = 1; base < 1_000_000_000; base += 7_654_321) {
+            assertTrue(BrazilianDocuments.isValidCpf(BrazilianDocuments.cpfFromBase(base), false));
+        }
+        assertThrows(IllegalArgumentException.class, () -> BrazilianDocuments.cpfFromBase(1_000_000_000));
+    }
+
+    @Test
+    void testCnpj() {
+        assertTrue(BrazilianDocuments.isValidCnpj("11222333000181", false));
+        assertTrue(BrazilianDocuments.isValidCnpj("11.222.333/0001-81", true));
+        assertFalse(BrazilianDocuments.isValidCnpj("11222333000182", false));
+        assertFalse(BrazilianDocuments.isValidCnpj("00000000000000", false));
+        assertFalse(BrazilianDocuments.isValidCnpj("1122233300018", false));
+    }
+
+    @Test
+    void testCep() {
+        assertTrue(BrazilianDocuments.isValidCep("01001000", false));
+        assertTrue(BrazilianDocuments.isValidCep("01001-000", true));
+        assertFalse(BrazilianDocuments.isValidCep("01001-000", false));
+        assertFalse(BrazilianDocuments.isValidCep("00000000", false));
+        assertFalse(BrazilianDocuments.isValidCep("0100100", false));
+    }
+
+    @Test
+    void testPhone() {
+        assertTrue(BrazilianDocuments.isValidPhone("81987501006", false));
+        assertTrue(BrazilianDocuments.isValidPhone("1133334444", false));
+        assertTrue(BrazilianDocuments.isValidPhone("(81) 98750-1006", true));
+        assertFalse(BrazilianDocuments.isValidPhone("(81) 98750-1006", false));
+        assertFalse(BrazilianDocuments.isValidPhone("0133334444", false));
+        assertFalse(BrazilianDocuments.isValidPhone("11833334444", false));
+    }
+
+    @Test
+    void testUf() {
+        assertTrue(BrazilianDocuments.isValidUf("SP"));
+        assertTrue(BrazilianDocuments.isValidUf("TO"));
+        assertFalse(BrazilianDocuments.isValidUf("XX"));
+        assertFalse(BrazilianDocuments.isValidUf("sp"));
+        assertFalse(BrazilianDocuments.isValidUf(null));
+    }
+
+    @Test
+    void testDigitsOnly() {
+        assertEquals("52998224725", BrazilianDocuments.digitsOnly("529.982.247-25"));
+        String digits = "52998224725";
+        assertSame(digits, BrazilianDocuments.digitsOnly(digits));
+    }
+}
@@ -0,0 +1,85 @@
+package com.diegobrsantosdev.user_registration_application.viaCep;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CepBatchServiceTest {
+
+    private static final CepResponseDTO SE = new CepResponseDTO(
+            "01001-000", "Praça da Sé", "lado ímpar", "Sé", "São Paulo", "SP");
+
+    private CepService cepService;
+    private CacheManager cacheManager;
+    private CepBatchService cepBatchService;
+
+    @BeforeEach
+    void setup() {
+        cepService = mock(CepService.class);
+        cacheManager = new ConcurrentMapCacheManager("ceps");
+        cepBatchService = new CepBatchService(cepService, mock(CepCacheStore.class), cacheManager, 3, 2000);
+    }
+
+    @Test
+    void shouldAnswerCacheHitsWithoutCallingUpstream() {
+        cacheManager.getCache("ceps").put("01001000", SE);
+
+        CepBatchResponseDTO response = cepBatchService.lookupBatch(List.of("01001000"));
+
+        assertEquals(1, response.found());
+        assertTrue(response.items().get(0).cached());
+        verifyNoInteractions(cepService);
+    }
+
+    @Test
+    void shouldReturnPerItemErrorsInsteadOfFailingTheBatch() {
+        when(cepService.lookupCep("01001000")).thenReturn(SE);
+        when(cepService.lookupCep("99999999")).thenThrow(new CepNotFoundException("99999999"));
+        when(cepService.lookupCep("123")).thenThrow(new IllegalArgumentException("Invalid CEP format. Use only 8 numeric digits."));
+
+        CepBatchResponseDTO response = cepBatchService.lookupBatch(List.of("01001000", "99999999", "123"));
+
+        assertEquals(3, response.requested());
+        assertEquals(1, response.found());
+        assertEquals(CepLookupStatus.FOUND, response.items().get(0).status());
+        assertEquals(CepLookupStatus.NOT_FOUND, response.items().get(1).status());
+        assertEquals(CepLookupStatus.INVALID, response.items().get(2).status());
+    }
+
+    @Test
+    void shouldResolveDuplicatesOnce() {
+        when(cepService.lookupCep("01001000")).thenReturn(SE);
+
+        CepBatchResponseDTO response = cepBatchService.lookupBatch(List.of("01001000", "01001000"));
+
+        assertEquals(1, response.items().size());
+        verify(cepService, times(1)).lookupCep("01001000");
+    }
+
+    @Test
+    void shouldMarkSlowLookupsAsTimedOut() {
+        cepBatchService = new CepBatchService(cepService, mock(CepCacheStore.class), cacheManager, 3, 50);
+        when(cepService.lookupCep("01001000")).thenAnswer(invocation -> {
+            Thread.sleep(1000);
+            return SE;
+        });
+
+        CepBatchResponseDTO response = cepBatchService.lookupBatch(List.of("01001000"));
+
+        assertEquals(CepLookupStatus.TIMEOUT, response.items().get(0).status());
+    }
+
+    @Test
+    void shouldRejectBatchesAboveTheLimit() {
+        assertThrows(IllegalArgumentException.class,
+                () -> cepBatchService.lookupBatch(List.of("1", "2", "3", "4")));
+        assertThrows(IllegalArgumentException.class,
+                () -> cepBatchService.lookupBatch(List.of()));
+    }
+}
@@ -0,0 +1,74 @@
+package com.diegobrsantosdev.user_registration_application.viaCep;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.*;
+
+class CepCacheStoreTest {
+
+    private static final CepResponseDTO SE = new CepResponseDTO(
+            "01001-000", "Praça da Sé", "lado ímpar", "Sé", "São Paulo", "SP");
+
+    private CepCacheRepository repository;
+    private CacheManager cacheManager;
+    private CepCacheStore store;
+
+    @BeforeEach
+    void setup() {
+        repository = mock(CepCacheRepository.class);
+        cacheManager = new ConcurrentMapCacheManager("ceps");
+        store = new CepCacheStore(repository, cacheManager, mock(PlatformTransactionManager.class), 10);
+    }
+
+    @Test
+    void shouldServePendingEntriesBeforeTheyAreFlushed() {
+        store.record("01001000", SE);
+
+        assertEquals(Optional.of(SE), store.find("01001000"));
+        verify(repository, never()).findById(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldWriteEntriesAndHitCountsInOneBatch() {
+        when(repository.findAllById(anyIterable())).thenReturn(List.of());
+
+        store.record("01001000", SE);
+        store.touch("01001000");
+        store.flush();
+
+        ArgumentCaptor<List<CepCacheEntry>> captor = ArgumentCaptor.forClass(List.class);
+        verify(repository).saveAll(captor.capture());
+        CepCacheEntry saved = captor.getValue().get(0);
+        assertEquals("01001000", saved.getCep());
+        assertEquals("São Paulo", saved.getCity());
+        assertEquals(2, saved.getHitCount());
+
+        store.flush();
+        verify(repository, times(1)).saveAll(any());
+    }
+
+    @Test
+    void shouldWarmUpMemoryCacheWithMostUsedEntries() {
+        CepCacheEntry entry = new CepCacheEntry("01001000", "01001-000", "Praça da Sé", "lado ímpar",
+                "Sé", "São Paulo", "SP", 42, Instant.now());
+        when(repository.findAllByOrderByHitCountDesc(any(Pageable.class))).thenReturn(List.of(entry));
+
+        store.warmUp();
+
+        assertEquals(SE, cacheManager.getCache("ceps").get("01001000", CepResponseDTO.class));
+    }
+}
@@ -24,6 +24,9 @@ public class CepControllerTest {
     @MockitoBean
     private CepService cepService;
 
+    @MockitoBean
+    private CepBatchService cepBatchService;
+
     @Autowired
     private CacheManager cacheManager;
 
@@ -19,7 +19,7 @@ import static org.springframework.test.web.client.response.MockRestResponseCreat
 import static org.springframework.http.HttpMethod.GET;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.*;
 
 @EnableCaching
 @SpringBootTest
@@ -35,8 +35,13 @@ class CepServiceIntegrationTest {
         }
 
         @Bean
-        public CepService cepService(RestTemplate restTemplate) {
-            return new CepService(restTemplate, "http://fake-url/");
+        public CepCacheStore cepCacheStore() {
+            return mock(CepCacheStore.class);
+        }
+
+        @Bean
+        public CepService cepService(RestTemplate restTemplate, CepCacheStore cepCacheStore, CacheManager cacheManager) {
+            return new CepService(restTemplate, "http://fake-url/", cepCacheStore, cacheManager);
         }
 
         @Bean
@@ -54,6 +59,9 @@ class CepServiceIntegrationTest {
     @Autowired
     private CacheManager cacheManager;
 
+    @Autowired
+    private CepCacheStore cepCacheStore;
+
     private MockRestServiceServer mockServer;
 
     @BeforeEach
@@ -63,6 +71,7 @@ class CepServiceIntegrationTest {
         if (cacheManager.getCache("ceps") != null) {
             cacheManager.getCache("ceps").clear();
         }
+        clearInvocations(cepCacheStore);
     }
 
     @Test
@@ -137,5 +146,7 @@ class CepServiceIntegrationTest {
         mockServer.verify();
 
         assertSame(r1, r2, "Deve retornar o mesmo objeto do cache");
+        // só o acerto em memória conta para o ranking do warm-up
+        verify(cepCacheStore).touch(cep);
     }
 }
\ No newline at end of file
@@ -2,9 +2,11 @@ package com.diegobrsantosdev.user_registration_application.viaCep;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.web.client.RestTemplate;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
 
 class CepServiceTest {
 
@@ -12,7 +14,8 @@ class CepServiceTest {
 
     @BeforeEach
     void setup() {
-        cepService = new CepService(new RestTemplate(), "http://fake-url/") {
+        cepService = new CepService(new RestTemplate(), "http://fake-url/", mock(CepCacheStore.class),
+                new ConcurrentMapCacheManager("ceps")) {
             @Override
             public CepResponseDTO lookupCep(String cep) {
 